@@ -0,0 +1,44 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.benchmarks;
+
+import org.jboss.arquillian.core.impl.ManagerImpl;
+import org.jboss.arquillian.core.impl.loadable.LoadableExtensionLoader;
+import org.jboss.arquillian.core.spi.ManagerBuilder;
+import org.jboss.arquillian.test.impl.EventTestRunnerAdaptor;
+import org.jboss.arquillian.test.spi.TestRunnerAdaptor;
+
+/**
+ * Creates the {@link ManagerImpl} the way the test framework adaptors do, loading the standard extensions and the
+ * {@link BenchmarkExtension} from the class path.
+ */
+final class Arquillian {
+    private Arquillian() {
+    }
+
+    static ManagerImpl createManager() {
+        ManagerImpl manager = (ManagerImpl) ManagerBuilder.from()
+            .extension(LoadableExtensionLoader.class)
+            .create();
+        manager.start();
+        return manager;
+    }
+
+    static TestRunnerAdaptor createAdaptor(ManagerImpl manager) {
+        return new EventTestRunnerAdaptor(manager);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.benchmarks;
+
+import java.lang.reflect.Method;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.test.spi.TestMethodExecutor;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+
+/**
+ * The test class run through the lifecycle by the benchmarks, as a test framework adaptor would.
+ */
+public class BenchmarkTestClass {
+    @Deployment
+    public static JavaArchive deployment() {
+        return ShrinkWrap.create(JavaArchive.class, "benchmark.jar")
+            .addClass(BenchmarkTestClass.class);
+    }
+
+    public void test() {
+    }
+
+    public static Method testMethod() {
+        try {
+            return BenchmarkTestClass.class.getMethod("test");
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Could not find the test method", e);
+        }
+    }
+
+    /**
+     * Invokes the test method on the given instance.
+     */
+    public static class Executor implements TestMethodExecutor {
+        private final Object instance;
+        private final Method method;
+
+        public Executor(Object instance, Method method) {
+            this.instance = instance;
+            this.method = method;
+        }
+
+        @Override
+        public String getMethodName() {
+            return method.getName();
+        }
+
+        @Override
+        public Method getMethod() {
+            return method;
+        }
+
+        @Override
+        public Object getInstance() {
+            return instance;
+        }
+
+        @Override
+        public void invoke(Object... parameters) throws Throwable {
+            method.invoke(instance, parameters);
+        }
+    }
+}
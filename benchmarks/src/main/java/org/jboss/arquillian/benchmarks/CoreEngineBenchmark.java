@@ -0,0 +1,81 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.jboss.arquillian.core.api.Injector;
+import org.jboss.arquillian.core.impl.ManagerImpl;
+import org.jboss.arquillian.test.spi.context.ClassContext;
+import org.jboss.arquillian.test.spi.context.TestContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the core operations every lifecycle event is made of, measured while a test is running so the class and
+ * test contexts are active. Run with <code>-prof gc</code> to see the allocation per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoreEngineBenchmark {
+    private ManagerImpl manager;
+
+    @Setup
+    public void setup() {
+        manager = Arquillian.createManager();
+        manager.getContext(ClassContext.class).activate(BenchmarkTestClass.class);
+        manager.getContext(TestContext.class).activate(new BenchmarkTestClass());
+    }
+
+    @TearDown
+    public void tearDown() {
+        manager.getContext(TestContext.class).deactivate();
+        manager.getContext(ClassContext.class).deactivate();
+        manager.shutdown();
+    }
+
+    @Benchmark
+    public BenchmarkEvent fire() {
+        BenchmarkEvent event = new BenchmarkEvent();
+        manager.fire(event);
+        return event;
+    }
+
+    @Benchmark
+    public Injector resolve() {
+        return manager.resolve(Injector.class);
+    }
+
+    @Benchmark
+    public BenchmarkTarget inject() {
+        BenchmarkTarget target = new BenchmarkTarget();
+        manager.inject(target);
+        return target;
+    }
+}
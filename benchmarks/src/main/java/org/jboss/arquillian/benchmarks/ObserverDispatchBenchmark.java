@@ -0,0 +1,85 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import org.jboss.arquillian.core.api.Injector;
+import org.jboss.arquillian.core.impl.ManagerImpl;
+import org.jboss.arquillian.core.impl.ObserverImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Invocation of a single observer method through {@link ObserverImpl} compared to resolving its arguments and
+ * calling it through reflection on every event.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObserverDispatchBenchmark {
+    private ManagerImpl manager;
+    private BenchmarkObserver target;
+    private Method method;
+    private ObserverImpl observer;
+
+    @Setup
+    public void setup() throws Exception {
+        manager = Arquillian.createManager();
+        target = new BenchmarkObserver();
+        method = BenchmarkObserver.class.getMethod("observe", BenchmarkEvent.class, Injector.class);
+        method.setAccessible(true);
+        observer = ObserverImpl.of(target, method);
+    }
+
+    @TearDown
+    public void tearDown() {
+        manager.shutdown();
+    }
+
+    @Benchmark
+    public BenchmarkEvent observer() {
+        BenchmarkEvent event = new BenchmarkEvent();
+        observer.invoke(manager, event);
+        return event;
+    }
+
+    @Benchmark
+    public BenchmarkEvent reflection() throws Exception {
+        BenchmarkEvent event = new BenchmarkEvent();
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        Object[] arguments = new Object[parameterTypes.length];
+        arguments[0] = event;
+        for (int i = 1; i < parameterTypes.length; i++) {
+            arguments[i] = manager.resolve(parameterTypes[i]);
+        }
+        method.invoke(target, arguments);
+        return event;
+    }
+}
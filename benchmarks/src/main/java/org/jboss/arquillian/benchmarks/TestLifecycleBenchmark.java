@@ -0,0 +1,125 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import org.jboss.arquillian.test.spi.LifecycleMethodExecutor;
+import org.jboss.arquillian.test.spi.TestResult;
+import org.jboss.arquillian.test.spi.TestRunnerAdaptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the lifecycle a test framework adaptor drives through the {@link TestRunnerAdaptor}, against the
+ * {@link BenchmarkContainer} on the local protocol.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TestLifecycleBenchmark {
+
+    /**
+     * A started suite.
+     */
+    @State(Scope.Thread)
+    public static class Suite {
+        TestRunnerAdaptor adaptor;
+
+        @Setup
+        public void setup() throws Exception {
+            adaptor = Arquillian.createAdaptor(Arquillian.createManager());
+            adaptor.beforeSuite();
+        }
+
+        @TearDown
+        public void tearDown() throws Exception {
+            try {
+                adaptor.afterSuite();
+            } finally {
+                adaptor.shutdown();
+            }
+        }
+    }
+
+    /**
+     * A started suite with the {@link BenchmarkTestClass} deployed.
+     */
+    @State(Scope.Thread)
+    public static class TestClass {
+        TestRunnerAdaptor adaptor;
+
+        @Setup
+        public void setup(Suite suite) throws Exception {
+            adaptor = suite.adaptor;
+            adaptor.beforeClass(BenchmarkTestClass.class, LifecycleMethodExecutor.NO_OP);
+        }
+
+        @TearDown
+        public void tearDown() throws Exception {
+            adaptor.afterClass(BenchmarkTestClass.class, LifecycleMethodExecutor.NO_OP);
+        }
+    }
+
+    /**
+     * A single test method: before, test and after.
+     */
+    @Benchmark
+    public TestResult test(TestClass testClass) throws Exception {
+        return runTest(testClass.adaptor);
+    }
+
+    /**
+     * A test class with a single test method, including its deployment and undeployment.
+     */
+    @Benchmark
+    public TestResult testClass(Suite suite) throws Exception {
+        TestRunnerAdaptor adaptor = suite.adaptor;
+        adaptor.beforeClass(BenchmarkTestClass.class, LifecycleMethodExecutor.NO_OP);
+        try {
+            return runTest(adaptor);
+        } finally {
+            adaptor.afterClass(BenchmarkTestClass.class, LifecycleMethodExecutor.NO_OP);
+        }
+    }
+
+    //-------------------------------------------------------------------------------------||
+    // Internal Helper Methods ------------------------------------------------------------||
+    //-------------------------------------------------------------------------------------||
+
+    private static TestResult runTest(TestRunnerAdaptor adaptor) throws Exception {
+        Object instance = new BenchmarkTestClass();
+        Method method = BenchmarkTestClass.testMethod();
+        adaptor.before(instance, method, LifecycleMethodExecutor.NO_OP);
+        try {
+            return adaptor.test(new BenchmarkTestClass.Executor(instance, method));
+        } finally {
+            adaptor.after(instance, method, LifecycleMethodExecutor.NO_OP);
+        }
+    }
+}
@@ -35,4 +35,20 @@ public interface EngineDef extends ArquillianDescriptor {
     EngineDef maxTestClassesBeforeRestart(Integer max);
 
     Integer getMaxTestClassesBeforeRestart();
+
+    EngineDef parallelContainerLifecycle(Boolean parallel);
+
+    Boolean getParallelContainerLifecycle();
+
+    EngineDef parallelDeployment(Boolean parallel);
+
+    Boolean getParallelDeployment();
+
+    EngineDef deploymentReuse(Boolean reuse);
+
+    Boolean getDeploymentReuse();
+
+    EngineDef maxReusedDeployments(Integer max);
+
+    Integer getMaxReusedDeployments();
 }
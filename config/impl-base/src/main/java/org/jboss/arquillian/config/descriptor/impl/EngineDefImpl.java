@@ -29,6 +29,10 @@ public class EngineDefImpl extends ArquillianDescriptorImpl implements EngineDef
     private static final String exportPath = "property@name=deploymentExportPath";
     private static final String exportExploded = "property@name=deploymentExportExploded";
     private static final String maxTestClasses = "property@name=maxTestClassesBeforeRestart";
+    private static final String parallelContainerLifecycle = "property@name=parallelContainerLifecycle";
+    private static final String parallelDeployment = "property@name=parallelDeployment";
+    private static final String deploymentReuse = "property@name=deploymentReuse";
+    private static final String maxReusedDeployments = "property@name=maxReusedDeployments";
 
     private Node engine;
 
@@ -88,6 +92,74 @@ public class EngineDefImpl extends ArquillianDescriptorImpl implements EngineDef
         return getTextIfExistsAsInteger(maxTestClasses);
     }
 
+    /* (non-Javadoc)
+     * @see org.jboss.arquillian.impl.configuration.api.EngineDef#parallelContainerLifecycle(java.lang.Boolean)
+     */
+    @Override
+    public EngineDef parallelContainerLifecycle(Boolean parallel) {
+        engine.getOrCreate(parallelContainerLifecycle).text(parallel);
+        return this;
+    }
+
+    /* (non-Javadoc)
+     * @see org.jboss.arquillian.impl.configuration.api.EngineDef#getParallelContainerLifecycle()
+     */
+    @Override
+    public Boolean getParallelContainerLifecycle() {
+        return getTextIfExistsAsBoolean(parallelContainerLifecycle, false);
+    }
+
+    /* (non-Javadoc)
+     * @see org.jboss.arquillian.impl.configuration.api.EngineDef#parallelDeployment(java.lang.Boolean)
+     */
+    @Override
+    public EngineDef parallelDeployment(Boolean parallel) {
+        engine.getOrCreate(parallelDeployment).text(parallel);
+        return this;
+    }
+
+    /* (non-Javadoc)
+     * @see org.jboss.arquillian.impl.configuration.api.EngineDef#getParallelDeployment()
+     */
+    @Override
+    public Boolean getParallelDeployment() {
+        return getTextIfExistsAsBoolean(parallelDeployment, false);
+    }
+
+    /* (non-Javadoc)
+     * @see org.jboss.arquillian.impl.configuration.api.EngineDef#deploymentReuse(java.lang.Boolean)
+     */
+    @Override
+    public EngineDef deploymentReuse(Boolean reuse) {
+        engine.getOrCreate(deploymentReuse).text(reuse);
+        return this;
+    }
+
+    /* (non-Javadoc)
+     * @see org.jboss.arquillian.impl.configuration.api.EngineDef#getDeploymentReuse()
+     */
+    @Override
+    public Boolean getDeploymentReuse() {
+        return getTextIfExistsAsBoolean(deploymentReuse, false);
+    }
+
+    /* (non-Javadoc)
+     * @see org.jboss.arquillian.impl.configuration.api.EngineDef#maxReusedDeployments(java.lang.Integer)
+     */
+    @Override
+    public EngineDef maxReusedDeployments(Integer max) {
+        engine.getOrCreate(maxReusedDeployments).text(max);
+        return this;
+    }
+
+    /* (non-Javadoc)
+     * @see org.jboss.arquillian.impl.configuration.api.EngineDef#getMaxReusedDeployments()
+     */
+    @Override
+    public Integer getMaxReusedDeployments() {
+        return getTextIfExistsAsInteger(maxReusedDeployments);
+    }
+
     private Integer getTextIfExistsAsInteger(String pattern) {
         String text = getTextIfExists(pattern);
         if (text != null) {
@@ -321,6 +321,14 @@ class PropertiesParser {
                 descriptor.engine().deploymentExportPath(value);
             } else if ("maxTestClassesBeforeRestart".equals(propertyName)) {
                 descriptor.engine().maxTestClassesBeforeRestart(Integer.parseInt(value));
+            } else if ("parallelContainerLifecycle".equals(propertyName)) {
+                descriptor.engine().parallelContainerLifecycle(Boolean.parseBoolean(value));
+            } else if ("parallelDeployment".equals(propertyName)) {
+                descriptor.engine().parallelDeployment(Boolean.parseBoolean(value));
+            } else if ("deploymentReuse".equals(propertyName)) {
+                descriptor.engine().deploymentReuse(Boolean.parseBoolean(value));
+            } else if ("maxReusedDeployments".equals(propertyName)) {
+                descriptor.engine().maxReusedDeployments(Integer.parseInt(value));
             } else {
                 throw new RuntimeException(
                         "Unknown arquillian engine property[" + propertyName + "] with value[" + value + "]");
@@ -85,16 +85,32 @@ public class ArquillianDescriptorTestCase {
                 .deploymentExportPath(PROPERTY_VALUE_1)
                 .maxTestClassesBeforeRestart(PROPERTY_INT_VALUE_1)
                 .maxTestClassesBeforeRestart(PROPERTY_INT_VALUE_1)
+                .parallelContainerLifecycle(true)
+                .parallelContainerLifecycle(true)
+                .parallelDeployment(true)
+                .parallelDeployment(true)
+                .deploymentReuse(true)
+                .deploymentReuse(true)
+                .maxReusedDeployments(PROPERTY_INT_VALUE_1)
+                .maxReusedDeployments(PROPERTY_INT_VALUE_1)
                 .exportAsString();
 
         assertXPath(desc, "/arquillian/engine/property[@name='deploymentExportPath']/text()", PROPERTY_VALUE_1);
         assertXPath(desc, "/arquillian/engine/property[@name='maxTestClassesBeforeRestart']/text()",
                 PROPERTY_INT_VALUE_1);
+        assertXPath(desc, "/arquillian/engine/property[@name='parallelContainerLifecycle']/text()", true);
+        assertXPath(desc, "/arquillian/engine/property[@name='parallelDeployment']/text()", true);
+        assertXPath(desc, "/arquillian/engine/property[@name='deploymentReuse']/text()", true);
+        assertXPath(desc, "/arquillian/engine/property[@name='maxReusedDeployments']/text()", PROPERTY_INT_VALUE_1);
 
         ArquillianDescriptor descriptor = create(desc);
 
         Assert.assertEquals(PROPERTY_VALUE_1, descriptor.engine().getDeploymentExportPath());
         Assert.assertEquals(PROPERTY_INT_VALUE_1, descriptor.engine().getMaxTestClassesBeforeRestart());
+        Assert.assertTrue(descriptor.engine().getParallelContainerLifecycle());
+        Assert.assertTrue(descriptor.engine().getParallelDeployment());
+        Assert.assertTrue(descriptor.engine().getDeploymentReuse());
+        Assert.assertEquals(PROPERTY_INT_VALUE_1, descriptor.engine().getMaxReusedDeployments());
     }
 
     @Test
@@ -108,6 +124,10 @@ public class ArquillianDescriptorTestCase {
 
         Assert.assertNull(descriptor.engine().getDeploymentExportPath());
         Assert.assertNull(descriptor.engine().getMaxTestClassesBeforeRestart());
+        Assert.assertFalse(descriptor.engine().getParallelContainerLifecycle());
+        Assert.assertFalse(descriptor.engine().getParallelDeployment());
+        Assert.assertFalse(descriptor.engine().getDeploymentReuse());
+        Assert.assertNull(descriptor.engine().getMaxReusedDeployments());
     }
 
     @Test
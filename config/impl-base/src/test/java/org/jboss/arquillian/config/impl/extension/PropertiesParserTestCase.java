@@ -32,8 +32,16 @@ import org.junit.Test;
 public class PropertiesParserTestCase {
     private static final String ENGINE_PROP_DEPLOYMENTS = "arq.engine.deploymentExportPath";
     private static final String ENGINE_PROP_MAXCLASS = "arq.engine.maxTestClassesBeforeRestart";
+    private static final String ENGINE_PROP_PARALLEL_LIFECYCLE = "arq.engine.parallelContainerLifecycle";
+    private static final String ENGINE_PROP_PARALLEL_DEPLOYMENT = "arq.engine.parallelDeployment";
+    private static final String ENGINE_PROP_DEPLOYMENT_REUSE = "arq.engine.deploymentReuse";
+    private static final String ENGINE_PROP_MAX_REUSED = "arq.engine.maxReusedDeployments";
     private static final String ENGINE_VAL_DEPLOYMENTS = "target";
     private static final String ENGINE_VAL_MAXCLASSES = "2";
+    private static final String ENGINE_VAL_PARALLEL_LIFECYCLE = "true";
+    private static final String ENGINE_VAL_PARALLEL_DEPLOYMENT = "true";
+    private static final String ENGINE_VAL_DEPLOYMENT_REUSE = "true";
+    private static final String ENGINE_VAL_MAX_REUSED = "3";
 
     private static final String CONFIGURATION_PROP_1 = "jbossHome";
 
@@ -104,6 +112,30 @@ public class PropertiesParserTestCase {
                 return String.valueOf(desc.engine().getMaxTestClassesBeforeRestart());
             }
         });
+        validate(ENGINE_PROP_PARALLEL_LIFECYCLE, ENGINE_VAL_PARALLEL_LIFECYCLE, new ValueCallback() {
+            @Override
+            public String get() {
+                return String.valueOf(desc.engine().getParallelContainerLifecycle());
+            }
+        });
+        validate(ENGINE_PROP_PARALLEL_DEPLOYMENT, ENGINE_VAL_PARALLEL_DEPLOYMENT, new ValueCallback() {
+            @Override
+            public String get() {
+                return String.valueOf(desc.engine().getParallelDeployment());
+            }
+        });
+        validate(ENGINE_PROP_DEPLOYMENT_REUSE, ENGINE_VAL_DEPLOYMENT_REUSE, new ValueCallback() {
+            @Override
+            public String get() {
+                return String.valueOf(desc.engine().getDeploymentReuse());
+            }
+        });
+        validate(ENGINE_PROP_MAX_REUSED, ENGINE_VAL_MAX_REUSED, new ValueCallback() {
+            @Override
+            public String get() {
+                return String.valueOf(desc.engine().getMaxReusedDeployments());
+            }
+        });
     }
 
     @Test
@@ -17,8 +17,12 @@
  */
 package org.jboss.arquillian.container.impl.client.container;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
 import org.jboss.arquillian.container.spi.Container;
 import org.jboss.arquillian.container.spi.Container.State;
 import org.jboss.arquillian.container.spi.ContainerRegistry;
@@ -44,6 +48,7 @@ import org.jboss.arquillian.core.api.Instance;
 import org.jboss.arquillian.core.api.InstanceProducer;
 import org.jboss.arquillian.core.api.annotation.Inject;
 import org.jboss.arquillian.core.api.annotation.Observes;
+import org.jboss.arquillian.core.api.threading.ExecutorService;
 
 /**
  * Controller for handling all Deployment related operations. <br/>
@@ -67,6 +72,12 @@ public class ContainerDeployController {
     @Inject
     private Instance<Injector> injector;
 
+    @Inject
+    private Instance<ArquillianDescriptor> configuration;
+
+    @Inject
+    private Instance<ExecutorService> executorService;
+
     /**
      * Deploy all deployments marked as managed = true.
      *
@@ -228,10 +239,64 @@ public class ContainerDeployController {
         if (containerRegistry == null) {
             return;
         }
+        if (!isParallelDeployment()) {
+            for (Deployment deployment : deployments) {
+                Container container = containerRegistry.getContainer(deployment.getDescription().getTarget());
+                operation.perform(container, deployment);
+            }
+            return;
+        }
+        // the deployments are sorted, keep the order between groups with a different order value
+        int start = 0;
+        while (start < deployments.size()) {
+            int order = deployments.get(start).getDescription().getOrder();
+            int end = start + 1;
+            while (end < deployments.size() && deployments.get(end).getDescription().getOrder() == order) {
+                end++;
+            }
+            forEachDeploymentInParallel(containerRegistry, deployments.subList(start, end), operation);
+            start = end;
+        }
+    }
+
+    private void forEachDeploymentInParallel(ContainerRegistry containerRegistry, List<Deployment> deployments,
+        final Operation<Container, Deployment> operation) throws Exception {
+        // a DeployableContainer is not required to be thread safe, deployments to the same container stay serial
+        Map<Container, List<Deployment>> deploymentsPerContainer = new LinkedHashMap<Container, List<Deployment>>();
         for (Deployment deployment : deployments) {
             Container container = containerRegistry.getContainer(deployment.getDescription().getTarget());
-            operation.perform(container, deployment);
+            List<Deployment> containerDeployments = deploymentsPerContainer.get(container);
+            if (containerDeployments == null) {
+                containerDeployments = new ArrayList<Deployment>();
+                deploymentsPerContainer.put(container, containerDeployments);
+            }
+            containerDeployments.add(deployment);
+        }
+        if (deploymentsPerContainer.size() < 2) {
+            for (Deployment deployment : deployments) {
+                operation.perform(containerRegistry.getContainer(deployment.getDescription().getTarget()), deployment);
+            }
+            return;
         }
+        List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(deploymentsPerContainer.size());
+        for (final Map.Entry<Container, List<Deployment>> entry : deploymentsPerContainer.entrySet()) {
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    for (Deployment deployment : entry.getValue()) {
+                        operation.perform(entry.getKey(), deployment);
+                    }
+                    return null;
+                }
+            });
+        }
+        ConcurrentOperations.invokeAll(executorService.get(), tasks);
+    }
+
+    private boolean isParallelDeployment() {
+        ArquillianDescriptor descriptor = configuration.get();
+        return descriptor != null && executorService.get() != null
+            && Boolean.TRUE.equals(descriptor.engine().getParallelDeployment());
     }
 
     private void executeOperation(Callable<Void> operation)
@@ -17,6 +17,10 @@
  */
 package org.jboss.arquillian.container.impl.client.container;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
 import org.jboss.arquillian.container.spi.Container;
 import org.jboss.arquillian.container.spi.ContainerRegistry;
 import org.jboss.arquillian.container.spi.event.KillContainer;
@@ -34,6 +38,7 @@ import org.jboss.arquillian.core.api.Injector;
 import org.jboss.arquillian.core.api.Instance;
 import org.jboss.arquillian.core.api.annotation.Inject;
 import org.jboss.arquillian.core.api.annotation.Observes;
+import org.jboss.arquillian.core.api.threading.ExecutorService;
 
 /**
  * ContainerController
@@ -47,6 +52,12 @@ public class ContainerLifecycleController {
     @Inject
     private Instance<Injector> injector;
 
+    @Inject
+    private Instance<ArquillianDescriptor> configuration;
+
+    @Inject
+    private Instance<ExecutorService> executorService;
+
     public void setupContainers(@Observes SetupContainers event) throws Exception {
         forEachContainer(new Operation<Container>() {
             @Inject
@@ -167,39 +178,59 @@ public class ContainerLifecycleController {
         if (registry == null) {
             return;
         }
-        for (Container container : registry.getContainers()) {
-            operation.perform(container);
-        }
+        perform(registry.getContainers(), operation);
     }
 
     private void forEachSuiteContainer(Operation<Container> operation) throws Exception {
-        injector.get().inject(operation);
-        ContainerRegistry registry = containerRegistry.get();
-        for (Container container : registry.getContainers()) {
-            if ("suite".equals(container.getContainerConfiguration().getMode())) {
-                operation.perform(container);
-            }
-        }
+        forEachContainerInMode("suite", operation);
     }
 
     private void forEachClassContainer(Operation<Container> operation) throws Exception {
+        forEachContainerInMode("class", operation);
+    }
+
+    private void forEachManualContainer(Operation<Container> operation) throws Exception {
+        forEachContainerInMode("manual", operation);
+    }
+
+    private void forEachContainerInMode(String mode, Operation<Container> operation) throws Exception {
         injector.get().inject(operation);
         ContainerRegistry registry = containerRegistry.get();
+        List<Container> containers = new ArrayList<Container>();
         for (Container container : registry.getContainers()) {
-            if ("class".equals(container.getContainerConfiguration().getMode())) {
-                operation.perform(container);
+            if (mode.equals(container.getContainerConfiguration().getMode())) {
+                containers.add(container);
             }
         }
+        perform(containers, operation);
     }
 
-    private void forEachManualContainer(Operation<Container> operation) throws Exception {
-        injector.get().inject(operation);
-        ContainerRegistry registry = containerRegistry.get();
-        for (Container container : registry.getContainers()) {
-            if ("manual".equals(container.getContainerConfiguration().getMode())) {
+    private void perform(List<Container> containers, final Operation<Container> operation) throws Exception {
+        if (containers.size() < 2 || !isParallelLifecycle()) {
+            for (Container container : containers) {
                 operation.perform(container);
             }
+            return;
+        }
+        // each task fires its event on a worker thread, the ContainerContext is activated there by the
+        // ContainerDeploymentContextHandler while the other Contexts are carried over by the ExecutorService
+        List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(containers.size());
+        for (final Container container : containers) {
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    operation.perform(container);
+                    return null;
+                }
+            });
         }
+        ConcurrentOperations.invokeAll(executorService.get(), tasks);
+    }
+
+    private boolean isParallelLifecycle() {
+        ArquillianDescriptor descriptor = configuration.get();
+        return descriptor != null && executorService.get() != null
+            && Boolean.TRUE.equals(descriptor.engine().getParallelContainerLifecycle());
     }
 
     private void forContainer(Container container, Operation<Container> operation) throws Exception {
@@ -0,0 +1,171 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.impl.client.deployment;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ArchivePath;
+import org.jboss.shrinkwrap.api.Node;
+import org.jboss.shrinkwrap.api.asset.ArchiveAsset;
+import org.jboss.shrinkwrap.api.asset.Asset;
+
+/**
+ * The size and CRC-32 of every file an {@link Archive} is exported to, used to tell if a previous export on disk
+ * still has the same content and can be kept as is.
+ * <p>
+ * Nested archives are described by their content, not by the bytes of the nested ZIP, since every ZIP export carries
+ * new time stamps. A nested archive exported in another format never matches and is simply exported again.
+ */
+final class ArchiveContent {
+    private static final String NESTED_SEPARATOR = "!/";
+
+    private final boolean exploded;
+    private final Map<String, String> files = new HashMap<String, String>();
+    private final Set<String> nestedArchives = new HashSet<String>();
+
+    private ArchiveContent(boolean exploded) {
+        this.exploded = exploded;
+    }
+
+    /**
+     * @param exploded describe the archive as exported by the ExplodedExporter instead of the ZipExporter
+     */
+    static ArchiveContent of(Archive<?> archive, boolean exploded) throws IOException {
+        ArchiveContent content = new ArchiveContent(exploded);
+        content.add(archive, "");
+        return content;
+    }
+
+    /**
+     * @return true if the given file or directory holds exactly the content described
+     */
+    boolean matches(File target) throws IOException {
+        Map<String, String> existing = new HashMap<String, String>();
+        if (exploded) {
+            if (!target.isDirectory()) {
+                return false;
+            }
+            readDirectory(target, "", existing);
+        } else {
+            if (!target.isFile()) {
+                return false;
+            }
+            InputStream in = new FileInputStream(target);
+            try {
+                readZip(new ZipInputStream(in), "", existing);
+            } finally {
+                in.close();
+            }
+        }
+        return files.equals(existing);
+    }
+
+    //-------------------------------------------------------------------------------------||
+    // Internal Helper Methods ------------------------------------------------------------||
+    //-------------------------------------------------------------------------------------||
+
+    private void add(Archive<?> archive, String prefix) throws IOException {
+        for (Map.Entry<ArchivePath, Node> entry : archive.getContent().entrySet()) {
+            Asset asset = entry.getValue().getAsset();
+            if (asset == null) {
+                continue;
+            }
+            String path = prefix + entry.getKey().get().substring(1);
+            if (asset instanceof ArchiveAsset) {
+                Archive<?> nested = ((ArchiveAsset) asset).getArchive();
+                if (exploded) {
+                    // the ExplodedExporter explodes nested archives into a directory named after the archive
+                    ArchivePath parent = entry.getKey().getParent();
+                    String directory = parent == null || "/".equals(parent.get()) ? "" : parent.get().substring(1) + "/";
+                    add(nested, prefix + directory + nested.getName() + "/");
+                } else {
+                    nestedArchives.add(path);
+                    add(nested, path + NESTED_SEPARATOR);
+                }
+                continue;
+            }
+            InputStream in = asset.openStream();
+            if (in == null) {
+                continue;
+            }
+            try {
+                files.put(path, checksum(in));
+            } finally {
+                in.close();
+            }
+        }
+    }
+
+    private void readZip(ZipInputStream in, String prefix, Map<String, String> existing) throws IOException {
+        ZipEntry entry;
+        while ((entry = in.getNextEntry()) != null) {
+            if (entry.isDirectory()) {
+                continue;
+            }
+            String path = prefix + entry.getName();
+            if (nestedArchives.contains(path)) {
+                // not closed, that would close the outer stream
+                readZip(new ZipInputStream(in), path + NESTED_SEPARATOR, existing);
+            } else {
+                existing.put(path, checksum(in));
+            }
+        }
+    }
+
+    private static void readDirectory(File directory, String prefix, Map<String, String> existing)
+        throws IOException {
+        File[] children = directory.listFiles();
+        if (children == null) {
+            return;
+        }
+        for (File child : children) {
+            String path = prefix + child.getName();
+            if (child.isDirectory()) {
+                readDirectory(child, path + "/", existing);
+            } else {
+                InputStream in = new FileInputStream(child);
+                try {
+                    existing.put(path, checksum(in));
+                } finally {
+                    in.close();
+                }
+            }
+        }
+    }
+
+    private static String checksum(InputStream in) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        long size = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            crc.update(buffer, 0, read);
+            size += read;
+        }
+        return size + ":" + Long.toHexString(crc.getValue());
+    }
+}
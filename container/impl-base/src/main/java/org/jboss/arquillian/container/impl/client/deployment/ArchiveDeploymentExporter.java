@@ -18,6 +18,17 @@ package org.jboss.arquillian.container.impl.client.deployment;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
 import org.jboss.arquillian.config.descriptor.api.EngineDef;
@@ -26,13 +37,26 @@ import org.jboss.arquillian.container.spi.event.container.BeforeDeploy;
 import org.jboss.arquillian.core.api.Instance;
 import org.jboss.arquillian.core.api.annotation.Inject;
 import org.jboss.arquillian.core.api.annotation.Observes;
+import org.jboss.arquillian.core.api.event.ManagerStopping;
 import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ArchivePath;
+import org.jboss.shrinkwrap.api.GenericArchive;
+import org.jboss.shrinkwrap.api.Node;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ArchiveAsset;
+import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
 import org.jboss.shrinkwrap.api.exporter.ExplodedExporter;
 import org.jboss.shrinkwrap.api.exporter.ZipExporter;
 
 /**
  * Handler that will export the generated {@link Archive} to the file system. <br/>
  * Used for debugging the deployment.
+ * <p>
+ * The content of the archive is read on the deploying thread, the export to disk runs in the background so the
+ * deployment is not held up by disk I/O. A previous export with the same content is kept as is. All pending exports
+ * are finished when the Manager is stopping, after the suite. A failing export to disk is logged, it does not fail
+ * the deployment.
  *
  * @author <a href="mailto:aslak@redhat.com">Aslak Knutsen</a>
  */
@@ -42,6 +66,10 @@ public class ArchiveDeploymentExporter {
     @Inject
     private Instance<ArquillianDescriptor> configuration;
 
+    // a single thread keeps the exports of the same file in order
+    private ExecutorService exporter;
+    private final List<Future<?>> pending = new ArrayList<Future<?>>();
+
     public void callback(@Observes BeforeDeploy event) throws Exception {
         ArquillianDescriptor descriptor = configuration.get();
         if (descriptor == null) {
@@ -74,17 +102,114 @@ public class ArchiveDeploymentExporter {
                 deployment = event.getDeployment().getArchive();
             }
 
+            // the deployment may still change the archive, its nested archives or assets while it is being exported
+            final Archive<?> snapshot = snapshot(deployment);
             final File fileToExport = new File(exportDir, createFileName(event.getDeployment(), deployment));
-            deleteIfExists(fileToExport);
+            final boolean exploded = exportExploded;
+            submit(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        export(snapshot, fileToExport, exploded);
+                    } catch (Exception e) {
+                        log.log(Level.WARNING, "Could not export deployment to " + fileToExport, e);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Wait for all pending exports to finish.
+     */
+    public void flush(@Observes ManagerStopping event) {
+        List<Future<?>> exports;
+        synchronized (this) {
+            exports = new ArrayList<Future<?>>(pending);
+            pending.clear();
+            if (exporter != null) {
+                exporter.shutdown();
+                exporter = null;
+            }
+        }
+        boolean interrupted = false;
+        for (Future<?> export : exports) {
+            try {
+                export.get();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            } catch (ExecutionException e) {
+                // logged by the export itself
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    //-------------------------------------------------------------------------------------||
+    // Internal Helper Methods ------------------------------------------------------------||
+    //-------------------------------------------------------------------------------------||
 
-            if (exportExploded) {
-                deployment.as(ExplodedExporter.class).exportExploded(
-                    exportDir, createFileName(event.getDeployment(), deployment));
+    private synchronized void submit(Runnable export) {
+        if (exporter == null) {
+            exporter = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "arquillian-deployment-export");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        Iterator<Future<?>> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().isDone()) {
+                iterator.remove();
+            }
+        }
+        pending.add(exporter.submit(export));
+    }
+
+    /**
+     * Copy the archive with the content of every asset read into memory, nested archives included.
+     */
+    private static Archive<?> snapshot(Archive<?> archive) throws IOException {
+        GenericArchive snapshot = ShrinkWrap.create(GenericArchive.class, archive.getName());
+        for (Map.Entry<ArchivePath, Node> entry : archive.getContent().entrySet()) {
+            Asset asset = entry.getValue().getAsset();
+            if (asset == null) {
+                snapshot.addAsDirectory(entry.getKey());
+            } else if (asset instanceof ArchiveAsset) {
+                Archive<?> nested = snapshot(((ArchiveAsset) asset).getArchive());
+                snapshot.add(new ArchiveAsset(nested, ZipExporter.class), entry.getKey());
             } else {
-                deployment.as(ZipExporter.class).exportTo(fileToExport,
-                    true);
+                InputStream in = asset.openStream();
+                if (in == null) {
+                    continue;
+                }
+                try {
+                    snapshot.add(new ByteArrayAsset(in), entry.getKey());
+                } finally {
+                    in.close();
+                }
             }
         }
+        return snapshot;
+    }
+
+    private void export(Archive<?> archive, File fileToExport, boolean exploded) throws IOException {
+        if (ArchiveContent.of(archive, exploded).matches(fileToExport)) {
+            log.fine("Deployment export " + fileToExport + " is up to date");
+            return;
+        }
+        deleteIfExists(fileToExport);
+
+        if (exploded) {
+            archive.as(ExplodedExporter.class).exportExploded(fileToExport.getParentFile(), fileToExport.getName());
+        } else {
+            archive.as(ZipExporter.class).exportTo(fileToExport, true);
+        }
     }
 
     private String createFileName(DeploymentDescription deployment, Archive<?> archive) {
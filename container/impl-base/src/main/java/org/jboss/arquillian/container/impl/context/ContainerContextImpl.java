@@ -19,7 +19,7 @@ package org.jboss.arquillian.container.impl.context;
 import java.lang.annotation.Annotation;
 import org.jboss.arquillian.container.spi.context.ContainerContext;
 import org.jboss.arquillian.container.spi.context.annotation.ContainerScoped;
-import org.jboss.arquillian.core.spi.HashObjectStore;
+import org.jboss.arquillian.core.spi.IndexedObjectStore;
 import org.jboss.arquillian.core.spi.context.AbstractContext;
 import org.jboss.arquillian.core.spi.context.ObjectStore;
 
@@ -29,6 +29,8 @@ import org.jboss.arquillian.core.spi.context.ObjectStore;
  * @author <a href="mailto:aslak@redhat.com">Aslak Knutsen</a>
  */
 public class ContainerContextImpl extends AbstractContext<String> implements ContainerContext {
+    private static final IndexedObjectStore.Slots SLOTS = new IndexedObjectStore.Slots();
+
     /* (non-Javadoc)
      * @see org.jboss.arquillian.spi.Context#getScope()
      */
@@ -42,6 +44,6 @@ public class ContainerContextImpl extends AbstractContext<String> implements Con
      */
     @Override
     protected ObjectStore createNewObjectStore() {
-        return new HashObjectStore();
+        return new IndexedObjectStore(SLOTS);
     }
 }
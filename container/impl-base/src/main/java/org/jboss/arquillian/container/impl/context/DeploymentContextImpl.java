@@ -20,7 +20,7 @@ import java.lang.annotation.Annotation;
 import org.jboss.arquillian.container.spi.client.deployment.Deployment;
 import org.jboss.arquillian.container.spi.context.DeploymentContext;
 import org.jboss.arquillian.container.spi.context.annotation.DeploymentScoped;
-import org.jboss.arquillian.core.spi.HashObjectStore;
+import org.jboss.arquillian.core.spi.IndexedObjectStore;
 import org.jboss.arquillian.core.spi.context.AbstractContext;
 import org.jboss.arquillian.core.spi.context.ObjectStore;
 
@@ -30,6 +30,8 @@ import org.jboss.arquillian.core.spi.context.ObjectStore;
  * @author <a href="mailto:aslak@redhat.com">Aslak Knutsen</a>
  */
 public class DeploymentContextImpl extends AbstractContext<Deployment> implements DeploymentContext {
+    private static final IndexedObjectStore.Slots SLOTS = new IndexedObjectStore.Slots();
+
     /* (non-Javadoc)
      * @see org.jboss.arquillian.spi.Context#getScope()
      */
@@ -43,6 +45,6 @@ public class DeploymentContextImpl extends AbstractContext<Deployment> implement
      */
     @Override
     protected ObjectStore createNewObjectStore() {
-        return new HashObjectStore();
+        return new IndexedObjectStore(SLOTS);
     }
 }
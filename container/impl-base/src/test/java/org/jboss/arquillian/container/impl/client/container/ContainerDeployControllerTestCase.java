@@ -17,6 +17,7 @@
  */
 package org.jboss.arquillian.container.impl.client.container;
 
+import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
 import org.jboss.arquillian.config.descriptor.api.ContainerDef;
 import org.jboss.arquillian.container.impl.LocalContainerRegistry;
 import org.jboss.arquillian.container.impl.client.ContainerDeploymentContextHandler;
@@ -51,17 +52,23 @@ import org.jboss.shrinkwrap.api.spec.JavaArchive;
 import org.jboss.shrinkwrap.descriptor.api.Descriptor;
 import org.jboss.shrinkwrap.descriptor.api.Descriptors;
 import org.jboss.shrinkwrap.descriptor.api.beans10.BeansDescriptor;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InOrder;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -267,4 +274,73 @@ public class ContainerDeployControllerTestCase extends AbstractContainerTestBase
 
         fire(new DeployManagedDeployments());
     }
+
+    @SuppressWarnings("removal") // Suppress DeployableContainer#deploy(org.jboss.shrinkwrap.descriptor.api.Descriptor)
+    @Test
+    public void shouldDeployDeploymentsOfSameOrderToDifferentContainersInParallelWhenEnabled() throws Exception {
+        bind(ApplicationScoped.class, ArquillianDescriptor.class,
+            Descriptors.create(ArquillianDescriptor.class).engine().parallelDeployment(true));
+        registry.create(container1, serviceLoader).setState(State.STARTED);
+        registry.create(container2, serviceLoader).setState(State.STARTED);
+        scenario.deployment(new DeploymentTargetDescription(DEPLOYMENT_1_NAME)).getDescription().setOrder(1);
+
+        final CountDownLatch bothDeploying = new CountDownLatch(2);
+        Answer<ProtocolMetaData> awaitOther = new Answer<ProtocolMetaData>() {
+            @Override
+            public ProtocolMetaData answer(InvocationOnMock invocation) throws Throwable {
+                bothDeploying.countDown();
+                Assert.assertTrue("Verify deployments are deployed concurrently",
+                    bothDeploying.await(10, TimeUnit.SECONDS));
+                return protocolMetaData;
+            }
+        };
+        doAnswer(awaitOther).when(deployableContainer1).deploy(isA(Archive.class));
+        doAnswer(awaitOther).when(deployableContainer2).deploy(isA(Archive.class));
+
+        fire(new DeployManagedDeployments());
+
+        assertEventFired(DeployDeployment.class, 3);
+        assertEventFiredInContext(DeployDeployment.class, ContainerContext.class);
+        assertEventFiredInContext(DeployDeployment.class, DeploymentContext.class);
+
+        assertEventFired(AfterDeploy.class, 3);
+        assertEventFiredInContext(AfterDeploy.class, ContainerContext.class);
+        assertEventFiredInContext(AfterDeploy.class, DeploymentContext.class);
+
+        // the next order group is only deployed once the previous group is done
+        InOrder ordered = inOrder(deployableContainer1);
+        ordered.verify(deployableContainer1, times(1)).deploy(
+            scenario.deployment(new DeploymentTargetDescription(DEPLOYMENT_1_NAME)).getDescription().getArchive());
+        ordered.verify(deployableContainer1, times(1)).deploy(
+            scenario.deployment(new DeploymentTargetDescription(DEPLOYMENT_4_NAME)).getDescription().getDescriptor());
+        verify(deployableContainer2, times(1)).deploy(isA(Archive.class));
+
+        Assert.assertTrue(scenario.deployment(new DeploymentTargetDescription(DEPLOYMENT_1_NAME)).isDeployed());
+        Assert.assertTrue(scenario.deployment(new DeploymentTargetDescription(DEPLOYMENT_2_NAME)).isDeployed());
+    }
+
+    @Test
+    public void shouldCatchExceptionInDeploymentContextWhenDeployingInParallel() throws Exception {
+        bind(ApplicationScoped.class, ArquillianDescriptor.class,
+            Descriptors.create(ArquillianDescriptor.class).engine().parallelDeployment(true));
+        registry.create(container1, serviceLoader).setState(State.STARTED);
+        registry.create(container2, serviceLoader).setState(State.STARTED);
+        scenario.deployment(new DeploymentTargetDescription(DEPLOYMENT_1_NAME)).getDescription().setOrder(1);
+
+        when(deployableContainer1.deploy(isA(Archive.class))).thenThrow(new DeploymentException("_TEST_"));
+
+        try {
+            fire(new DeployManagedDeployments());
+            Assert.fail("Expected the deployment failure to be reported");
+        } catch (Exception e) {
+            Assert.assertTrue(e instanceof DeploymentException);
+            Assert.assertEquals("_TEST_", e.getMessage());
+        }
+        assertEventFiredInContext(DeploymentException.class, ContainerContext.class);
+        assertEventFiredInContext(DeploymentException.class, DeploymentContext.class);
+
+        Assert.assertTrue(
+            scenario.deployment(new DeploymentTargetDescription(DEPLOYMENT_1_NAME)).hasDeploymentError());
+        Assert.assertTrue(scenario.deployment(new DeploymentTargetDescription(DEPLOYMENT_2_NAME)).isDeployed());
+    }
 }
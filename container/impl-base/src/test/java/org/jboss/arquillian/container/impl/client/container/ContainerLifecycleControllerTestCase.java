@@ -18,7 +18,13 @@
 package org.jboss.arquillian.container.impl.client.container;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Assert;
+import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
 import org.jboss.arquillian.config.descriptor.api.ContainerDef;
 import org.jboss.arquillian.container.impl.LocalContainerRegistry;
 import org.jboss.arquillian.container.impl.client.ContainerDeploymentContextHandler;
@@ -48,14 +54,19 @@ import org.jboss.arquillian.core.api.Instance;
 import org.jboss.arquillian.core.api.annotation.ApplicationScoped;
 import org.jboss.arquillian.core.api.annotation.Inject;
 import org.jboss.arquillian.core.spi.ServiceLoader;
+import org.jboss.shrinkwrap.descriptor.api.Descriptors;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -271,6 +282,87 @@ public class ContainerLifecycleControllerTestCase extends AbstractContainerTestB
         Assert.assertEquals(Container.State.STARTED, registry.getContainer(CONTAINER_5_NAME).getState());
     }
 
+    @Test
+    public void shouldStartSuiteContainersInParallelWhenEnabled() throws Exception {
+        bind(ApplicationScoped.class, ArquillianDescriptor.class,
+            Descriptors.create(ArquillianDescriptor.class).engine().parallelContainerLifecycle(true));
+        registry.create(container1, serviceLoader);
+        registry.create(container2, serviceLoader);
+        registry.create(container3, serviceLoader);
+
+        final CountDownLatch bothStarting = new CountDownLatch(2);
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                threads.add(Thread.currentThread());
+                bothStarting.countDown();
+                Assert.assertTrue("Verify containers are started concurrently",
+                    bothStarting.await(10, TimeUnit.SECONDS));
+                return null;
+            }
+        }).when(deployableContainer).start();
+
+        fire(new StartSuiteContainers());
+
+        assertEventFiredInContext(StartContainer.class, ContainerContext.class);
+        assertEventFired(StartContainer.class, 2);
+
+        assertEventFiredInContext(AfterStart.class, ContainerContext.class);
+        assertEventFired(AfterStart.class, 2);
+
+        Assert.assertEquals(2, threads.size());
+        Assert.assertFalse(threads.contains(Thread.currentThread()));
+        Assert.assertEquals(Container.State.STARTED, registry.getContainer(CONTAINER_1_NAME).getState());
+        Assert.assertEquals(Container.State.STARTED, registry.getContainer(CONTAINER_2_NAME).getState());
+        Assert.assertNotEquals(Container.State.STARTED, registry.getContainer(CONTAINER_3_NAME).getState());
+    }
+
+    @Test
+    public void shouldAggregateFailuresOfContainersStartedInParallel() throws Exception {
+        bind(ApplicationScoped.class, ArquillianDescriptor.class,
+            Descriptors.create(ArquillianDescriptor.class).engine().parallelContainerLifecycle(true));
+        registry.create(container1, serviceLoader);
+        registry.create(container2, serviceLoader);
+
+        final AtomicInteger attempts = new AtomicInteger();
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                throw new IllegalStateException("Could not start " + attempts.incrementAndGet());
+            }
+        }).when(deployableContainer).start();
+
+        try {
+            fire(new StartSuiteContainers());
+            Assert.fail("Expected the failed container starts to be reported");
+        } catch (Exception e) {
+            Assert.assertEquals(2, attempts.get());
+            Assert.assertEquals("Verify the failure of the other container is kept",
+                1, e.getSuppressed().length);
+        }
+    }
+
+    @Test
+    public void shouldStopSuiteContainersInParallelWhenEnabled() throws Exception {
+        bind(ApplicationScoped.class, ArquillianDescriptor.class,
+            Descriptors.create(ArquillianDescriptor.class).engine().parallelContainerLifecycle(true));
+        registry.create(container1, serviceLoader).setState(Container.State.STARTED);
+        registry.create(container2, serviceLoader).setState(Container.State.STARTED);
+
+        doThrow(new IllegalStateException("Could not stop")).doNothing().when(deployableContainer).stop();
+
+        try {
+            fire(new StopSuiteContainers());
+            Assert.fail("Expected the failed container stop to be reported");
+        } catch (Exception e) {
+            Assert.assertEquals(0, e.getSuppressed().length);
+        }
+
+        verify(deployableContainer, times(2)).stop();
+        assertEventFiredInContext(StopContainer.class, ContainerContext.class);
+    }
+
     public static class DummyContainerConfiguration implements ContainerConfiguration {
         @Override
         public void validate() throws ConfigurationException {
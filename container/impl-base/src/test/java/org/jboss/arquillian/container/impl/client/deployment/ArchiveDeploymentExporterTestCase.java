@@ -25,8 +25,12 @@ import org.jboss.arquillian.container.spi.client.deployment.TargetDescription;
 import org.jboss.arquillian.container.spi.event.container.BeforeDeploy;
 import org.jboss.arquillian.container.test.AbstractContainerTestBase;
 import org.jboss.arquillian.core.api.annotation.ApplicationScoped;
+import org.jboss.arquillian.core.api.event.ManagerStopping;
 import org.jboss.shrinkwrap.api.Archive;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.importer.ZipImporter;
 import org.jboss.shrinkwrap.api.spec.JavaArchive;
 import org.jboss.shrinkwrap.descriptor.api.Descriptors;
 import org.jboss.shrinkwrap.descriptor.api.webapp30.WebAppDescriptor;
@@ -195,7 +199,107 @@ public class ArchiveDeploymentExporterTestCase extends AbstractContainerTestBase
         }
     }
 
+    @Test
+    public void shouldKeepExportWithUnchangedContent() throws Exception {
+        bind(ApplicationScoped.class, ArquillianDescriptor.class, Descriptors.create(ArquillianDescriptor.class).engine()
+            .deploymentExportPath(EXPORT_PATH));
+        File file = new File(EXPORT_PATH + TARGET_NAME + "_" + DEPLOYMENT_NAME + "_" + ARCHIVE_NAME);
+        try {
+            deployment = createDeploymentWithLibrary(ShrinkWrap.create(JavaArchive.class, "lib.jar").addClass(Test.class));
+            fire(new BeforeDeploy(deployableContainer, deployment));
+            awaitExports();
+            Assert.assertTrue(file.setLastModified(1000));
+
+            deployment = createDeploymentWithLibrary(ShrinkWrap.create(JavaArchive.class, "lib.jar").addClass(Test.class));
+            fire(new BeforeDeploy(deployableContainer, deployment));
+            awaitExports();
+            Assert.assertEquals("Verify unchanged export was kept", 1000, file.lastModified());
+
+            deployment = createDeploymentWithLibrary(ShrinkWrap.create(JavaArchive.class, "lib.jar").addClass(Before.class));
+            fire(new BeforeDeploy(deployableContainer, deployment));
+            awaitExports();
+            Assert.assertNotEquals("Verify changed export was written", 1000, file.lastModified());
+        } finally {
+            delete(file);
+        }
+    }
+
+    @Test
+    public void shouldKeepExplodedExportWithUnchangedContent() throws Exception {
+        bind(ApplicationScoped.class, ArquillianDescriptor.class, Descriptors.create(ArquillianDescriptor.class).engine()
+            .deploymentExportPath(EXPORT_PATH)
+            .deploymentExportExploded(true));
+        File directory = new File(EXPORT_PATH + TARGET_NAME + "_" + DEPLOYMENT_NAME + "_" + ARCHIVE_NAME);
+        try {
+            deployment = createDeploymentWithLibrary(ShrinkWrap.create(JavaArchive.class, "lib.jar").addClass(Test.class));
+            fire(new BeforeDeploy(deployableContainer, deployment));
+            awaitExports();
+            File exportedClass = new File(directory, getClass().getName().replace('.', '/') + ".class");
+            Assert.assertTrue(exportedClass.setLastModified(1000));
+
+            deployment = createDeploymentWithLibrary(ShrinkWrap.create(JavaArchive.class, "lib.jar").addClass(Test.class));
+            fire(new BeforeDeploy(deployableContainer, deployment));
+            awaitExports();
+            Assert.assertEquals("Verify unchanged export was kept", 1000, exportedClass.lastModified());
+        } finally {
+            delete(directory);
+        }
+    }
+
+    @Test
+    public void shouldExportArchiveAsItWasBeforeDeploy() throws Exception {
+        bind(ApplicationScoped.class, ArquillianDescriptor.class, Descriptors.create(ArquillianDescriptor.class).engine()
+            .deploymentExportPath(EXPORT_PATH));
+        File file = new File(EXPORT_PATH + TARGET_NAME + "_" + DEPLOYMENT_NAME + "_" + ARCHIVE_NAME);
+        try {
+            fire(new BeforeDeploy(deployableContainer, deployment));
+            deployment.getTestableArchive().add(EmptyAsset.INSTANCE, "added-during-deploy");
+            awaitExports();
+
+            Assert.assertTrue(file.isFile());
+            Assert.assertFalse("Verify the export is not affected by changes during deploy",
+                ShrinkWrap.createFromZipFile(JavaArchive.class, file).contains("added-during-deploy"));
+        } finally {
+            delete(file);
+        }
+    }
+
+    @Test
+    public void shouldExportNestedArchiveAsItWasBeforeDeploy() throws Exception {
+        bind(ApplicationScoped.class, ArquillianDescriptor.class, Descriptors.create(ArquillianDescriptor.class).engine()
+            .deploymentExportPath(EXPORT_PATH));
+        File file = new File(EXPORT_PATH + TARGET_NAME + "_" + DEPLOYMENT_NAME + "_" + ARCHIVE_NAME);
+        try {
+            JavaArchive library = ShrinkWrap.create(JavaArchive.class, "lib.jar").addClass(Test.class);
+            deployment = createDeploymentWithLibrary(library);
+            fire(new BeforeDeploy(deployableContainer, deployment));
+            library.add(EmptyAsset.INSTANCE, "added-during-deploy");
+            awaitExports();
+
+            JavaArchive exported = ShrinkWrap.createFromZipFile(JavaArchive.class, file);
+            JavaArchive exportedLibrary = ShrinkWrap.create(ZipImporter.class, "lib.jar")
+                .importFrom(exported.get("/lib/lib.jar").getAsset().openStream())
+                .as(JavaArchive.class);
+            Assert.assertTrue(exportedLibrary.contains("/org/junit/Test.class"));
+            Assert.assertFalse("Verify the export is not affected by changes to nested archives during deploy",
+                exportedLibrary.contains("added-during-deploy"));
+        } finally {
+            delete(file);
+        }
+    }
+
+    private DeploymentDescription createDeploymentWithLibrary(JavaArchive library) {
+        Archive<?> archive = ShrinkWrap.create(JavaArchive.class, ARCHIVE_NAME).addClass(getClass())
+            .add(library, "/lib", ZipExporter.class);
+
+        DeploymentDescription description = new DeploymentDescription(DEPLOYMENT_NAME, archive);
+        description.setTarget(new TargetDescription(TARGET_NAME));
+        description.setTestableArchive(archive);
+        return description;
+    }
+
     private void fileShouldExist(boolean bol) {
+        awaitExports();
         File file = new File(EXPORT_PATH + TARGET_NAME + "_" + DEPLOYMENT_NAME + "_" + ARCHIVE_NAME);
 
         try {
@@ -209,6 +313,7 @@ public class ArchiveDeploymentExporterTestCase extends AbstractContainerTestBase
     }
 
     private void directoryShouldExist() {
+        awaitExports();
         File file = new File(EXPORT_PATH + TARGET_NAME + "_" + DEPLOYMENT_NAME + "_" + ARCHIVE_NAME);
 
         try {
@@ -219,6 +324,10 @@ public class ArchiveDeploymentExporterTestCase extends AbstractContainerTestBase
         }
     }
 
+    private void awaitExports() {
+        fire(new ManagerStopping());
+    }
+
     private void delete(File file) {
         if (!file.exists()) {
             return;
@@ -26,10 +26,12 @@ import org.jboss.arquillian.container.test.impl.client.deployment.AnnotationDepl
 import org.jboss.arquillian.container.test.impl.client.deployment.AutomaticDeploymentScenarioGenerator;
 import org.jboss.arquillian.container.test.impl.client.deployment.ClientDeployerCreator;
 import org.jboss.arquillian.container.test.impl.client.deployment.DeploymentGenerator;
+import org.jboss.arquillian.container.test.impl.client.deployment.DeploymentReuseController;
 import org.jboss.arquillian.container.test.impl.client.deployment.command.DeploymentCommandObserver;
 import org.jboss.arquillian.container.test.impl.client.deployment.tool.ArchiveDeploymentToolingExporter;
 import org.jboss.arquillian.container.test.impl.client.protocol.ProtocolRegistryCreator;
 import org.jboss.arquillian.container.test.impl.client.protocol.local.LocalProtocol;
+import org.jboss.arquillian.container.test.impl.client.timing.TimingRecorder;
 import org.jboss.arquillian.container.test.impl.deployment.ArquillianDeploymentAppender;
 import org.jboss.arquillian.container.test.impl.enricher.resource.ContainerControllerProvider;
 import org.jboss.arquillian.container.test.impl.enricher.resource.DeployerProvider;
@@ -88,6 +90,7 @@ public class ContainerTestExtension implements LoadableExtension {
 
         builder.observer(ContainerEventController.class)
             .observer(ContainerRestarter.class)
+            .observer(DeploymentReuseController.class)
             .observer(DeploymentGenerator.class)
             .observer(AnnotationDeploymentScenarioGenerator.class)
             .observer(ArchiveDeploymentToolingExporter.class)
@@ -100,6 +103,7 @@ public class ContainerTestExtension implements LoadableExtension {
             .observer(RemoteTestExecuter.class)
             .observer(DeploymentCommandObserver.class)
             .observer(ContainerCommandObserver.class)
-            .observer(RemoteResourceCommandObserver.class);
+            .observer(RemoteResourceCommandObserver.class)
+            .observer(TimingRecorder.class);
     }
 }
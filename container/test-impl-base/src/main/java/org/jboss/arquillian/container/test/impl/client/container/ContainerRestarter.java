@@ -16,6 +16,10 @@
  */
 package org.jboss.arquillian.container.test.impl.client.container;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
 import org.jboss.arquillian.container.spi.event.ContainerMultiControlEvent;
 import org.jboss.arquillian.container.spi.event.StartSuiteContainers;
@@ -24,10 +28,16 @@ import org.jboss.arquillian.core.api.Event;
 import org.jboss.arquillian.core.api.Instance;
 import org.jboss.arquillian.core.api.annotation.Inject;
 import org.jboss.arquillian.core.api.annotation.Observes;
+import org.jboss.arquillian.core.spi.EventContext;
+import org.jboss.arquillian.test.spi.event.suite.AfterClass;
 import org.jboss.arquillian.test.spi.event.suite.BeforeClass;
 
 /**
  * A Handler for restarting the containers for every X test class.<br/>
+ * When test classes run in parallel, the restart waits for all running test classes to finish, whichever thread
+ * their AfterClass runs on. Test classes starting in the meantime wait for the restart. A test class started on a
+ * thread that is already running another one, e.g. by ForkJoin work-stealing, can not wait for it, the restart is then
+ * left to the next test class.<br/>
  * <br/>
  * <b>Fires:</b><br/>
  * {@link StopSuiteContainers}<br/>
@@ -41,17 +51,73 @@ import org.jboss.arquillian.test.spi.event.suite.BeforeClass;
 public class ContainerRestarter {
     private int testClassesCount = 0;
 
+    // started but not yet finished test classes, with the threads their BeforeClass ran on. AfterClass may run on
+    // another thread, e.g. with TestNG parallel methods
+    private final Map<Class<?>, List<Thread>> runningTestClasses = new HashMap<Class<?>, List<Thread>>();
+    private int running = 0;
+    private boolean restartPending = false;
+
     @Inject
     private Event<ContainerMultiControlEvent> controlEvent;
 
     @Inject
     private Instance<ArquillianDescriptor> configuration;
 
-    public void restart(@Observes BeforeClass event) throws Exception {
+    public synchronized void restart(@Observes BeforeClass event) throws Exception {
         if (shouldRestart()) {
-            controlEvent.fire(new StopSuiteContainers());
-            controlEvent.fire(new StartSuiteContainers());
+            restartPending = true;
+        }
+        // waiting here would block the test class this thread is already running from ever finishing
+        if (restartPending && !isRunningOn(Thread.currentThread())) {
+            while (restartPending && running > 0) {
+                wait();
+            }
+            // the first of the waiting test classes restarts, the others start on the restarted containers
+            if (restartPending) {
+                restartPending = false;
+                controlEvent.fire(new StopSuiteContainers());
+                controlEvent.fire(new StartSuiteContainers());
+            }
         }
+        Class<?> testClass = event.getTestClass().getJavaClass();
+        List<Thread> threads = runningTestClasses.get(testClass);
+        if (threads == null) {
+            threads = new ArrayList<Thread>();
+            runningTestClasses.put(testClass, threads);
+        }
+        threads.add(Thread.currentThread());
+        running++;
+    }
+
+    public void finished(@Observes EventContext<AfterClass> context) {
+        try {
+            context.proceed();
+        } finally {
+            synchronized (this) {
+                Class<?> testClass = context.getEvent().getTestClass().getJavaClass();
+                List<Thread> threads = runningTestClasses.get(testClass);
+                if (threads != null) {
+                    // the same test class may run more than once, prefer the run started on this thread
+                    if (!threads.remove(Thread.currentThread())) {
+                        threads.remove(0);
+                    }
+                    if (threads.isEmpty()) {
+                        runningTestClasses.remove(testClass);
+                    }
+                    running--;
+                }
+                notifyAll();
+            }
+        }
+    }
+
+    private boolean isRunningOn(Thread thread) {
+        for (List<Thread> threads : runningTestClasses.values()) {
+            if (threads.contains(thread)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private boolean shouldRestart() {
@@ -0,0 +1,347 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.test.impl.client.deployment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
+import org.jboss.arquillian.container.spi.Container;
+import org.jboss.arquillian.container.spi.client.deployment.Deployment;
+import org.jboss.arquillian.container.spi.client.deployment.DeploymentDescription;
+import org.jboss.arquillian.container.spi.client.protocol.metadata.ProtocolMetaData;
+import org.jboss.arquillian.container.spi.context.annotation.DeploymentScoped;
+import org.jboss.arquillian.container.spi.event.DeployDeployment;
+import org.jboss.arquillian.container.spi.event.DeploymentEvent;
+import org.jboss.arquillian.container.spi.event.KillContainer;
+import org.jboss.arquillian.container.spi.event.StopContainer;
+import org.jboss.arquillian.container.spi.event.UnDeployDeployment;
+import org.jboss.arquillian.core.api.Event;
+import org.jboss.arquillian.core.api.Instance;
+import org.jboss.arquillian.core.api.InstanceProducer;
+import org.jboss.arquillian.core.api.annotation.Inject;
+import org.jboss.arquillian.core.api.annotation.Observes;
+import org.jboss.arquillian.core.spi.EventContext;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ArchivePath;
+import org.jboss.shrinkwrap.api.Node;
+import org.jboss.shrinkwrap.api.asset.ArchiveAsset;
+import org.jboss.shrinkwrap.api.asset.Asset;
+
+/**
+ * Keeps managed deployments deployed after a test class and reuses them for the following test classes that deploy
+ * the same archive to the same container.
+ * <p>
+ * Enabled by the deploymentReuse engine property. Deployments are matched by target container, deployment name,
+ * protocol and a hash of the content of the deployed archive. A reused deployment is undeployed when its container is
+ * stopped, e.g. at the end of the suite or on a restart, or when more than maxReusedDeployments are kept deployed, the
+ * least recently used one that is not in use first.
+ */
+public class DeploymentReuseController {
+    private static final Logger log = Logger.getLogger(DeploymentReuseController.class.getName());
+
+    @Inject
+    private Instance<ArquillianDescriptor> configuration;
+
+    @Inject
+    private Event<DeploymentEvent> deploymentEvent;
+
+    @Inject
+    @DeploymentScoped
+    private InstanceProducer<DeploymentDescription> deploymentDescription;
+
+    @Inject
+    @DeploymentScoped
+    private InstanceProducer<Deployment> deploymentProducer;
+
+    @Inject
+    @DeploymentScoped
+    private InstanceProducer<ProtocolMetaData> protocolMetaData;
+
+    // deployed archives by key, in least recently used order
+    private final Map<String, ReusedDeployment> reused =
+        new LinkedHashMap<String, ReusedDeployment>(16, 0.75f, true);
+
+    // the deployments of the running test classes and the archive they use
+    private final Map<Deployment, ReusedDeployment> inUse = new IdentityHashMap<Deployment, ReusedDeployment>();
+
+    // the deployments being undeployed for good, deployed by a test class that already ended
+    private final Map<Deployment, ReusedDeployment> releasing = new IdentityHashMap<Deployment, ReusedDeployment>();
+
+    // the keys already computed, the content of a deployed archive is only hashed once
+    private final Map<Deployment, String> keys = new WeakHashMap<Deployment, String>();
+
+    // intercept within the Container and Deployment context
+    public void deploy(@Observes(precedence = -100) EventContext<DeployDeployment> context) throws Exception {
+        DeployDeployment event = context.getEvent();
+        Deployment deployment = event.getDeployment();
+        String key = isReuseEnabled() ? key(event.getContainer(), deployment) : null;
+        if (key == null) {
+            context.proceed();
+            return;
+        }
+
+        ReusedDeployment existing;
+        ReusedDeployment reserved = null;
+        synchronized (this) {
+            existing = reused.get(key);
+            // another test class is deploying the same archive, wait for it instead of deploying it twice
+            while (existing != null && existing.deployment == null) {
+                wait();
+                existing = reused.get(key);
+            }
+            if (existing == null) {
+                reserved = new ReusedDeployment(event.getContainer());
+                reused.put(key, reserved);
+                inUse.put(deployment, reserved);
+            } else {
+                existing.users++;
+                inUse.put(deployment, existing);
+            }
+        }
+        if (existing != null) {
+            log.fine("Reusing deployment " + deployment.getDescription().getName() + " on container "
+                + event.getContainerName());
+            deploymentDescription.set(deployment.getDescription());
+            deploymentProducer.set(deployment);
+            if (existing.protocolMetaData != null) {
+                protocolMetaData.set(existing.protocolMetaData);
+            }
+            deployment.deployed();
+            return;
+        }
+
+        boolean deployed = false;
+        try {
+            context.proceed();
+            deployed = deployment.isDeployed() && !deployment.hasDeploymentError();
+        } finally {
+            synchronized (this) {
+                if (deployed) {
+                    reserved.deployment = deployment;
+                    reserved.protocolMetaData = protocolMetaData.get();
+                } else {
+                    if (reused.get(key) == reserved) {
+                        reused.remove(key);
+                    }
+                    inUse.remove(deployment);
+                }
+                notifyAll();
+            }
+        }
+    }
+
+    public void undeploy(@Observes(precedence = -100) EventContext<UnDeployDeployment> context) throws Exception {
+        Deployment deployment = context.getEvent().getDeployment();
+        ReusedDeployment released;
+        List<ReusedDeployment> evicted = null;
+        synchronized (this) {
+            released = releasing.get(deployment);
+            ReusedDeployment used = released == null ? inUse.remove(deployment) : null;
+            if (used != null) {
+                used.users--;
+                evicted = evictLeastRecentlyUsed();
+            }
+        }
+        if (released != null) {
+            // the DeploymentContext of the test class that deployed it was destroyed when the class ended
+            deploymentDescription.set(deployment.getDescription());
+            deploymentProducer.set(deployment);
+            if (released.protocolMetaData != null) {
+                protocolMetaData.set(released.protocolMetaData);
+            }
+        }
+        if (evicted == null) {
+            context.proceed();
+            return;
+        }
+        // keep it deployed for the next test class
+        deployment.undeployed();
+        undeploy(evicted);
+    }
+
+    public void stop(@Observes EventContext<StopContainer> context) throws Exception {
+        // the deployments of a remote container would otherwise outlive the test run
+        undeploy(forget(context.getEvent().getContainer()));
+        context.proceed();
+    }
+
+    public void kill(@Observes EventContext<KillContainer> context) throws Exception {
+        forget(context.getEvent().getContainer());
+        context.proceed();
+    }
+
+    //-------------------------------------------------------------------------------------||
+    // Internal Helper Methods ------------------------------------------------------------||
+    //-------------------------------------------------------------------------------------||
+
+    private boolean isReuseEnabled() {
+        ArquillianDescriptor descriptor = configuration.get();
+        return descriptor != null && Boolean.TRUE.equals(descriptor.engine().getDeploymentReuse());
+    }
+
+    private Integer getMaxReusedDeployments() {
+        ArquillianDescriptor descriptor = configuration.get();
+        return descriptor == null ? null : descriptor.engine().getMaxReusedDeployments();
+    }
+
+    private List<ReusedDeployment> evictLeastRecentlyUsed() {
+        List<ReusedDeployment> evicted = new ArrayList<ReusedDeployment>();
+        Integer max = getMaxReusedDeployments();
+        if (max == null) {
+            return evicted;
+        }
+        Iterator<ReusedDeployment> iterator = reused.values().iterator();
+        while (reused.size() > max && iterator.hasNext()) {
+            ReusedDeployment deployment = iterator.next();
+            if (deployment.users == 0 && deployment.deployment != null) {
+                iterator.remove();
+                evicted.add(deployment);
+            }
+        }
+        return evicted;
+    }
+
+    private synchronized List<ReusedDeployment> forget(Container container) {
+        List<ReusedDeployment> forgotten = new ArrayList<ReusedDeployment>();
+        Iterator<ReusedDeployment> iterator = reused.values().iterator();
+        while (iterator.hasNext()) {
+            ReusedDeployment deployment = iterator.next();
+            if (deployment.container == container) {
+                iterator.remove();
+                forgotten.add(deployment);
+            }
+        }
+        inUse.values().removeAll(forgotten);
+        return forgotten;
+    }
+
+    private void undeploy(List<ReusedDeployment> deployments) {
+        for (ReusedDeployment deployment : deployments) {
+            if (deployment.deployment == null || deployment.container.getState() != Container.State.STARTED) {
+                continue;
+            }
+            synchronized (this) {
+                releasing.put(deployment.deployment, deployment);
+            }
+            try {
+                deploymentEvent.fire(new UnDeployDeployment(deployment.container, deployment.deployment));
+            } finally {
+                synchronized (this) {
+                    releasing.remove(deployment.deployment);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the key of the given deployment or null if it can not be reused
+     */
+    private String key(Container container, Deployment deployment) {
+        DeploymentDescription description = deployment.getDescription();
+        if (!description.managed() || !description.isArchiveDeployment()
+            || description.getExpectedException() != null) {
+            return null;
+        }
+        synchronized (this) {
+            String key = keys.get(deployment);
+            if (key != null) {
+                return key;
+            }
+        }
+        Archive<?> archive =
+            description.getTestableArchive() != null ? description.getTestableArchive() : description.getArchive();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, container.getName());
+            update(digest, description.getName());
+            update(digest, description.getProtocol() == null ? null : description.getProtocol().getName());
+            update(digest, archive);
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest.digest()) {
+                sb.append(String.format("%02x", b));
+            }
+            String key = sb.toString();
+            synchronized (this) {
+                keys.put(deployment, key);
+            }
+            return key;
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        } catch (IOException e) {
+            log.log(Level.FINE, "Could not read the content of " + archive.getName() + ", it will not be reused", e);
+            return null;
+        }
+    }
+
+    private static void update(MessageDigest digest, Archive<?> archive) throws IOException {
+        update(digest, archive.getName());
+        Map<ArchivePath, Node> content = new TreeMap<ArchivePath, Node>(archive.getContent());
+        for (Map.Entry<ArchivePath, Node> entry : content.entrySet()) {
+            update(digest, entry.getKey().get());
+            Asset asset = entry.getValue().getAsset();
+            if (asset instanceof ArchiveAsset) {
+                // exported with the current time, compare the content instead
+                update(digest, ((ArchiveAsset) asset).getArchive());
+            } else if (asset != null) {
+                InputStream in = asset.openStream();
+                try {
+                    byte[] buffer = new byte[8192];
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        digest.update(buffer, 0, read);
+                    }
+                } finally {
+                    in.close();
+                }
+            }
+            digest.update((byte) 0);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) 0);
+    }
+
+    private static final class ReusedDeployment {
+        private final Container container;
+        // the deployment that deployed the archive, null while it is being deployed
+        private Deployment deployment;
+        // kept here, the DeploymentContext of the deployment is destroyed at the end of its test class
+        private ProtocolMetaData protocolMetaData;
+        private int users = 1;
+
+        ReusedDeployment(Container container) {
+            this.container = container;
+        }
+    }
+}
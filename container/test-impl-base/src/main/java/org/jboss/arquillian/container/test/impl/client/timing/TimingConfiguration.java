@@ -0,0 +1,114 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.test.impl.client.timing;
+
+import java.io.File;
+import java.util.Locale;
+import java.util.Map;
+import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
+import org.jboss.arquillian.config.descriptor.api.ExtensionDef;
+
+/**
+ * Configuration of the timing report, read from the <code>&lt;extension qualifier="timing"&gt;</code> section of
+ * arquillian.xml:
+ * <ul>
+ * <li><code>reportDirectory</code> - directory the report is written to, <code>target</code> by default</li>
+ * <li><code>reportName</code> - name of the report files without extension, <code>arquillian-timing</code> by
+ * default</li>
+ * <li><code>format</code> - comma separated formats of the report, <code>json</code> and/or <code>csv</code>, both by
+ * default</li>
+ * <li><code>slowest</code> - number of the slowest measurements listed in the report and the summary, 10 by
+ * default</li>
+ * </ul>
+ */
+class TimingConfiguration {
+    static final String EXTENSION_NAME = "timing";
+
+    private String reportDirectory = "target";
+    private String reportName = "arquillian-timing";
+    private boolean json = true;
+    private boolean csv = true;
+    private int slowest = 10;
+
+    /**
+     * @return the configuration, or null if the timing extension is not configured
+     */
+    static TimingConfiguration from(ArquillianDescriptor descriptor) {
+        for (ExtensionDef extension : descriptor.getExtensions()) {
+            if (EXTENSION_NAME.equals(extension.getExtensionName())) {
+                return new TimingConfiguration(extension.getExtensionProperties());
+            }
+        }
+        return null;
+    }
+
+    TimingConfiguration(Map<String, String> properties) {
+        String directory = properties.get("reportDirectory");
+        if (directory != null && directory.trim().length() != 0) {
+            reportDirectory = directory.trim();
+        }
+        String name = properties.get("reportName");
+        if (name != null && name.trim().length() != 0) {
+            reportName = name.trim();
+        }
+        String format = properties.get("format");
+        if (format != null) {
+            json = false;
+            csv = false;
+            for (String value : format.split(",")) {
+                String trimmed = value.trim().toLowerCase(Locale.ROOT);
+                if ("json".equals(trimmed)) {
+                    json = true;
+                } else if ("csv".equals(trimmed)) {
+                    csv = true;
+                } else if (trimmed.length() != 0) {
+                    throw new IllegalArgumentException(
+                        "Unknown timing report format: " + value.trim() + ", supported formats are json and csv");
+                }
+            }
+        }
+        String count = properties.get("slowest");
+        if (count != null) {
+            try {
+                slowest = Integer.parseInt(count.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("The slowest property of the timing extension must be a number: "
+                    + count, e);
+            }
+            if (slowest < 0) {
+                throw new IllegalArgumentException(
+                    "The slowest property of the timing extension must not be negative: " + count);
+            }
+        }
+    }
+
+    File getReportFile(String extension) {
+        return new File(reportDirectory, reportName + "." + extension);
+    }
+
+    boolean isJson() {
+        return json;
+    }
+
+    boolean isCsv() {
+        return csv;
+    }
+
+    int getSlowest() {
+        return slowest;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.test.impl.client.timing;
+
+/**
+ * A phase of the test run whose wall clock time is measured by the {@link TimingRecorder}. Phases nest, e.g. the
+ * deployments of a test class are part of the time of the test class.
+ */
+enum TimingPhase {
+    SUITE("suite"),
+    CONTAINER_SETUP("container.setup"),
+    CONTAINER_START("container.start"),
+    CONTAINER_STOP("container.stop"),
+    TEST_CLASS("class"),
+    DEPLOYMENT_GENERATION("deployment.generate"),
+    DEPLOY("deployment.deploy"),
+    UNDEPLOY("deployment.undeploy"),
+    ENRICHMENT("enrichment"),
+    TEST("test"),
+    LOCAL_INVOCATION("invocation.local"),
+    REMOTE_INVOCATION("invocation.remote");
+
+    private final String label;
+
+    TimingPhase(String label) {
+        this.label = label;
+    }
+
+    String getLabel() {
+        return label;
+    }
+}
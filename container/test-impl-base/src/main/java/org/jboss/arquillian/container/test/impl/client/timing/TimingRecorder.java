@@ -0,0 +1,289 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.test.impl.client.timing;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
+import org.jboss.arquillian.container.spi.Container;
+import org.jboss.arquillian.container.spi.client.deployment.Deployment;
+import org.jboss.arquillian.container.spi.event.container.AfterDeploy;
+import org.jboss.arquillian.container.spi.event.container.AfterSetup;
+import org.jboss.arquillian.container.spi.event.container.AfterStart;
+import org.jboss.arquillian.container.spi.event.container.AfterStop;
+import org.jboss.arquillian.container.spi.event.container.AfterUnDeploy;
+import org.jboss.arquillian.container.spi.event.container.BeforeDeploy;
+import org.jboss.arquillian.container.spi.event.container.BeforeSetup;
+import org.jboss.arquillian.container.spi.event.container.BeforeStart;
+import org.jboss.arquillian.container.spi.event.container.BeforeStop;
+import org.jboss.arquillian.container.spi.event.container.BeforeUnDeploy;
+import org.jboss.arquillian.container.test.impl.client.deployment.event.GenerateDeployment;
+import org.jboss.arquillian.container.test.impl.execution.event.ExecutionEvent;
+import org.jboss.arquillian.container.test.impl.execution.event.LocalExecutionEvent;
+import org.jboss.arquillian.container.test.impl.execution.event.RemoteExecutionEvent;
+import org.jboss.arquillian.core.api.Instance;
+import org.jboss.arquillian.core.api.annotation.Inject;
+import org.jboss.arquillian.core.api.annotation.Observes;
+import org.jboss.arquillian.core.spi.ArquillianThreadLocal;
+import org.jboss.arquillian.core.spi.EventContext;
+import org.jboss.arquillian.test.spi.TestClass;
+import org.jboss.arquillian.test.spi.event.enrichment.AfterEnrichment;
+import org.jboss.arquillian.test.spi.event.enrichment.BeforeEnrichment;
+import org.jboss.arquillian.test.spi.event.suite.AfterClass;
+import org.jboss.arquillian.test.spi.event.suite.AfterSuite;
+import org.jboss.arquillian.test.spi.event.suite.BeforeClass;
+import org.jboss.arquillian.test.spi.event.suite.BeforeSuite;
+import org.jboss.arquillian.test.spi.event.suite.Test;
+
+/**
+ * Measures the wall clock time of the phases of the test run, per test class, container and deployment, and writes
+ * the {@link TimingReport} after the suite.
+ * <p>
+ * Only active when the <code>timing</code> extension is configured in arquillian.xml, see
+ * {@link TimingConfiguration}.
+ * <p>
+ * Phases bracketed by a Before and After event are measured between the two, after all other observers of the Before
+ * event and before those of the After event, so only the work of the container is measured. The other phases are
+ * measured by an interceptor wrapping all other interceptors.
+ */
+public class TimingRecorder {
+    private static final Logger log = Logger.getLogger(TimingRecorder.class.getName());
+
+    private static final int FIRST = 1000;
+    private static final int LAST = -1000;
+
+    @Inject
+    private Instance<ArquillianDescriptor> configuration;
+
+    @Inject
+    private Instance<TestClass> testClass;
+
+    @Inject
+    private Instance<Container> container;
+
+    @Inject
+    private Instance<Deployment> deployment;
+
+    private volatile TimingReport report;
+    private volatile long suiteStart;
+
+    private final ConcurrentMap<Class<?>, Long> classStarts = new ConcurrentHashMap<Class<?>, Long>();
+
+    // the Before and After events of a phase are fired on the same thread, containers may be started in parallel
+    private final ArquillianThreadLocal<Map<TimingPhase, Deque<Long>>> phaseStarts =
+        new ArquillianThreadLocal<Map<TimingPhase, Deque<Long>>>() {
+            @Override
+            protected Map<TimingPhase, Deque<Long>> initialValue() {
+                return new EnumMap<TimingPhase, Deque<Long>>(TimingPhase.class);
+            }
+        };
+
+    public void beforeSuite(@Observes(precedence = FIRST) EventContext<BeforeSuite> context) {
+        ArquillianDescriptor descriptor = configuration.get();
+        TimingConfiguration timing = descriptor == null ? null : TimingConfiguration.from(descriptor);
+        report = timing == null ? null : new TimingReport(timing);
+        if (report == null) {
+            context.proceed();
+            return;
+        }
+        suiteStart = System.nanoTime();
+        context.proceed();
+    }
+
+    public void afterSuite(@Observes(precedence = LAST) AfterSuite event) {
+        TimingReport current = report;
+        if (current == null) {
+            return;
+        }
+        current.suiteFinished(System.nanoTime() - suiteStart);
+        try {
+            for (File file : current.write()) {
+                log.info("Timing report written to " + file.getAbsolutePath());
+            }
+        } catch (IOException e) {
+            log.log(Level.WARNING, "Could not write the timing report", e);
+        }
+        log.info(current.getSummary());
+    }
+
+    public void beforeClass(@Observes(precedence = FIRST) EventContext<BeforeClass> context) {
+        if (report != null) {
+            classStarts.put(context.getEvent().getTestClass().getJavaClass(), System.nanoTime());
+        }
+        context.proceed();
+    }
+
+    public void afterClass(@Observes(precedence = FIRST) EventContext<AfterClass> context) {
+        try {
+            context.proceed();
+        } finally {
+            TestClass finished = context.getEvent().getTestClass();
+            Long start = classStarts.remove(finished.getJavaClass());
+            if (report != null && start != null) {
+                report.record(TimingPhase.TEST_CLASS, finished.getName(), null, null, null,
+                    System.nanoTime() - start);
+            }
+        }
+    }
+
+    public void generateDeployment(@Observes(precedence = FIRST) EventContext<GenerateDeployment> context) {
+        time(context, TimingPhase.DEPLOYMENT_GENERATION, context.getEvent().getTestClass(), null);
+    }
+
+    public void test(@Observes(precedence = FIRST) EventContext<Test> context) {
+        time(context, TimingPhase.TEST, context.getEvent().getTestClass(),
+            context.getEvent().getTestMethod().getName());
+    }
+
+    public void executeLocal(@Observes(precedence = FIRST) EventContext<LocalExecutionEvent> context) {
+        time(context, TimingPhase.LOCAL_INVOCATION, null, getMethodName(context.getEvent()));
+    }
+
+    public void executeRemote(@Observes(precedence = FIRST) EventContext<RemoteExecutionEvent> context) {
+        time(context, TimingPhase.REMOTE_INVOCATION, null, getMethodName(context.getEvent()));
+    }
+
+    public void beforeSetup(@Observes(precedence = LAST) BeforeSetup event) {
+        startPhase(TimingPhase.CONTAINER_SETUP);
+    }
+
+    public void afterSetup(@Observes(precedence = FIRST) AfterSetup event) {
+        stopPhase(TimingPhase.CONTAINER_SETUP, null, null);
+    }
+
+    public void beforeStart(@Observes(precedence = LAST) BeforeStart event) {
+        startPhase(TimingPhase.CONTAINER_START);
+    }
+
+    public void afterStart(@Observes(precedence = FIRST) AfterStart event) {
+        stopPhase(TimingPhase.CONTAINER_START, null, null);
+    }
+
+    public void beforeStop(@Observes(precedence = LAST) BeforeStop event) {
+        startPhase(TimingPhase.CONTAINER_STOP);
+    }
+
+    public void afterStop(@Observes(precedence = FIRST) AfterStop event) {
+        stopPhase(TimingPhase.CONTAINER_STOP, null, null);
+    }
+
+    public void beforeDeploy(@Observes(precedence = LAST) BeforeDeploy event) {
+        startPhase(TimingPhase.DEPLOY);
+    }
+
+    public void afterDeploy(@Observes(precedence = FIRST) AfterDeploy event) {
+        stopPhase(TimingPhase.DEPLOY, event.getDeployment().getName(), null);
+    }
+
+    public void beforeUnDeploy(@Observes(precedence = LAST) BeforeUnDeploy event) {
+        startPhase(TimingPhase.UNDEPLOY);
+    }
+
+    public void afterUnDeploy(@Observes(precedence = FIRST) AfterUnDeploy event) {
+        stopPhase(TimingPhase.UNDEPLOY, event.getDeployment().getName(), null);
+    }
+
+    public void beforeEnrichment(@Observes(precedence = LAST) BeforeEnrichment event) {
+        startPhase(TimingPhase.ENRICHMENT);
+    }
+
+    public void afterEnrichment(@Observes(precedence = FIRST) AfterEnrichment event) {
+        Method method = event.getMethod();
+        stopPhase(TimingPhase.ENRICHMENT, null, method == null ? null : method.getName());
+    }
+
+    //-------------------------------------------------------------------------------------||
+    // Internal Helper Methods ------------------------------------------------------------||
+    //-------------------------------------------------------------------------------------||
+
+    private void time(EventContext<?> context, TimingPhase phase, TestClass eventTestClass, String method) {
+        TimingReport current = report;
+        if (current == null) {
+            context.proceed();
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            context.proceed();
+        } finally {
+            long nanos = System.nanoTime() - start;
+            String testClassName = eventTestClass == null ? getTestClassName() : eventTestClass.getName();
+            current.record(phase, testClassName, getContainerName(), getDeploymentName(), method, nanos);
+        }
+    }
+
+    private void startPhase(TimingPhase phase) {
+        if (report == null) {
+            return;
+        }
+        Map<TimingPhase, Deque<Long>> starts = phaseStarts.get();
+        Deque<Long> stack = starts.get(phase);
+        if (stack == null) {
+            stack = new ArrayDeque<Long>();
+            starts.put(phase, stack);
+        }
+        stack.push(System.nanoTime());
+    }
+
+    private void stopPhase(TimingPhase phase, String deploymentName, String method) {
+        TimingReport current = report;
+        if (current == null) {
+            return;
+        }
+        // the latest start, a Before event without After, e.g. a failed deployment, is left behind
+        Long start = pollStart(phase);
+        if (start == null) {
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+        current.record(phase, getTestClassName(), getContainerName(),
+            deploymentName == null ? getDeploymentName() : deploymentName, method, nanos);
+    }
+
+    private Long pollStart(TimingPhase phase) {
+        Deque<Long> stack = phaseStarts.get().get(phase);
+        return stack == null ? null : stack.poll();
+    }
+
+    private String getTestClassName() {
+        TestClass current = testClass.get();
+        return current == null ? null : current.getName();
+    }
+
+    private String getContainerName() {
+        Container<?> current = container.get();
+        return current == null ? null : current.getName();
+    }
+
+    private String getDeploymentName() {
+        Deployment current = deployment.get();
+        return current == null ? null : current.getDescription().getName();
+    }
+
+    private static String getMethodName(ExecutionEvent event) {
+        return event.getExecutor() == null ? null : event.getExecutor().getMethodName();
+    }
+}
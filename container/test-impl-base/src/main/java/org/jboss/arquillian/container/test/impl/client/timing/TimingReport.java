@@ -0,0 +1,356 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.test.impl.client.timing;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * Aggregates the measured wall clock time per phase, test class, container and deployment, and keeps the slowest
+ * single measurements. Written as JSON and/or CSV at the end of the suite.
+ */
+class TimingReport {
+    private static final Comparator<Measurement> BY_DURATION = new Comparator<Measurement>() {
+        @Override
+        public int compare(Measurement a, Measurement b) {
+            return Long.compare(a.nanos, b.nanos);
+        }
+    };
+
+    private final TimingConfiguration configuration;
+
+    // keyed by phase, test class, container and deployment, in order of the first measurement
+    private final Map<List<Object>, Entry> entries = new LinkedHashMap<List<Object>, Entry>();
+    private final PriorityQueue<Measurement> slowest = new PriorityQueue<Measurement>(11, BY_DURATION);
+    private long suiteNanos;
+
+    TimingReport(TimingConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    synchronized void record(TimingPhase phase, String testClass, String container, String deployment,
+        String method, long nanos) {
+        List<Object> key = Arrays.<Object>asList(phase, testClass, container, deployment);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = new Entry(phase, testClass, container, deployment);
+            entries.put(key, entry);
+        }
+        entry.add(nanos);
+
+        if (configuration.getSlowest() > 0) {
+            slowest.add(new Measurement(entry, method, nanos));
+            if (slowest.size() > configuration.getSlowest()) {
+                slowest.poll();
+            }
+        }
+    }
+
+    synchronized void suiteFinished(long nanos) {
+        this.suiteNanos = nanos;
+    }
+
+    /**
+     * Write the report in the configured formats.
+     *
+     * @return the written files
+     */
+    List<File> write() throws IOException {
+        List<File> written = new ArrayList<File>();
+        if (configuration.isJson()) {
+            written.add(write(configuration.getReportFile("json"), toJson()));
+        }
+        if (configuration.isCsv()) {
+            written.add(write(configuration.getReportFile("csv"), toCsv()));
+        }
+        return written;
+    }
+
+    synchronized String toJson() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"suiteMillis\": ").append(millis(suiteNanos)).append(",\n");
+
+        json.append("  \"phases\": [");
+        String separator = "\n";
+        for (Map.Entry<TimingPhase, Entry> phase : getPhaseTotals().entrySet()) {
+            json.append(separator).append("    {\"phase\": ").append(quote(phase.getKey().getLabel()))
+                .append(", \"count\": ").append(phase.getValue().count)
+                .append(", \"totalMillis\": ").append(millis(phase.getValue().total))
+                .append(", \"maxMillis\": ").append(millis(phase.getValue().max)).append("}");
+            separator = ",\n";
+        }
+        json.append("\n  ],\n");
+
+        appendTotals(json, "testClasses", "testClass", getTotals(true));
+        json.append(",\n");
+        appendTotals(json, "containers", "container", getTotals(false));
+        json.append(",\n");
+
+        json.append("  \"measurements\": [");
+        separator = "\n";
+        for (Entry entry : entries.values()) {
+            json.append(separator).append("    {");
+            appendAttribution(json, entry);
+            json.append(", \"count\": ").append(entry.count)
+                .append(", \"totalMillis\": ").append(millis(entry.total))
+                .append(", \"maxMillis\": ").append(millis(entry.max)).append("}");
+            separator = ",\n";
+        }
+        json.append("\n  ],\n");
+
+        json.append("  \"slowest\": [");
+        separator = "\n";
+        for (Measurement measurement : getSlowest()) {
+            json.append(separator).append("    {");
+            appendAttribution(json, measurement.entry);
+            json.append(", \"method\": ").append(quote(measurement.method))
+                .append(", \"millis\": ").append(millis(measurement.nanos)).append("}");
+            separator = ",\n";
+        }
+        json.append("\n  ]\n}\n");
+        return json.toString();
+    }
+
+    synchronized String toCsv() {
+        StringBuilder csv = new StringBuilder("phase,testClass,container,deployment,count,totalMillis,maxMillis\n");
+        csv.append(TimingPhase.SUITE.getLabel()).append(",,,,1,").append(millis(suiteNanos)).append(',')
+            .append(millis(suiteNanos)).append('\n');
+        for (Entry entry : entries.values()) {
+            csv.append(entry.phase.getLabel()).append(',')
+                .append(csvValue(entry.testClass)).append(',')
+                .append(csvValue(entry.container)).append(',')
+                .append(csvValue(entry.deployment)).append(',')
+                .append(entry.count).append(',')
+                .append(millis(entry.total)).append(',')
+                .append(millis(entry.max)).append('\n');
+        }
+        return csv.toString();
+    }
+
+    /**
+     * @return a human readable summary with the total time per phase and the slowest measurements
+     */
+    synchronized String getSummary() {
+        StringBuilder summary = new StringBuilder("Arquillian timing, suite took ").append(millis(suiteNanos))
+            .append(" ms");
+        for (Map.Entry<TimingPhase, Entry> phase : getPhaseTotals().entrySet()) {
+            summary.append(String.format(Locale.ROOT, "%n  %-20s %6d x %12s ms", phase.getKey().getLabel(),
+                phase.getValue().count, millis(phase.getValue().total)));
+        }
+        List<Measurement> measurements = getSlowest();
+        if (!measurements.isEmpty()) {
+            summary.append(String.format(Locale.ROOT, "%nSlowest %d:", measurements.size()));
+            for (Measurement measurement : measurements) {
+                Entry entry = measurement.entry;
+                summary.append(String.format(Locale.ROOT, "%n  %12s ms  %-20s", millis(measurement.nanos),
+                    entry.phase.getLabel()));
+                appendIfPresent(summary, entry.testClass);
+                appendIfPresent(summary, measurement.method);
+                appendIfPresent(summary, entry.container);
+                appendIfPresent(summary, entry.deployment);
+            }
+        }
+        return summary.toString();
+    }
+
+    //-------------------------------------------------------------------------------------||
+    // Internal Helper Methods ------------------------------------------------------------||
+    //-------------------------------------------------------------------------------------||
+
+    private Map<TimingPhase, Entry> getPhaseTotals() {
+        Map<TimingPhase, Entry> totals = new EnumMap<TimingPhase, Entry>(TimingPhase.class);
+        for (Entry entry : entries.values()) {
+            Entry total = totals.get(entry.phase);
+            if (total == null) {
+                total = new Entry(entry.phase, null, null, null);
+                totals.put(entry.phase, total);
+            }
+            total.add(entry);
+        }
+        return totals;
+    }
+
+    /**
+     * Total time per phase of every test class or container.
+     */
+    private Map<String, Map<TimingPhase, Long>> getTotals(boolean byTestClass) {
+        Map<String, Map<TimingPhase, Long>> totals = new TreeMap<String, Map<TimingPhase, Long>>();
+        for (Entry entry : entries.values()) {
+            String name = byTestClass ? entry.testClass : entry.container;
+            if (name == null) {
+                continue;
+            }
+            Map<TimingPhase, Long> phases = totals.get(name);
+            if (phases == null) {
+                phases = new EnumMap<TimingPhase, Long>(TimingPhase.class);
+                totals.put(name, phases);
+            }
+            Long total = phases.get(entry.phase);
+            phases.put(entry.phase, total == null ? entry.total : total + entry.total);
+        }
+        return totals;
+    }
+
+    private List<Measurement> getSlowest() {
+        List<Measurement> measurements = new ArrayList<Measurement>(slowest);
+        Collections.sort(measurements, Collections.reverseOrder(BY_DURATION));
+        return measurements;
+    }
+
+    private static void appendTotals(StringBuilder json, String name, String key,
+        Map<String, Map<TimingPhase, Long>> totals) {
+        json.append("  ").append(quote(name)).append(": [");
+        String separator = "\n";
+        for (Map.Entry<String, Map<TimingPhase, Long>> total : totals.entrySet()) {
+            json.append(separator).append("    {").append(quote(key)).append(": ").append(quote(total.getKey()))
+                .append(", \"phases\": {");
+            String phaseSeparator = "";
+            for (Map.Entry<TimingPhase, Long> phase : total.getValue().entrySet()) {
+                json.append(phaseSeparator).append(quote(phase.getKey().getLabel())).append(": ")
+                    .append(millis(phase.getValue()));
+                phaseSeparator = ", ";
+            }
+            json.append("}}");
+            separator = ",\n";
+        }
+        json.append("\n  ]");
+    }
+
+    private static void appendAttribution(StringBuilder json, Entry entry) {
+        json.append("\"phase\": ").append(quote(entry.phase.getLabel()))
+            .append(", \"testClass\": ").append(quote(entry.testClass))
+            .append(", \"container\": ").append(quote(entry.container))
+            .append(", \"deployment\": ").append(quote(entry.deployment));
+    }
+
+    private static void appendIfPresent(StringBuilder summary, String value) {
+        if (value != null) {
+            summary.append(' ').append(value);
+        }
+    }
+
+    private static File write(File file, String content) throws IOException {
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Could not create directory " + directory);
+        }
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1000000.0);
+    }
+
+    private static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    quoted.append("\\\"");
+                    break;
+                case '\\':
+                    quoted.append("\\\\");
+                    break;
+                case '\n':
+                    quoted.append("\\n");
+                    break;
+                case '\r':
+                    quoted.append("\\r");
+                    break;
+                case '\t':
+                    quoted.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        quoted.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    private static String csvValue(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') == -1 && value.indexOf('"') == -1 && value.indexOf('\n') == -1) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static class Entry {
+        private final TimingPhase phase;
+        private final String testClass;
+        private final String container;
+        private final String deployment;
+        private int count;
+        private long total;
+        private long max;
+
+        Entry(TimingPhase phase, String testClass, String container, String deployment) {
+            this.phase = phase;
+            this.testClass = testClass;
+            this.container = container;
+            this.deployment = deployment;
+        }
+
+        void add(long nanos) {
+            count++;
+            total += nanos;
+            max = Math.max(max, nanos);
+        }
+
+        void add(Entry other) {
+            count += other.count;
+            total += other.total;
+            max = Math.max(max, other.max);
+        }
+    }
+
+    private static class Measurement {
+        private final Entry entry;
+        private final String method;
+        private final long nanos;
+
+        Measurement(Entry entry, String method, long nanos) {
+            this.entry = entry;
+            this.method = method;
+            this.nanos = nanos;
+        }
+    }
+}
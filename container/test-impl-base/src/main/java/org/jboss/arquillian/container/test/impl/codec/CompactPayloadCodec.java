@@ -0,0 +1,465 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.test.impl.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jboss.arquillian.container.test.impl.client.container.command.ContainerStartedCommand;
+import org.jboss.arquillian.container.test.impl.client.container.command.KillContainerCommand;
+import org.jboss.arquillian.container.test.impl.client.container.command.StartContainerCommand;
+import org.jboss.arquillian.container.test.impl.client.container.command.StopContainerCommand;
+import org.jboss.arquillian.container.test.impl.client.deployment.command.DeployDeploymentCommand;
+import org.jboss.arquillian.container.test.impl.client.deployment.command.GetDeploymentCommand;
+import org.jboss.arquillian.container.test.impl.client.deployment.command.UnDeployDeploymentCommand;
+import org.jboss.arquillian.container.test.spi.codec.PayloadCodec;
+import org.jboss.arquillian.container.test.spi.command.Command;
+import org.jboss.arquillian.test.spi.ExceptionProxy;
+import org.jboss.arquillian.test.spi.TestResult;
+import org.jboss.arquillian.test.spi.TestResult.Status;
+
+/**
+ * Compact binary {@link PayloadCodec}.
+ * <p>
+ * {@link TestResult}, {@link ExceptionProxy}, stack traces and the built-in container and deployment commands are
+ * written field by field without any class descriptors, as are {@link HashMap}, {@link LinkedHashMap} and
+ * {@link ArrayList} instances holding only Strings. Any other object falls back to Java serialization.
+ */
+public class CompactPayloadCodec implements PayloadCodec {
+    public static final String NAME = "compact";
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte BOOLEAN = 2;
+    private static final byte INTEGER = 3;
+    private static final byte LONG = 4;
+    private static final byte BYTES = 5;
+    private static final byte STRING_MAP = 6;
+    private static final byte STRING_LIST = 7;
+    private static final byte STACK_TRACE = 8;
+    private static final byte TEST_RESULT = 9;
+    private static final byte EXCEPTION_PROXY = 10;
+    private static final byte EXCEPTION_PROXY_VERSION = 11;
+    private static final byte COMMAND = 12;
+    private static final byte SERIALIZED = 13;
+
+    private static final byte DEPLOY = 0;
+    private static final byte UNDEPLOY = 1;
+    private static final byte GET_DEPLOYMENT = 2;
+    private static final byte START_CONTAINER = 3;
+    private static final byte STOP_CONTAINER = 4;
+    private static final byte KILL_CONTAINER = 5;
+    private static final byte CONTAINER_STARTED = 6;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public ObjectOutput createOutput(OutputStream out) throws IOException {
+        return new CompactOutput(out);
+    }
+
+    @Override
+    public ObjectInput createInput(InputStream in) throws IOException {
+        return new CompactInput(in);
+    }
+
+    private static final class CompactOutput extends DataOutputStream implements ObjectOutput {
+        // every string is written once per stream, e.g. class and file names of stack traces repeat a lot
+        private final Map<String, Integer> strings = new HashMap<String, Integer>();
+
+        CompactOutput(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void writeObject(Object object) throws IOException {
+            if (object == null) {
+                writeByte(NULL);
+            } else if (object instanceof String) {
+                writeByte(STRING);
+                writeString((String) object);
+            } else if (object instanceof Boolean) {
+                writeByte(BOOLEAN);
+                writeBoolean((Boolean) object);
+            } else if (object instanceof Integer) {
+                writeByte(INTEGER);
+                writeInt((Integer) object);
+            } else if (object instanceof Long) {
+                writeByte(LONG);
+                writeLong((Long) object);
+            } else if (object instanceof byte[]) {
+                byte[] bytes = (byte[]) object;
+                writeByte(BYTES);
+                writeInt(bytes.length);
+                write(bytes);
+            } else if (object instanceof StackTraceElement[]) {
+                writeByte(STACK_TRACE);
+                writeStackTrace((StackTraceElement[]) object);
+            } else if (object instanceof TestResult) {
+                writeByte(TEST_RESULT);
+                writeTestResult((TestResult) object);
+            } else if (object.getClass() == ExceptionProxy.class) {
+                writeByte(EXCEPTION_PROXY);
+                ((ExceptionProxy) object).writeCompactExternal(this);
+            } else if (object.getClass() == ExceptionProxy.Version.class) {
+                writeByte(EXCEPTION_PROXY_VERSION);
+            } else if (isStringMap(object)) {
+                writeByte(STRING_MAP);
+                writeStringMap((Map<?, ?>) object);
+            } else if (isStringList(object)) {
+                writeByte(STRING_LIST);
+                writeStringList((List<?>) object);
+            } else if (object instanceof Command && commandKind((Command<?>) object) != -1) {
+                writeByte(COMMAND);
+                writeCommand((Command<?>) object);
+            } else {
+                writeByte(SERIALIZED);
+                writeSerialized(object);
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                writeInt(-1);
+                return;
+            }
+            Integer id = strings.get(value);
+            if (id != null) {
+                writeInt(id);
+                return;
+            }
+            writeInt(strings.size());
+            strings.put(value, strings.size());
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeInt(bytes.length);
+            write(bytes);
+        }
+
+        private void writeStackTrace(StackTraceElement[] trace) throws IOException {
+            writeInt(trace.length);
+            for (StackTraceElement element : trace) {
+                writeString(element.getClassLoaderName());
+                writeString(element.getModuleName());
+                writeString(element.getModuleVersion());
+                writeString(element.getClassName());
+                writeString(element.getMethodName());
+                writeString(element.getFileName());
+                writeInt(element.getLineNumber());
+            }
+        }
+
+        private void writeTestResult(TestResult result) throws IOException {
+            writeByte(result.getStatus() == null ? -1 : result.getStatus().ordinal());
+            writeObject(result.getDescription());
+            writeLong(result.getStart());
+            writeLong(result.getEnd());
+            writeObject(result.getExceptionProxy());
+        }
+
+        private void writeStringMap(Map<?, ?> map) throws IOException {
+            writeBoolean(map.getClass() == LinkedHashMap.class);
+            writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeObject(entry.getKey());
+                writeObject(entry.getValue());
+            }
+        }
+
+        private void writeStringList(List<?> list) throws IOException {
+            writeInt(list.size());
+            for (Object value : list) {
+                writeObject(value);
+            }
+        }
+
+        private void writeCommand(Command<?> command) throws IOException {
+            byte kind = commandKind(command);
+            writeByte(kind);
+            switch (kind) {
+                case DEPLOY:
+                    writeObject(((DeployDeploymentCommand) command).getDeploymentName());
+                    break;
+                case UNDEPLOY:
+                    writeObject(((UnDeployDeploymentCommand) command).getDeploymentName());
+                    break;
+                case GET_DEPLOYMENT:
+                    writeObject(((GetDeploymentCommand) command).getDeploymentName());
+                    break;
+                case START_CONTAINER:
+                    writeObject(((StartContainerCommand) command).getContainerQualifier());
+                    writeObject(((StartContainerCommand) command).getConfiguration());
+                    break;
+                case STOP_CONTAINER:
+                    writeObject(((StopContainerCommand) command).getContainerQualifier());
+                    break;
+                case KILL_CONTAINER:
+                    writeObject(((KillContainerCommand) command).getContainerQualifier());
+                    break;
+                default:
+                    writeObject(((ContainerStartedCommand) command).getContainerQualifier());
+                    break;
+            }
+            writeObject(command.getResult());
+            writeObject(command.getThrowable());
+        }
+
+        private void writeSerialized(Object object) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            ObjectOutputStream output = new ObjectOutputStream(bytes);
+            output.writeObject(object);
+            output.close();
+            writeInt(bytes.size());
+            bytes.writeTo(this);
+        }
+    }
+
+    private static final class CompactInput extends DataInputStream implements ObjectInput {
+        private final List<String> strings = new ArrayList<String>();
+
+        CompactInput(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public Object readObject() throws ClassNotFoundException, IOException {
+            byte type = readByte();
+            switch (type) {
+                case NULL:
+                    return null;
+                case STRING:
+                    return readString();
+                case BOOLEAN:
+                    return readBoolean();
+                case INTEGER:
+                    return readInt();
+                case LONG:
+                    return readLong();
+                case BYTES:
+                    return readBytes();
+                case STRING_MAP:
+                    return readStringMap();
+                case STRING_LIST:
+                    return readStringList();
+                case STACK_TRACE:
+                    return readStackTrace();
+                case TEST_RESULT:
+                    return readTestResult();
+                case EXCEPTION_PROXY:
+                    ExceptionProxy proxy = new ExceptionProxy();
+                    proxy.readExternal(this);
+                    return proxy;
+                case EXCEPTION_PROXY_VERSION:
+                    return new ExceptionProxy.Version();
+                case COMMAND:
+                    return readCommand();
+                case SERIALIZED:
+                    return readSerialized();
+                default:
+                    throw new StreamCorruptedException("Unknown type " + type);
+            }
+        }
+
+        private String readString() throws IOException {
+            int id = readInt();
+            if (id == -1) {
+                return null;
+            }
+            if (id < strings.size()) {
+                return strings.get(id);
+            }
+            if (id != strings.size()) {
+                throw new StreamCorruptedException("Unknown string " + id);
+            }
+            byte[] bytes = new byte[readInt()];
+            readFully(bytes);
+            String value = new String(bytes, StandardCharsets.UTF_8);
+            strings.add(value);
+            return value;
+        }
+
+        private byte[] readBytes() throws IOException {
+            byte[] bytes = new byte[readInt()];
+            readFully(bytes);
+            return bytes;
+        }
+
+        private StackTraceElement[] readStackTrace() throws IOException {
+            StackTraceElement[] trace = new StackTraceElement[readInt()];
+            for (int i = 0; i < trace.length; i++) {
+                String classLoaderName = readString();
+                String moduleName = readString();
+                String moduleVersion = readString();
+                String className = readString();
+                String methodName = readString();
+                String fileName = readString();
+                int lineNumber = readInt();
+                trace[i] = new StackTraceElement(classLoaderName, moduleName, moduleVersion, className, methodName,
+                    fileName, lineNumber);
+            }
+            return trace;
+        }
+
+        private TestResult readTestResult() throws IOException, ClassNotFoundException {
+            byte status = readByte();
+            TestResult result = TestResult.passed();
+            result.setStatus(status == -1 ? null : Status.values()[status]);
+            String description = (String) readObject();
+            if (description != null) {
+                result.addDescription(description);
+            }
+            result.setStart(readLong());
+            result.setEnd(readLong());
+            ExceptionProxy proxy = (ExceptionProxy) readObject();
+            if (proxy != null) {
+                result.setExceptionProxy(proxy);
+            }
+            return result;
+        }
+
+        private Map<Object, Object> readStringMap() throws IOException, ClassNotFoundException {
+            boolean linked = readBoolean();
+            int size = readInt();
+            Map<Object, Object> map = linked ? new LinkedHashMap<Object, Object>() : new HashMap<Object, Object>();
+            for (int i = 0; i < size; i++) {
+                map.put(readObject(), readObject());
+            }
+            return map;
+        }
+
+        private List<Object> readStringList() throws IOException, ClassNotFoundException {
+            int size = readInt();
+            List<Object> list = new ArrayList<Object>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(readObject());
+            }
+            return list;
+        }
+
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        private Command<?> readCommand() throws IOException, ClassNotFoundException {
+            byte kind = readByte();
+            Command command;
+            switch (kind) {
+                case DEPLOY:
+                    command = new DeployDeploymentCommand((String) readObject());
+                    break;
+                case UNDEPLOY:
+                    command = new UnDeployDeploymentCommand((String) readObject());
+                    break;
+                case GET_DEPLOYMENT:
+                    command = new GetDeploymentCommand((String) readObject());
+                    break;
+                case START_CONTAINER:
+                    String containerQualifier = (String) readObject();
+                    command = new StartContainerCommand(containerQualifier, (Map<String, String>) readObject());
+                    break;
+                case STOP_CONTAINER:
+                    command = new StopContainerCommand((String) readObject());
+                    break;
+                case KILL_CONTAINER:
+                    command = new KillContainerCommand((String) readObject());
+                    break;
+                case CONTAINER_STARTED:
+                    command = new ContainerStartedCommand((String) readObject());
+                    break;
+                default:
+                    throw new StreamCorruptedException("Unknown command " + kind);
+            }
+            command.setResult(readObject());
+            command.setThrowable((Throwable) readObject());
+            return command;
+        }
+
+        private Object readSerialized() throws IOException, ClassNotFoundException {
+            ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(readBytes()));
+            try {
+                return input.readObject();
+            } finally {
+                input.close();
+            }
+        }
+    }
+
+    //-------------------------------------------------------------------------------------||
+    // Internal Helper Methods ------------------------------------------------------------||
+    //-------------------------------------------------------------------------------------||
+
+    private static byte commandKind(Command<?> command) {
+        // only the exact types, sub classes may carry additional state
+        Class<?> type = command.getClass();
+        if (type == DeployDeploymentCommand.class) {
+            return DEPLOY;
+        } else if (type == UnDeployDeploymentCommand.class) {
+            return UNDEPLOY;
+        } else if (type == GetDeploymentCommand.class) {
+            return GET_DEPLOYMENT;
+        } else if (type == StartContainerCommand.class) {
+            return START_CONTAINER;
+        } else if (type == StopContainerCommand.class) {
+            return STOP_CONTAINER;
+        } else if (type == KillContainerCommand.class) {
+            return KILL_CONTAINER;
+        } else if (type == ContainerStartedCommand.class) {
+            return CONTAINER_STARTED;
+        }
+        return -1;
+    }
+
+    private static boolean isStringMap(Object object) {
+        // only the exact types read back, e.g. Properties, TreeMap or unmodifiable maps keep their type when serialized
+        Class<?> type = object.getClass();
+        if (type != HashMap.class && type != LinkedHashMap.class) {
+            return false;
+        }
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+            if (!(entry.getKey() instanceof String) || !(entry.getValue() == null || entry.getValue() instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isStringList(Object object) {
+        if (object.getClass() != ArrayList.class) {
+            return false;
+        }
+        for (Object value : (List<?>) object) {
+            if (!(value instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -18,8 +18,10 @@ package org.jboss.arquillian.container.test.impl.deployment;
 
 import org.jboss.arquillian.container.test.impl.ContainerTestRemoteExtension;
 import org.jboss.arquillian.container.test.impl.RemoteExtensionLoader;
+import org.jboss.arquillian.container.test.impl.codec.CompactPayloadCodec;
 import org.jboss.arquillian.container.test.spi.RemoteLoadableExtension;
 import org.jboss.arquillian.container.test.spi.client.deployment.CachedAuxilliaryArchiveAppender;
+import org.jboss.arquillian.container.test.spi.codec.PayloadCodec;
 import org.jboss.arquillian.core.spi.ExtensionLoader;
 import org.jboss.shrinkwrap.api.Archive;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
@@ -48,6 +50,7 @@ public class ArquillianDeploymentAppender extends CachedAuxilliaryArchiveAppende
                 "org.jboss.shrinkwrap.api",
                 "org.jboss.shrinkwrap.descriptor.api")
             .addAsServiceProvider(RemoteLoadableExtension.class, ContainerTestRemoteExtension.class)
-            .addAsServiceProvider(ExtensionLoader.class, RemoteExtensionLoader.class);
+            .addAsServiceProvider(ExtensionLoader.class, RemoteExtensionLoader.class)
+            .addAsServiceProvider(PayloadCodec.class, CompactPayloadCodec.class);
     }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import java.lang.annotation.Annotation;
 import org.jboss.arquillian.container.test.api.ContainerController;
 import org.jboss.arquillian.core.api.Instance;
 import org.jboss.arquillian.core.api.annotation.Inject;
+import org.jboss.arquillian.core.spi.SharedService;
 import org.jboss.arquillian.test.api.ArquillianResource;
 import org.jboss.arquillian.test.spi.enricher.resource.ResourceProvider;
 
@@ -29,6 +30,7 @@ import org.jboss.arquillian.test.spi.enricher.resource.ResourceProvider;
  *
  * @author <a href="mailto:mgencur@redhat.com">Martin Gencur</a>
  */
+@SharedService
 public class ContainerControllerProvider implements ResourceProvider {
     @Inject
     private Instance<ContainerController> controller;
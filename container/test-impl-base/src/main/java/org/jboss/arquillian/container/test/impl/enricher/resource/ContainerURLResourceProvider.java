@@ -23,6 +23,7 @@ import org.jboss.arquillian.container.test.spi.command.CommandService;
 import org.jboss.arquillian.core.api.Instance;
 import org.jboss.arquillian.core.api.annotation.Inject;
 import org.jboss.arquillian.core.spi.ServiceLoader;
+import org.jboss.arquillian.core.spi.SharedService;
 import org.jboss.arquillian.test.api.ArquillianResource;
 import org.jboss.arquillian.test.spi.enricher.resource.ResourceProvider;
 
@@ -31,6 +32,7 @@ import org.jboss.arquillian.test.spi.enricher.resource.ResourceProvider;
  *
  * @author <a href="mailto:aslak@redhat.com">Aslak Knutsen</a>
  */
+@SharedService
 public class ContainerURLResourceProvider implements ResourceProvider {
     @Inject
     private Instance<ServiceLoader> serviceLoader;
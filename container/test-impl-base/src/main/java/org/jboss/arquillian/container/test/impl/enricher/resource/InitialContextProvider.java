@@ -22,6 +22,7 @@ import javax.naming.Context;
 import javax.naming.InitialContext;
 import org.jboss.arquillian.core.api.Instance;
 import org.jboss.arquillian.core.api.annotation.Inject;
+import org.jboss.arquillian.core.spi.SharedService;
 import org.jboss.arquillian.test.api.ArquillianResource;
 
 /**
@@ -29,6 +30,7 @@ import org.jboss.arquillian.test.api.ArquillianResource;
  *
  * @author <a href="mailto:aslak@redhat.com">Aslak Knutsen</a>
  */
+@SharedService
 public class InitialContextProvider extends OperatesOnDeploymentAwareProvider {
     @Inject
     private Instance<Context> initialContext;
@@ -29,6 +29,7 @@ import org.jboss.arquillian.container.spi.client.protocol.metadata.Servlet;
 import org.jboss.arquillian.container.test.api.TargetsContainer;
 import org.jboss.arquillian.core.api.Instance;
 import org.jboss.arquillian.core.api.annotation.Inject;
+import org.jboss.arquillian.core.spi.SharedService;
 import org.jboss.arquillian.test.api.ArquillianResource;
 import org.jboss.arquillian.test.api.Secured;
 
@@ -38,6 +39,7 @@ import org.jboss.arquillian.test.api.Secured;
  * @author <a href="mailto:aslak@redhat.com">Aslak Knutsen</a>
  * @author <a href="http://community.jboss.org/people/silenius">Samuel Santos</a>
  */
+@SharedService
 public class URLResourceProvider extends OperatesOnDeploymentAwareProvider {
     @Inject
     private Instance<ProtocolMetaData> protocolMetadata;
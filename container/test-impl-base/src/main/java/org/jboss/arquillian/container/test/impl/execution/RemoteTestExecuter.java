@@ -16,12 +16,18 @@
  */
 package org.jboss.arquillian.container.test.impl.execution;
 
+import java.io.Closeable;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import org.jboss.arquillian.container.spi.Container;
 import org.jboss.arquillian.container.spi.ContainerRegistry;
 import org.jboss.arquillian.container.spi.client.container.DeployableContainer;
 import org.jboss.arquillian.container.spi.client.deployment.DeploymentDescription;
 import org.jboss.arquillian.container.spi.client.deployment.DeploymentScenario;
 import org.jboss.arquillian.container.spi.client.protocol.metadata.ProtocolMetaData;
+import org.jboss.arquillian.container.spi.context.DeploymentContext;
+import org.jboss.arquillian.container.spi.context.annotation.DeploymentScoped;
+import org.jboss.arquillian.container.spi.event.UnDeployDeployment;
 import org.jboss.arquillian.container.test.impl.domain.ProtocolDefinition;
 import org.jboss.arquillian.container.test.impl.domain.ProtocolRegistry;
 import org.jboss.arquillian.container.test.impl.execution.event.RemoteExecutionEvent;
@@ -37,6 +43,7 @@ import org.jboss.arquillian.core.api.annotation.Inject;
 import org.jboss.arquillian.core.api.annotation.Observes;
 import org.jboss.arquillian.core.api.threading.ContextSnapshot;
 import org.jboss.arquillian.core.api.threading.ExecutorService;
+import org.jboss.arquillian.core.spi.EventContext;
 import org.jboss.arquillian.test.spi.TestResult;
 import org.jboss.arquillian.test.spi.annotation.TestScoped;
 
@@ -56,6 +63,8 @@ import org.jboss.arquillian.test.spi.annotation.TestScoped;
  * @see DeployableContainer
  */
 public class RemoteTestExecuter {
+    private static final Logger log = Logger.getLogger(RemoteTestExecuter.class.getName());
+
     @Inject
     private Instance<DeploymentDescription> deployment;
 
@@ -78,7 +87,86 @@ public class RemoteTestExecuter {
     @Inject
     private Instance<ExecutorService> executorService;
 
+    @Inject
+    private Instance<DeploymentContext> deploymentContext;
+
+    @Inject
+    @DeploymentScoped
+    private InstanceProducer<RemoteExecutor> remoteExecutor;
+
     public void execute(@Observes RemoteExecutionEvent event) throws Exception {
+        // resolved once per deployment and reused by every test operating on it
+        boolean shared = deploymentContext.get() != null && deploymentContext.get().isActive();
+        RemoteExecutor executor = shared ? getDeploymentExecutor() : createRemoteExecutor();
+        ContextSnapshot state = executorService.get().createSnapshotContext();
+        if (!executor.activate(state)) {
+            // another test is executing on the executor of the deployment, its commands must stay in its own contexts
+            shared = false;
+            executor = createRemoteExecutor();
+            executor.activate(state);
+        }
+        try {
+            testResult.set(executor.getExecutor().invoke(event.getExecutor()));
+        } finally {
+            if (shared) {
+                executor.deactivate();
+            } else {
+                executor.close();
+            }
+        }
+    }
+
+    /**
+     * Close the executor of the deployment before it is undeployed.
+     */
+    public void close(@Observes(precedence = -50) EventContext<UnDeployDeployment> context) {
+        try {
+            RemoteExecutor executor = remoteExecutor.get();
+            if (executor != null) {
+                executor.close();
+            }
+        } finally {
+            context.proceed();
+        }
+    }
+
+    // TODO: cast to raw type to get away from generic issue..
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ContainerMethodExecutor getContainerMethodExecutor(ProtocolDefinition protocol,
+        ProtocolConfiguration protocolConfiguration) {
+        final ContextSnapshot state = executorService.get().createSnapshotContext();
+
+        ContainerMethodExecutor executor = ((Protocol) protocol.getProtocol()).getExecutor(
+            protocolConfiguration,
+            protocolMetadata.get(), new CommandCallback() {
+                @Override
+                public void fired(Command<?> event) {
+                    state.activate();
+                    try {
+                        remoteEvent.fire(event);
+                    } finally {
+                        state.deactivate();
+                    }
+                }
+            });
+        return executor;
+    }
+
+    //-------------------------------------------------------------------------------------||
+    // Internal Helper Methods ------------------------------------------------------------||
+    //-------------------------------------------------------------------------------------||
+
+    private synchronized RemoteExecutor getDeploymentExecutor() throws Exception {
+        RemoteExecutor executor = remoteExecutor.get();
+        if (executor == null) {
+            executor = createRemoteExecutor();
+            remoteExecutor.set(executor);
+        }
+        return executor;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private RemoteExecutor createRemoteExecutor() throws Exception {
         Container container = this.container.get();
         DeploymentDescription deployment = this.deployment.get();
 
@@ -98,21 +186,19 @@ public class RemoteTestExecuter {
         } else {
             protocolConfiguration = protocol.createProtocolConfiguration();
         }
-        ContainerMethodExecutor executor = getContainerMethodExecutor(protocol, protocolConfiguration);
-        testResult.set(executor.invoke(event.getExecutor()));
-    }
 
-    // TODO: cast to raw type to get away from generic issue..
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    public ContainerMethodExecutor getContainerMethodExecutor(ProtocolDefinition protocol,
-        ProtocolConfiguration protocolConfiguration) {
-        final ContextSnapshot state = executorService.get().createSnapshotContext();
-
-        ContainerMethodExecutor executor = ((Protocol) protocol.getProtocol()).getExecutor(
+        final RemoteExecutor executor = new RemoteExecutor();
+        executor.setExecutor(((Protocol) protocol.getProtocol()).getExecutor(
             protocolConfiguration,
             protocolMetadata.get(), new CommandCallback() {
                 @Override
                 public void fired(Command<?> event) {
+                    // fire in the contexts of the test currently executing
+                    ContextSnapshot state = executor.getState();
+                    if (state == null) {
+                        remoteEvent.fire(event);
+                        return;
+                    }
                     state.activate();
                     try {
                         remoteEvent.fire(event);
@@ -120,7 +206,53 @@ public class RemoteTestExecuter {
                         state.deactivate();
                     }
                 }
-            });
+            }));
         return executor;
     }
+
+    /**
+     * The {@link ContainerMethodExecutor} of a deployment and the contexts of the test it currently executes. Commands
+     * do not tell which test sent them, so it executes one test at a time.
+     */
+    static final class RemoteExecutor {
+        private ContainerMethodExecutor executor;
+        private ContextSnapshot state;
+
+        ContainerMethodExecutor getExecutor() {
+            return executor;
+        }
+
+        void setExecutor(ContainerMethodExecutor executor) {
+            this.executor = executor;
+        }
+
+        synchronized ContextSnapshot getState() {
+            return state;
+        }
+
+        /**
+         * @return false if another test is still executing
+         */
+        synchronized boolean activate(ContextSnapshot state) {
+            if (this.state != null) {
+                return false;
+            }
+            this.state = state;
+            return true;
+        }
+
+        synchronized void deactivate() {
+            this.state = null;
+        }
+
+        void close() {
+            if (executor instanceof Closeable) {
+                try {
+                    ((Closeable) executor).close();
+                } catch (Exception e) {
+                    log.log(Level.WARNING, "Could not close " + executor, e);
+                }
+            }
+        }
+    }
 }
@@ -17,13 +17,19 @@
 package org.jboss.arquillian.container.test.impl.client.container;
 
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
 import org.jboss.arquillian.container.spi.event.StartSuiteContainers;
 import org.jboss.arquillian.container.spi.event.StopSuiteContainers;
 import org.jboss.arquillian.container.test.test.AbstractContainerTestTestBase;
 import org.jboss.arquillian.core.api.annotation.ApplicationScoped;
+import org.jboss.arquillian.test.spi.event.suite.AfterClass;
 import org.jboss.arquillian.test.spi.event.suite.BeforeClass;
 import org.jboss.shrinkwrap.descriptor.api.Descriptors;
+import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -64,6 +70,7 @@ public class ContainerRestarterTestCase extends AbstractContainerTestTestBase {
 
         for (int i = 0; i < 6; i++) {
             fire(new BeforeClass(getClass()));
+            fire(new AfterClass(getClass()));
         }
 
         assertEventFired(StartSuiteContainers.class, 1);
@@ -84,4 +91,132 @@ public class ContainerRestarterTestCase extends AbstractContainerTestTestBase {
         assertEventFired(StartSuiteContainers.class, 0);
         assertEventFired(StopSuiteContainers.class, 0);
     }
+
+    @Test
+    public void shouldWaitForTestClassesOnOtherThreadsBeforeRestart() throws Exception {
+        ArquillianDescriptor desc = Descriptors.create(ArquillianDescriptor.class)
+            .engine().maxTestClassesBeforeRestart(1);
+
+        bind(ApplicationScoped.class, ArquillianDescriptor.class, desc);
+
+        ExecutorService running = Executors.newSingleThreadExecutor();
+        ExecutorService starting = Executors.newSingleThreadExecutor();
+        try {
+            running.submit(fireEvent(new BeforeClass(getClass()))).get();
+
+            starting.submit(fireEvent(new BeforeClass(getClass())));
+            starting.shutdown();
+            Assert.assertFalse("Verify restart waits for the running test class",
+                starting.awaitTermination(200, TimeUnit.MILLISECONDS));
+            assertEventFired(StopSuiteContainers.class, 0);
+
+            running.submit(fireEvent(new AfterClass(getClass()))).get();
+            Assert.assertTrue(starting.awaitTermination(5, TimeUnit.SECONDS));
+
+            assertEventFired(StopSuiteContainers.class, 1);
+            assertEventFired(StartSuiteContainers.class, 1);
+        } finally {
+            running.shutdownNow();
+            starting.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldHoldBackTestClassesStartingWhileRestartIsPending() throws Exception {
+        ArquillianDescriptor desc = Descriptors.create(ArquillianDescriptor.class)
+            .engine().maxTestClassesBeforeRestart(2);
+
+        bind(ApplicationScoped.class, ArquillianDescriptor.class, desc);
+
+        ExecutorService running = Executors.newSingleThreadExecutor();
+        ExecutorService restarting = Executors.newSingleThreadExecutor();
+        ExecutorService starting = Executors.newSingleThreadExecutor();
+        try {
+            running.submit(fireEvent(new BeforeClass(getClass()))).get();
+            running.submit(fireEvent(new BeforeClass(getClass()))).get();
+
+            // third test class restarts, waits for the two running ones
+            restarting.submit(fireEvent(new BeforeClass(getClass())));
+            restarting.shutdown();
+            Assert.assertFalse(restarting.awaitTermination(200, TimeUnit.MILLISECONDS));
+
+            // fourth test class does not restart, but must not keep the restart waiting either
+            starting.submit(fireEvent(new BeforeClass(getClass())));
+            starting.shutdown();
+            Assert.assertFalse("Verify test classes wait for a pending restart",
+                starting.awaitTermination(200, TimeUnit.MILLISECONDS));
+
+            running.submit(fireEvent(new AfterClass(getClass()))).get();
+            running.submit(fireEvent(new AfterClass(getClass()))).get();
+            Assert.assertTrue(restarting.awaitTermination(5, TimeUnit.SECONDS));
+            Assert.assertTrue(starting.awaitTermination(5, TimeUnit.SECONDS));
+
+            assertEventFired(StopSuiteContainers.class, 1);
+            assertEventFired(StartSuiteContainers.class, 1);
+        } finally {
+            running.shutdownNow();
+            restarting.shutdownNow();
+            starting.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldNotRestartWhileTestClassIsRunningOnSameThread() throws Exception {
+        ArquillianDescriptor desc = Descriptors.create(ArquillianDescriptor.class)
+            .engine().maxTestClassesBeforeRestart(1);
+
+        bind(ApplicationScoped.class, ArquillianDescriptor.class, desc);
+
+        fire(new BeforeClass(getClass()));
+        // e.g. stolen by a ForkJoin worker waiting for the first test class
+        fire(new BeforeClass(getClass()));
+        fire(new AfterClass(getClass()));
+
+        assertEventFired(StopSuiteContainers.class, 0);
+
+        fire(new AfterClass(getClass()));
+        fire(new BeforeClass(getClass()));
+
+        assertEventFired(StopSuiteContainers.class, 1);
+        assertEventFired(StartSuiteContainers.class, 1);
+    }
+
+    @Test
+    public void shouldRestartAfterTestClassFinishedOnAnotherThread() throws Exception {
+        ArquillianDescriptor desc = Descriptors.create(ArquillianDescriptor.class)
+            .engine().maxTestClassesBeforeRestart(1);
+
+        bind(ApplicationScoped.class, ArquillianDescriptor.class, desc);
+
+        ExecutorService before = Executors.newSingleThreadExecutor();
+        ExecutorService after = Executors.newSingleThreadExecutor();
+        ExecutorService starting = Executors.newSingleThreadExecutor();
+        try {
+            // e.g. TestNG parallel methods, AfterClass runs on the thread of the last test method
+            before.submit(fireEvent(new BeforeClass(getClass()))).get();
+            after.submit(fireEvent(new AfterClass(getClass()))).get();
+
+            starting.submit(fireEvent(new BeforeClass(getClass())));
+            starting.shutdown();
+            Assert.assertTrue("Verify restart does not wait for a finished test class",
+                starting.awaitTermination(5, TimeUnit.SECONDS));
+
+            assertEventFired(StopSuiteContainers.class, 1);
+            assertEventFired(StartSuiteContainers.class, 1);
+        } finally {
+            before.shutdownNow();
+            after.shutdownNow();
+            starting.shutdownNow();
+        }
+    }
+
+    private Callable<Void> fireEvent(final Object event) {
+        return new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                fire(event);
+                return null;
+            }
+        };
+    }
 }
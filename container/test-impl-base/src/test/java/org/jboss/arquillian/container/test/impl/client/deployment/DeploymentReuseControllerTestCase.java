@@ -0,0 +1,286 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.test.impl.client.deployment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
+import org.jboss.arquillian.config.descriptor.api.ContainerDef;
+import org.jboss.arquillian.config.descriptor.api.EngineDef;
+import org.jboss.arquillian.container.impl.LocalContainerRegistry;
+import org.jboss.arquillian.container.impl.client.ContainerDeploymentContextHandler;
+import org.jboss.arquillian.container.impl.client.container.ContainerDeployController;
+import org.jboss.arquillian.container.spi.Container;
+import org.jboss.arquillian.container.spi.Container.State;
+import org.jboss.arquillian.container.spi.ContainerRegistry;
+import org.jboss.arquillian.container.spi.client.container.DeployableContainer;
+import org.jboss.arquillian.container.spi.client.deployment.Deployment;
+import org.jboss.arquillian.container.spi.client.deployment.DeploymentDescription;
+import org.jboss.arquillian.container.spi.client.deployment.DeploymentScenario;
+import org.jboss.arquillian.container.spi.client.deployment.TargetDescription;
+import org.jboss.arquillian.container.spi.client.protocol.metadata.ProtocolMetaData;
+import org.jboss.arquillian.container.spi.context.DeploymentContext;
+import org.jboss.arquillian.container.spi.event.DeployDeployment;
+import org.jboss.arquillian.container.spi.event.DeployManagedDeployments;
+import org.jboss.arquillian.container.spi.event.StopContainer;
+import org.jboss.arquillian.container.spi.event.UnDeployManagedDeployments;
+import org.jboss.arquillian.container.test.test.AbstractContainerTestTestBase;
+import org.jboss.arquillian.core.api.Injector;
+import org.jboss.arquillian.core.api.Instance;
+import org.jboss.arquillian.core.api.annotation.ApplicationScoped;
+import org.jboss.arquillian.core.api.annotation.Inject;
+import org.jboss.arquillian.core.spi.ServiceLoader;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.jboss.shrinkwrap.descriptor.api.Descriptors;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verify that {@link DeploymentReuseController} keeps identical deployments deployed between test classes.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+@RunWith(MockitoJUnitRunner.class)
+public class DeploymentReuseControllerTestCase extends AbstractContainerTestTestBase {
+    private static final String CONTAINER_NAME = "container";
+
+    @Inject
+    private Instance<Injector> injector;
+
+    @Mock
+    private ServiceLoader serviceLoader;
+
+    @Mock
+    private ContainerDef containerDef;
+
+    @Mock
+    private DeployableContainer deployableContainer;
+
+    @Mock
+    private ProtocolMetaData protocolMetaData;
+
+    private Container container;
+
+    @Override
+    protected void addExtensions(List<Class<?>> extensions) {
+        extensions.add(ContainerDeployController.class);
+        extensions.add(ContainerDeploymentContextHandler.class);
+        extensions.add(DeploymentReuseController.class);
+    }
+
+    @Before
+    public void setup() throws Exception {
+        when(deployableContainer.deploy(isA(Archive.class))).thenReturn(protocolMetaData);
+        when(serviceLoader.onlyOne(eq(DeployableContainer.class))).thenReturn(deployableContainer);
+        when(containerDef.getContainerName()).thenReturn(CONTAINER_NAME);
+
+        ContainerRegistry registry = new LocalContainerRegistry(injector.get());
+        container = registry.create(containerDef, serviceLoader);
+        container.setState(State.STARTED);
+        bind(ApplicationScoped.class, ContainerRegistry.class, registry);
+    }
+
+    @Test
+    public void shouldReuseDeploymentOfIdenticalArchive() throws Exception {
+        enableReuse(null);
+
+        runTestClass(createArchive());
+        Deployment deployment = runTestClass(createArchive());
+
+        verify(deployableContainer, times(1)).deploy(isA(Archive.class));
+        verify(deployableContainer, times(0)).undeploy(isA(Archive.class));
+        Assert.assertFalse(deployment.isDeployed());
+
+        fire(new StopContainer(container));
+
+        verify(deployableContainer, times(1)).undeploy(isA(Archive.class));
+    }
+
+    @Test
+    public void shouldExposeProtocolMetaDataOfReusedDeployment() throws Exception {
+        enableReuse(null);
+
+        runTestClass(createArchive());
+        Deployment deployment = deploy(createArchive());
+
+        Assert.assertTrue(deployment.isDeployed());
+        getManager().getContext(DeploymentContext.class).activate(deployment);
+        try {
+            Assert.assertSame(protocolMetaData, getManager().resolve(ProtocolMetaData.class));
+        } finally {
+            getManager().getContext(DeploymentContext.class).deactivate();
+        }
+    }
+
+    @Test
+    public void shouldNotReuseDeploymentOfDifferentArchive() throws Exception {
+        enableReuse(null);
+
+        runTestClass(createArchive());
+        runTestClass(createArchive().addAsResource(new StringAsset("changed"), "changed.txt"));
+
+        verify(deployableContainer, times(2)).deploy(isA(Archive.class));
+
+        fire(new StopContainer(container));
+
+        verify(deployableContainer, times(2)).undeploy(isA(Archive.class));
+    }
+
+    @Test
+    public void shouldUndeployLeastRecentlyUsedDeploymentWhenLimitIsReached() throws Exception {
+        enableReuse(1);
+        Archive<?> first = createArchive();
+
+        runTestClass(first);
+        runTestClass(createArchive().addAsResource(new StringAsset("changed"), "changed.txt"));
+
+        verify(deployableContainer, times(1)).undeploy(first);
+    }
+
+    @Test
+    public void shouldUndeployAfterEveryTestClassWhenNotEnabled() throws Exception {
+        bind(ApplicationScoped.class, ArquillianDescriptor.class, Descriptors.create(ArquillianDescriptor.class));
+
+        runTestClass(createArchive());
+        runTestClass(createArchive());
+
+        verify(deployableContainer, times(2)).deploy(isA(Archive.class));
+        verify(deployableContainer, times(2)).undeploy(isA(Archive.class));
+    }
+
+    @Test
+    public void shouldExposeProtocolMetaDataWhenUndeployingReusedDeployment() throws Exception {
+        enableReuse(null);
+        final List<ProtocolMetaData> seen = new ArrayList<ProtocolMetaData>();
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                seen.add(getManager().resolve(ProtocolMetaData.class));
+                return null;
+            }
+        }).when(deployableContainer).undeploy(isA(Archive.class));
+
+        runTestClass(createArchive());
+        fire(new StopContainer(container));
+
+        Assert.assertEquals(1, seen.size());
+        Assert.assertSame(protocolMetaData, seen.get(0));
+    }
+
+    @Test
+    public void shouldDeployOnceWhenTestClassesDeployTheSameArchiveInParallel() throws Exception {
+        enableReuse(null);
+        final CountDownLatch deploying = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(deployableContainer.deploy(isA(Archive.class))).thenAnswer(new Answer<ProtocolMetaData>() {
+            @Override
+            public ProtocolMetaData answer(InvocationOnMock invocation) throws Throwable {
+                deploying.countDown();
+                release.await(10, TimeUnit.SECONDS);
+                return protocolMetaData;
+            }
+        });
+        final Deployment first = createDeployment(createArchive());
+        final Deployment second = createDeployment(createArchive());
+
+        Thread firstClass = deployInParallel(first);
+        Assert.assertTrue(deploying.await(10, TimeUnit.SECONDS));
+        Thread secondClass = deployInParallel(second);
+        long deadline = System.currentTimeMillis() + 10000;
+        while (secondClass.getState() != Thread.State.WAITING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+        firstClass.join(10000);
+        secondClass.join(10000);
+
+        verify(deployableContainer, times(1)).deploy(isA(Archive.class));
+        Assert.assertTrue(first.isDeployed());
+        Assert.assertTrue(second.isDeployed());
+    }
+
+    private void enableReuse(Integer maxReusedDeployments) {
+        EngineDef engine = Descriptors.create(ArquillianDescriptor.class).engine().deploymentReuse(true);
+        if (maxReusedDeployments != null) {
+            engine.maxReusedDeployments(maxReusedDeployments);
+        }
+        bind(ApplicationScoped.class, ArquillianDescriptor.class, engine);
+    }
+
+    private Deployment runTestClass(Archive<?> archive) {
+        Deployment deployment = deploy(archive);
+        fire(new UnDeployManagedDeployments());
+        return deployment;
+    }
+
+    private Thread deployInParallel(final Deployment deployment) {
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                fire(new DeployDeployment(container, deployment));
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    private Deployment createDeployment(Archive<?> archive) {
+        return new Deployment(
+            new DeploymentDescription("deployment", ShrinkWrap.create(JavaArchive.class))
+                .setTarget(new TargetDescription(CONTAINER_NAME))
+                .shouldBeTestable(true)
+                .setTestableArchive(archive));
+    }
+
+    private Deployment deploy(Archive<?> archive) {
+        DeploymentScenario scenario = new DeploymentScenario();
+        scenario.addDeployment(
+            new DeploymentDescription("deployment", ShrinkWrap.create(JavaArchive.class))
+                .setTarget(new TargetDescription(CONTAINER_NAME))
+                .shouldBeTestable(true)
+                .setTestableArchive(archive));
+        bind(ApplicationScoped.class, DeploymentScenario.class, scenario);
+
+        fire(new DeployManagedDeployments());
+        return scenario.deployments().get(0);
+    }
+
+    private static WebArchive createArchive() {
+        return ShrinkWrap.create(WebArchive.class, "test.war")
+            .addClass(DeploymentReuseControllerTestCase.class)
+            .addAsLibrary(
+                ShrinkWrap.create(JavaArchive.class, "lib.jar").addAsResource(new StringAsset("lib"), "lib.txt"));
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.test.impl.client.timing;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
+import org.jboss.arquillian.container.spi.Container;
+import org.jboss.arquillian.container.spi.client.container.DeployableContainer;
+import org.jboss.arquillian.container.spi.client.deployment.DeploymentDescription;
+import org.jboss.arquillian.container.spi.context.ContainerContext;
+import org.jboss.arquillian.container.spi.context.annotation.ContainerScoped;
+import org.jboss.arquillian.container.spi.event.container.AfterDeploy;
+import org.jboss.arquillian.container.spi.event.container.BeforeDeploy;
+import org.jboss.arquillian.container.test.test.AbstractContainerTestTestBase;
+import org.jboss.arquillian.core.api.annotation.ApplicationScoped;
+import org.jboss.arquillian.test.spi.TestClass;
+import org.jboss.arquillian.test.spi.annotation.ClassScoped;
+import org.jboss.arquillian.test.spi.event.suite.AfterClass;
+import org.jboss.arquillian.test.spi.event.suite.AfterSuite;
+import org.jboss.arquillian.test.spi.event.suite.BeforeClass;
+import org.jboss.arquillian.test.spi.event.suite.BeforeSuite;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.descriptor.api.Descriptors;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies the timing report of the {@link TimingRecorder}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class TimingRecorderTestCase extends AbstractContainerTestTestBase {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Mock
+    private Container<?> container;
+
+    @Mock
+    private DeployableContainer<?> deployableContainer;
+
+    @Override
+    protected void addExtensions(List<Class<?>> extensions) {
+        extensions.add(TimingRecorder.class);
+    }
+
+    @Test
+    public void shouldWriteReportPerPhaseClassContainerAndDeployment() throws Exception {
+        File directory = folder.newFolder();
+        bind(ApplicationScoped.class, ArquillianDescriptor.class, Descriptors.create(ArquillianDescriptor.class)
+            .extension("timing")
+            .property("reportDirectory", directory.getAbsolutePath())
+            .property("reportName", "timing"));
+
+        when(container.getName()).thenReturn("wildfly");
+        DeploymentDescription description =
+            new DeploymentDescription("test.jar", ShrinkWrap.create(JavaArchive.class, "test.jar"));
+
+        fire(new BeforeSuite());
+        fire(new BeforeClass(getClass()));
+        bind(ClassScoped.class, TestClass.class, new TestClass(getClass()));
+        getManager().getContext(ContainerContext.class).activate("wildfly");
+        try {
+            bind(ContainerScoped.class, Container.class, container);
+            fire(new BeforeDeploy(deployableContainer, description));
+            fire(new AfterDeploy(deployableContainer, description));
+        } finally {
+            getManager().getContext(ContainerContext.class).deactivate();
+        }
+        fire(new AfterClass(getClass()));
+        fire(new AfterSuite());
+
+        String json = read(new File(directory, "timing.json"));
+        Assert.assertTrue(json, json.contains("\"suiteMillis\": "));
+        Assert.assertTrue(json, json.contains("{\"phase\": \"deployment.deploy\", \"testClass\": \""
+            + getClass().getName() + "\", \"container\": \"wildfly\", \"deployment\": \"test.jar\", \"count\": 1"));
+        Assert.assertTrue(json, json.contains("{\"phase\": \"class\", \"testClass\": \"" + getClass().getName()
+            + "\", \"container\": null, \"deployment\": null, \"count\": 1"));
+        Assert.assertTrue(json, json.contains("{\"container\": \"wildfly\", \"phases\": {\"deployment.deploy\": "));
+
+        List<String> csv = Files.readAllLines(new File(directory, "timing.csv").toPath(), StandardCharsets.UTF_8);
+        Assert.assertEquals("phase,testClass,container,deployment,count,totalMillis,maxMillis", csv.get(0));
+        Assert.assertTrue(csv.get(1).startsWith("suite,,,,1,"));
+        Assert.assertTrue(csv.get(2), csv.get(2).startsWith(
+            "deployment.deploy," + getClass().getName() + ",wildfly,test.jar,1,"));
+        Assert.assertTrue(csv.get(3), csv.get(3).startsWith("class," + getClass().getName() + ",,,1,"));
+    }
+
+    @Test
+    public void shouldOnlyWriteConfiguredFormats() throws Exception {
+        File directory = folder.newFolder();
+        bind(ApplicationScoped.class, ArquillianDescriptor.class, Descriptors.create(ArquillianDescriptor.class)
+            .extension("timing")
+            .property("reportDirectory", directory.getAbsolutePath())
+            .property("format", "csv"));
+
+        fire(new BeforeSuite());
+        fire(new AfterSuite());
+
+        Assert.assertTrue(new File(directory, "arquillian-timing.csv").isFile());
+        Assert.assertFalse(new File(directory, "arquillian-timing.json").exists());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectUnknownFormat() throws Exception {
+        new TimingConfiguration(Collections.singletonMap("format", "json,xml"));
+    }
+
+    @Test
+    public void shouldKeepSlowestMeasurements() throws Exception {
+        TimingReport report = new TimingReport(new TimingConfiguration(Collections.singletonMap("slowest", "2")));
+        report.record(TimingPhase.TEST, "A", null, null, "m1", 1000000L);
+        report.record(TimingPhase.TEST, "A", null, null, "m3", 3000000L);
+        report.record(TimingPhase.TEST, "A", null, null, "m2", 2000000L);
+
+        String summary = report.getSummary();
+        Assert.assertTrue(summary, summary.contains("6.000 ms"));
+        Assert.assertTrue(summary, summary.indexOf("A m3") < summary.indexOf("A m2"));
+        Assert.assertFalse(summary, summary.contains("A m1"));
+    }
+
+    private static String read(File file) throws Exception {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.test.impl.codec;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import org.jboss.arquillian.container.test.impl.client.container.command.StartContainerCommand;
+import org.jboss.arquillian.container.test.impl.client.deployment.command.DeployDeploymentCommand;
+import org.jboss.arquillian.container.test.spi.codec.JavaSerializationCodec;
+import org.jboss.arquillian.container.test.spi.codec.PayloadCodec;
+import org.jboss.arquillian.container.test.spi.util.PayloadCodecs;
+import org.jboss.arquillian.test.spi.TestResult;
+import org.jboss.arquillian.test.spi.TestResult.Status;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Verify the {@link CompactPayloadCodec} round trips the built-in payloads.
+ */
+public class CompactPayloadCodecTestCase {
+
+    @Test
+    public void shouldBeAvailableByName() throws Exception {
+        Assert.assertTrue(PayloadCodecs.getCodec(CompactPayloadCodec.NAME) instanceof CompactPayloadCodec);
+        Assert.assertTrue(PayloadCodecs.selectCodec("unknown") instanceof JavaSerializationCodec);
+        Assert.assertNull(PayloadCodecs.getCodec("unknown"));
+        Assert.assertSame("Codec should be resolved once",
+            PayloadCodecs.getCodec(CompactPayloadCodec.NAME), PayloadCodecs.getCodec(CompactPayloadCodec.NAME));
+    }
+
+    @Test
+    public void shouldRoundTripTestResults() throws Exception {
+        TestResult passed = TestResult.passed("all good").setStart(10).setEnd(20);
+        TestResult failed = TestResult.failed(new IllegalStateException("failed", new RuntimeException("cause")));
+
+        ObjectInput input = roundTrip(new CompactPayloadCodec(), passed, failed);
+        TestResult readPassed = (TestResult) input.readObject();
+        TestResult readFailed = (TestResult) input.readObject();
+
+        Assert.assertEquals(Status.PASSED, readPassed.getStatus());
+        Assert.assertEquals("all good", readPassed.getDescription());
+        Assert.assertEquals(10, readPassed.getStart());
+        Assert.assertEquals(20, readPassed.getEnd());
+        Assert.assertNull(readPassed.getThrowable());
+
+        Assert.assertEquals(Status.FAILED, readFailed.getStatus());
+        Assert.assertTrue(readFailed.getThrowable() instanceof IllegalStateException);
+        Assert.assertEquals("failed", readFailed.getThrowable().getMessage());
+        Assert.assertArrayEquals(
+            failed.getThrowable().getStackTrace(), readFailed.getThrowable().getStackTrace());
+    }
+
+    @Test
+    public void shouldRoundTripBuiltInCommands() throws Exception {
+        DeployDeploymentCommand deploy = new DeployDeploymentCommand("test.war");
+        deploy.setResult("DEPLOYED");
+        StartContainerCommand start =
+            new StartContainerCommand("container", Collections.singletonMap("javaVmArguments", "-Xmx1g"));
+
+        ObjectInput input = roundTrip(new CompactPayloadCodec(), deploy, start);
+        DeployDeploymentCommand readDeploy = (DeployDeploymentCommand) input.readObject();
+        StartContainerCommand readStart = (StartContainerCommand) input.readObject();
+
+        Assert.assertEquals("test.war", readDeploy.getDeploymentName());
+        Assert.assertEquals("DEPLOYED", readDeploy.getResult());
+        Assert.assertEquals("container", readStart.getContainerQualifier());
+        Map<String, String> configuration = readStart.getConfiguration();
+        Assert.assertEquals("-Xmx1g", configuration.get("javaVmArguments"));
+        Assert.assertNull(readStart.getResult());
+    }
+
+    @Test
+    public void shouldFallBackToJavaSerializationForOtherObjects() throws Exception {
+        ObjectInput input = roundTrip(new CompactPayloadCodec(), Status.SKIPPED);
+
+        Assert.assertEquals(Status.SKIPPED, input.readObject());
+    }
+
+    @Test
+    public void shouldKeepTypeOfStringMapsAndLists() throws Exception {
+        Map<String, String> hashMap = new HashMap<String, String>();
+        hashMap.put("key", "value");
+        Map<String, String> linkedHashMap = new LinkedHashMap<String, String>(hashMap);
+        Map<String, String> treeMap = new TreeMap<String, String>(hashMap);
+        Properties properties = new Properties();
+        properties.setProperty("key", "value");
+        List<String> arrayList = new ArrayList<String>(Arrays.asList("first", "second"));
+        List<String> unmodifiableList = Collections.unmodifiableList(arrayList);
+
+        Object[] objects = {hashMap, linkedHashMap, treeMap, properties, arrayList, unmodifiableList};
+        ObjectInput input = roundTrip(new CompactPayloadCodec(), objects);
+        for (Object object : objects) {
+            Object read = input.readObject();
+            Assert.assertEquals(object.getClass(), read.getClass());
+            Assert.assertEquals(object, read);
+        }
+    }
+
+    @Test
+    public void shouldBeSmallerThanJavaSerialization() throws Exception {
+        TestResult failed = TestResult.failed(new IllegalStateException("failed"));
+
+        Assert.assertTrue(
+            "Compact encoding should be smaller",
+            encode(new CompactPayloadCodec(), failed).length < encode(new JavaSerializationCodec(), failed).length);
+    }
+
+    private static ObjectInput roundTrip(PayloadCodec codec, Object... objects) throws Exception {
+        InputStream in = new BufferedInputStream(new ByteArrayInputStream(encode(codec, objects)));
+        PayloadCodec detected = PayloadCodecs.readHeader(in);
+        Assert.assertEquals(codec.getName(), detected.getName());
+        return detected.createInput(in);
+    }
+
+    private static byte[] encode(PayloadCodec codec, Object... objects) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PayloadCodecs.writeHeader(codec, bytes);
+        ObjectOutput output = codec.createOutput(bytes);
+        for (Object object : objects) {
+            output.writeObject(object);
+        }
+        output.close();
+        return bytes.toByteArray();
+    }
+}
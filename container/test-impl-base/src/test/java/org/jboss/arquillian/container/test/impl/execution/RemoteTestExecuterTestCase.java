@@ -16,15 +16,20 @@
  */
 package org.jboss.arquillian.container.test.impl.execution;
 
+import java.io.Closeable;
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import org.jboss.arquillian.container.spi.Container;
+import org.jboss.arquillian.container.spi.client.deployment.Deployment;
 import org.jboss.arquillian.container.spi.client.deployment.DeploymentDescription;
 import org.jboss.arquillian.container.spi.client.protocol.ProtocolDescription;
 import org.jboss.arquillian.container.spi.client.protocol.metadata.ProtocolMetaData;
+import org.jboss.arquillian.container.spi.context.DeploymentContext;
+import org.jboss.arquillian.container.spi.event.UnDeployDeployment;
 import org.jboss.arquillian.container.test.impl.domain.ProtocolDefinition;
 import org.jboss.arquillian.container.test.impl.domain.ProtocolRegistry;
 import org.jboss.arquillian.container.test.impl.domain.ProtocolRegistryTestCase;
@@ -41,6 +46,7 @@ import org.jboss.arquillian.core.test.context.ManagerTestContext;
 import org.jboss.arquillian.core.test.context.ManagerTestContextImpl;
 import org.jboss.arquillian.test.spi.TestMethodExecutor;
 import org.jboss.arquillian.test.spi.TestResult;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -82,6 +88,10 @@ public class RemoteTestExecuterTestCase extends AbstractContainerTestTestBase {
     @Mock
     private ProtocolMetaData protocolMetaData;
 
+    private final List<TestContainerMethodExecutor> executors = new ArrayList<TestContainerMethodExecutor>();
+
+    private Runnable onInvoke;
+
     @Override
     protected void addContexts(List<Class<? extends Context>> contexts) {
         super.addContexts(contexts);
@@ -111,7 +121,10 @@ public class RemoteTestExecuterTestCase extends AbstractContainerTestTestBase {
             Mockito.any(CommandCallback.class))).thenAnswer(new Answer<ContainerMethodExecutor>() {
             @Override
             public ContainerMethodExecutor answer(InvocationOnMock invocation) throws Throwable {
-                return new TestContainerMethodExecutor((CommandCallback) invocation.getArguments()[2]);
+                TestContainerMethodExecutor executor =
+                    new TestContainerMethodExecutor((CommandCallback) invocation.getArguments()[2]);
+                executors.add(executor);
+                return executor;
             }
         });
     }
@@ -123,12 +136,67 @@ public class RemoteTestExecuterTestCase extends AbstractContainerTestTestBase {
         assertEventFiredInContext(TestStringCommand.class, ManagerTestContext.class);
     }
 
+    @Test
+    public void shouldCloseExecutorWhenNotDeploymentScoped() throws Exception {
+        fire(new RemoteExecutionEvent(testExecutor));
+        fire(new RemoteExecutionEvent(testExecutor));
+
+        Assert.assertEquals(2, executors.size());
+        Assert.assertTrue(executors.get(0).closed);
+        Assert.assertTrue(executors.get(1).closed);
+    }
+
+    @Test
+    public void shouldReuseExecutorWithinDeploymentAndCloseOnUnDeploy() throws Exception {
+        Deployment deployment = new Deployment(deploymentDescription);
+        getManager().getContext(DeploymentContext.class).activate(deployment);
+        getManager().getContext(ManagerTestContext.class).activate();
+
+        fire(new RemoteExecutionEvent(testExecutor));
+        fire(new RemoteExecutionEvent(testExecutor));
+
+        Assert.assertEquals("Verify the executor was created once per deployment", 1, executors.size());
+        Mockito.verify(protocolDefinition, Mockito.times(1)).createProtocolConfiguration();
+        assertEventFiredInContext(TestStringCommand.class, ManagerTestContext.class);
+        Assert.assertFalse(executors.get(0).closed);
+
+        fire(new UnDeployDeployment(container, deployment));
+
+        Assert.assertTrue("Verify the executor was closed on undeploy", executors.get(0).closed);
+    }
+
+    @Test
+    public void shouldNotShareExecutorOfDeploymentWithOverlappingTest() throws Exception {
+        Deployment deployment = new Deployment(deploymentDescription);
+        getManager().getContext(DeploymentContext.class).activate(deployment);
+
+        onInvoke = new Runnable() {
+            @Override
+            public void run() {
+                onInvoke = null;
+                // a second test starts while the first one still executes
+                fire(new RemoteExecutionEvent(testExecutor));
+            }
+        };
+        fire(new RemoteExecutionEvent(testExecutor));
+
+        Assert.assertEquals("Verify the overlapping test used its own executor", 2, executors.size());
+        Assert.assertFalse(executors.get(0).closed);
+        Assert.assertTrue(executors.get(1).closed);
+        assertEventFired(TestStringCommand.class, 2);
+
+        fire(new RemoteExecutionEvent(testExecutor));
+
+        Assert.assertEquals("Verify the executor of the deployment is reused afterwards", 2, executors.size());
+    }
+
     private Method getTestMethod(String name) throws Exception {
         return this.getClass().getMethod(name);
     }
 
-    public class TestContainerMethodExecutor implements ContainerMethodExecutor {
+    public class TestContainerMethodExecutor implements ContainerMethodExecutor, Closeable {
         private CommandCallback callback;
+        private boolean closed;
 
         public TestContainerMethodExecutor(CommandCallback callback) {
             this.callback = callback;
@@ -136,6 +204,9 @@ public class RemoteTestExecuterTestCase extends AbstractContainerTestTestBase {
 
         @Override
         public TestResult invoke(TestMethodExecutor testMethodExecutor) {
+            if (onInvoke != null) {
+                onInvoke.run();
+            }
             final CountDownLatch latch = new CountDownLatch(1);
 
             Thread remote = new Thread() {
@@ -164,6 +235,11 @@ public class RemoteTestExecuterTestCase extends AbstractContainerTestTestBase {
 
             return TestResult.passed();
         }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
     }
 
     public class TestStringCommand implements Command<String>, Serializable {
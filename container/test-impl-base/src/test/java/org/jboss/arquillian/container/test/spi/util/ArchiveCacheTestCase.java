@@ -0,0 +1,141 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.test.spi.util;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.FileAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Verify the behavior of the {@link ArchiveCache}.
+ */
+public class ArchiveCacheTestCase {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldBuildArchiveOnlyOnce() throws Exception {
+        ArchiveCache cache = new ArchiveCache(null);
+        CountingBuilder builder = new CountingBuilder(null);
+
+        Archive<?> first = cache.get(ArchiveCacheTestCase.class, builder);
+        Archive<?> second = cache.get(ArchiveCacheTestCase.class, builder);
+
+        Assert.assertEquals(1, builder.builds.get());
+        Assert.assertEquals("test.jar", second.getName());
+        Assert.assertEquals(first.getContent().keySet(), second.getContent().keySet());
+    }
+
+    @Test
+    public void shouldHandOutIndependentCopies() throws Exception {
+        ArchiveCache cache = new ArchiveCache(null);
+        CountingBuilder builder = new CountingBuilder(null);
+
+        cache.get(ArchiveCacheTestCase.class, builder).add(new StringAsset("added"), "added.txt");
+
+        Assert.assertFalse(cache.get(ArchiveCacheTestCase.class, builder).contains("added.txt"));
+    }
+
+    @Test
+    public void shouldReuseStoredArchiveInAnotherJvm() throws Exception {
+        File directory = folder.newFolder();
+        CountingBuilder builder = new CountingBuilder(null);
+
+        new ArchiveCache(directory).get(ArchiveCacheTestCase.class, builder);
+        Archive<?> stored = new ArchiveCache(directory).get(ArchiveCacheTestCase.class, builder);
+
+        Assert.assertEquals(1, builder.builds.get());
+        Assert.assertTrue(stored instanceof JavaArchive);
+        Assert.assertEquals("test.jar", stored.getName());
+        Assert.assertTrue(stored.contains("/org/jboss/arquillian/container/test/spi/util/ArchiveCacheTestCase.class"));
+        Assert.assertTrue(stored.contains("/built.txt"));
+    }
+
+    @Test
+    public void shouldReuseStoredArchiveInForkWithOtherClassPath() throws Exception {
+        File directory = folder.newFolder();
+        CountingBuilder builder = new CountingBuilder(null);
+        String classPath = System.getProperty("java.class.path");
+
+        new ArchiveCache(directory).get(ArchiveCacheTestCase.class, builder);
+        // e.g. the booter jar of another Surefire fork
+        System.setProperty("java.class.path", new File(folder.getRoot(), "surefirebooter.jar").getPath());
+        try {
+            new ArchiveCache(directory).get(ArchiveCacheTestCase.class, builder);
+        } finally {
+            System.setProperty("java.class.path", classPath);
+        }
+
+        Assert.assertEquals(1, builder.builds.get());
+    }
+
+    @Test
+    public void shouldRebuildStoredArchiveWhenSourceChanged() throws Exception {
+        File directory = folder.newFolder();
+        File source = folder.newFile();
+        write(source, "original");
+        CountingBuilder builder = new CountingBuilder(source);
+
+        new ArchiveCache(directory).get(ArchiveCacheTestCase.class, builder);
+        write(source, "changed content");
+        new ArchiveCache(directory).get(ArchiveCacheTestCase.class, builder);
+
+        Assert.assertEquals(2, builder.builds.get());
+    }
+
+    private static void write(File file, String content) throws IOException {
+        OutputStream out = new FileOutputStream(file);
+        try {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        } finally {
+            out.close();
+        }
+    }
+
+    private static class CountingBuilder implements ArchiveCache.Builder {
+        private final AtomicInteger builds = new AtomicInteger();
+        private final File source;
+
+        CountingBuilder(File source) {
+            this.source = source;
+        }
+
+        @Override
+        public Archive<?> build() {
+            builds.incrementAndGet();
+            JavaArchive archive = ShrinkWrap.create(JavaArchive.class, "test.jar")
+                .addClass(ArchiveCacheTestCase.class)
+                .addAsResource(new StringAsset("built"), "built.txt");
+            if (source != null) {
+                archive.addAsResource(new FileAsset(source), "source.txt");
+            }
+            return archive;
+        }
+    }
+}
@@ -26,6 +26,10 @@ import org.jboss.arquillian.test.spi.TestResult;
  * <p>
  * Implementations should handle the protocol used for communication
  * ie http/servlet, jmx, rmi etc.
+ * <p>
+ * The executor is created once per deployment and used for every test operating on it. Implementations holding
+ * resources for that time, e.g. listeners or connections, can implement {@link java.io.Closeable}, they are closed
+ * before the deployment is undeployed.
  *
  * @author <a href="mailto:aslak@conduct.no">Aslak Knutsen</a>
  */
@@ -17,27 +17,28 @@
  */
 package org.jboss.arquillian.container.test.spi.client.deployment;
 
-import java.util.HashMap;
-import java.util.Map;
+import org.jboss.arquillian.container.test.spi.util.ArchiveCache;
 import org.jboss.shrinkwrap.api.Archive;
 
 /**
  * CachedAuxilliaryArchiveAppender
+ * <p>
+ * Builds the archive once and hands out a copy of it for every deployment, see {@link ArchiveCache}.
  *
  * @author <a href="mailto:aslak@redhat.com">Aslak Knutsen</a>
  */
 public abstract class CachedAuxilliaryArchiveAppender implements AuxiliaryArchiveAppender {
-    private static Map<Class<?>, Archive<?>> cached = new HashMap<Class<?>, Archive<?>>();
-
     /* (non-Javadoc)
      * @see org.jboss.arquillian.container.test.spi.client.deployment.AuxiliaryArchiveAppender#createAuxiliaryArchive()
      */
     @Override
     public final Archive<?> createAuxiliaryArchive() {
-        if (!cached.containsKey(getClass())) {
-            cached.put(getClass(), buildArchive());
-        }
-        return cached.get(getClass());
+        return ArchiveCache.getInstance().get(getClass(), new ArchiveCache.Builder() {
+            @Override
+            public Archive<?> build() {
+                return buildArchive();
+            }
+        });
     }
 
     protected abstract Archive<?> buildArchive();
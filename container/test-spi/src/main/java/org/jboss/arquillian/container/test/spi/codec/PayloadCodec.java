@@ -0,0 +1,47 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.test.spi.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.OutputStream;
+
+/**
+ * Wire format of the test results and commands exchanged between the client and the container by a protocol.
+ * <p>
+ * Implementations are registered as META-INF/services and looked up by name, see
+ * {@link org.jboss.arquillian.container.test.spi.util.PayloadCodecs}. Both sides have to provide the codec, a
+ * protocol falls back to {@link JavaSerializationCodec} if the container does not.
+ */
+public interface PayloadCodec {
+    /**
+     * @return the name used to select this codec in the protocol configuration
+     */
+    String getName();
+
+    /**
+     * Create an output writing the objects to the given stream
+     */
+    ObjectOutput createOutput(OutputStream out) throws IOException;
+
+    /**
+     * Create an input reading the objects written by {@link #createOutput(OutputStream)} from the given stream
+     */
+    ObjectInput createInput(InputStream in) throws IOException;
+}
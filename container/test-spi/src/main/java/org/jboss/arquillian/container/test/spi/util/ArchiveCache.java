@@ -0,0 +1,395 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.test.spi.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.GenericArchive;
+import org.jboss.shrinkwrap.api.Node;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ArchiveAsset;
+import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.asset.ClassAsset;
+import org.jboss.shrinkwrap.api.asset.ClassLoaderAsset;
+import org.jboss.shrinkwrap.api.asset.FileAsset;
+import org.jboss.shrinkwrap.api.asset.UrlAsset;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.importer.ZipImporter;
+import org.jboss.shrinkwrap.api.spec.EnterpriseArchive;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.ResourceAdapterArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+
+/**
+ * Cache of the archives built by auxiliary archive appenders and protocol packagers, keyed by the class building them.
+ * <p>
+ * Every archive is built once per JVM, each caller gets its own shallow copy to add to or process. When the
+ * {@value #DIRECTORY_PROPERTY} system property points to a directory, the archives are also stored there and reused by
+ * later JVMs, e.g. other Surefire forks or modules. A stored archive is only used as long as the jars and files its
+ * classes and resources were read from are unchanged and are still the ones they are loaded from. Archives with
+ * content from other sources are only cached in memory.
+ */
+public final class ArchiveCache {
+    public static final String DIRECTORY_PROPERTY = "arquillian.archive.cache";
+
+    private static final Logger log = Logger.getLogger(ArchiveCache.class.getName());
+
+    private static final int MAGIC = 0x41525141;
+    private static final int VERSION = 2;
+
+    // the archive types that can be restored from a stored archive
+    private static final List<Class<? extends Archive<?>>> TYPES = Arrays.<Class<? extends Archive<?>>>asList(
+        WebArchive.class, EnterpriseArchive.class, ResourceAdapterArchive.class, JavaArchive.class,
+        GenericArchive.class);
+
+    private static volatile ArchiveCache instance;
+
+    private final File directory;
+    private final ConcurrentMap<Class<?>, Entry> entries = new ConcurrentHashMap<Class<?>, Entry>();
+
+    ArchiveCache(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @return the JVM wide cache, stored in the directory configured through {@value #DIRECTORY_PROPERTY} if set
+     */
+    public static ArchiveCache getInstance() {
+        if (instance == null) {
+            synchronized (ArchiveCache.class) {
+                if (instance == null) {
+                    String location = SecurityActions.getProperty(DIRECTORY_PROPERTY);
+                    instance = new ArchiveCache(location == null || location.trim().isEmpty()
+                        ? null : new File(location.trim()));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Get a copy of the archive built by the given class, building it with the builder if not cached.
+     *
+     * @param owner
+     *     the class building the archive
+     * @param builder
+     *     builds the archive if not cached
+     *
+     * @return a copy of the cached archive, or null if the builder did not build one
+     */
+    public Archive<?> get(Class<?> owner, Builder builder) {
+        Entry entry = entries.get(owner);
+        if (entry == null) {
+            Entry created = new Entry();
+            entry = entries.putIfAbsent(owner, created);
+            if (entry == null) {
+                entry = created;
+            }
+        }
+        synchronized (entry) {
+            if (!entry.built) {
+                Archive<?> archive = read(owner);
+                if (archive == null) {
+                    archive = builder.build();
+                    if (archive != null) {
+                        write(owner, archive);
+                    }
+                }
+                entry.archive = archive;
+                entry.built = true;
+            }
+            return entry.archive == null ? null : entry.archive.shallowCopy();
+        }
+    }
+
+    /**
+     * Builds the archive to cache.
+     */
+    public interface Builder {
+        Archive<?> build();
+    }
+
+    //-------------------------------------------------------------------------------------||
+    // Internal Helper Methods ------------------------------------------------------------||
+    //-------------------------------------------------------------------------------------||
+
+    private Archive<?> read(Class<?> owner) {
+        File file = getFile(owner);
+        if (file == null || !file.isFile()) {
+            return null;
+        }
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || !owner.getName().equals(in.readUTF())) {
+                return null;
+            }
+            String typeName = in.readUTF();
+            String name = in.readUTF();
+            ClassLoader loader = getLoader(owner.getClassLoader());
+            int numberOfSources = in.readInt();
+            for (int i = 0; i < numberOfSources; i++) {
+                File source = new File(in.readUTF());
+                String resource = in.readUTF();
+                if (source.length() != in.readLong() || source.lastModified() != in.readLong()) {
+                    log.fine("Stored " + name + " of " + owner.getName() + " is outdated, " + source + " changed");
+                    return null;
+                }
+                if (!resource.isEmpty() && !source.equals(toFile(loader.getResource(resource)))) {
+                    log.fine("Stored " + name + " of " + owner.getName() + " is outdated, " + resource
+                        + " is no longer loaded from " + source);
+                    return null;
+                }
+            }
+            byte[] content = new byte[in.readInt()];
+            in.readFully(content);
+            for (Class<? extends Archive<?>> type : TYPES) {
+                if (type.getName().equals(typeName)) {
+                    return ShrinkWrap.create(ZipImporter.class, name)
+                        .importFrom(new ByteArrayInputStream(content))
+                        .as(type);
+                }
+            }
+            return null;
+        } catch (Exception e) {
+            log.log(Level.FINE, "Could not read stored archive " + file + ", ignoring it", e);
+            return null;
+        } finally {
+            closeQuietly(in);
+        }
+    }
+
+    private void write(Class<?> owner, Archive<?> archive) {
+        File file = getFile(owner);
+        if (file == null) {
+            return;
+        }
+        // the jars and files the content was read from, with a resource to check they are still loaded from there
+        Map<File, String> sources = new TreeMap<File, String>();
+        File ownerSource = getSource(owner);
+        if (ownerSource == null || !collectSources(archive, owner.getClassLoader(), sources)) {
+            return;
+        }
+        sources.put(ownerSource, getResourceName(owner));
+
+        DataOutputStream out = null;
+        File temp = null;
+        try {
+            if (!directory.isDirectory() && !directory.mkdirs() && !directory.isDirectory()) {
+                throw new IOException("Could not create directory " + directory);
+            }
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            archive.as(ZipExporter.class).exportTo(content);
+
+            // write to a temporary file and move it in place, several forks may share the same directory
+            temp = File.createTempFile(file.getName(), ".tmp", directory);
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(owner.getName());
+            out.writeUTF(getType(archive).getName());
+            out.writeUTF(archive.getName());
+            out.writeInt(sources.size());
+            for (Map.Entry<File, String> source : sources.entrySet()) {
+                out.writeUTF(source.getKey().getPath());
+                out.writeUTF(source.getValue() == null ? "" : source.getValue());
+                out.writeLong(source.getKey().length());
+                out.writeLong(source.getKey().lastModified());
+            }
+            out.writeInt(content.size());
+            content.writeTo(out);
+            out.close();
+            out = null;
+            try {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (Exception e) {
+            log.log(Level.WARNING, "Could not store archive " + archive.getName() + " in " + directory, e);
+        } finally {
+            closeQuietly(out);
+            if (temp != null && temp.exists()) {
+                temp.delete();
+            }
+        }
+    }
+
+    /**
+     * @return the file to store the archive of the given class in, one per class and the jar or directory it is loaded
+     * from. Not the class path, that differs per fork, e.g. the Surefire booter jar.
+     */
+    private File getFile(Class<?> owner) {
+        if (directory == null) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(owner.getName().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            File ownerSource = getSource(owner);
+            if (ownerSource != null) {
+                digest.update(ownerSource.getPath().getBytes(StandardCharsets.UTF_8));
+            }
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest.digest()) {
+                sb.append(String.format("%02x", b));
+            }
+            return new File(directory, sb.append(".archive").toString());
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Collect the jars and files the content of the archive was read from.
+     *
+     * @return false if some of the content was read from a source that can not be tracked
+     */
+    private static boolean collectSources(Archive<?> archive, ClassLoader loader, Map<File, String> sources) {
+        for (Node node : archive.getContent().values()) {
+            Asset asset = node.getAsset();
+            File source;
+            // checked to be loaded from the same source when the stored archive is read
+            String resource = null;
+            if (asset == null) {
+                continue;
+            } else if (asset instanceof ArchiveAsset) {
+                if (!collectSources(((ArchiveAsset) asset).getArchive(), loader, sources)) {
+                    return false;
+                }
+                continue;
+            } else if (asset instanceof ClassAsset) {
+                Class<?> type = ((ClassAsset) asset).getSource();
+                if (type.getClassLoader() == null) {
+                    // part of the JDK
+                    continue;
+                }
+                source = getSource(type);
+                resource = getResourceName(type);
+            } else if (asset instanceof ClassLoaderAsset) {
+                resource = ((ClassLoaderAsset) asset).getSource();
+                source = toFile(getLoader(loader).getResource(resource));
+            } else if (asset instanceof FileAsset) {
+                source = ((FileAsset) asset).getSource();
+            } else if (asset instanceof UrlAsset) {
+                source = toFile(((UrlAsset) asset).getSource());
+            } else {
+                // created by the owner itself, e.g. a StringAsset or service provider file
+                continue;
+            }
+            if (source == null) {
+                return false;
+            }
+            if (!sources.containsKey(source) || sources.get(source) == null) {
+                sources.put(source, resource);
+            }
+        }
+        return true;
+    }
+
+    private static File getSource(Class<?> type) {
+        ClassLoader loader = type.getClassLoader();
+        if (loader == null) {
+            return null;
+        }
+        return toFile(loader.getResource(getResourceName(type)));
+    }
+
+    private static String getResourceName(Class<?> type) {
+        return type.getName().replace('.', '/') + ".class";
+    }
+
+    private static ClassLoader getLoader(ClassLoader loader) {
+        return loader != null ? loader : SecurityActions.getThreadContextClassLoader();
+    }
+
+    private static File toFile(URL url) {
+        if (url == null) {
+            return null;
+        }
+        try {
+            String location = url.toExternalForm();
+            if ("jar".equals(url.getProtocol())) {
+                int separator = location.indexOf("!/");
+                if (separator == -1) {
+                    return null;
+                }
+                location = location.substring("jar:".length(), separator);
+            }
+            URI uri = new URI(location);
+            if (!"file".equals(uri.getScheme())) {
+                return null;
+            }
+            File file = new File(uri);
+            return file.exists() ? file.getAbsoluteFile() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static Class<? extends Archive<?>> getType(Archive<?> archive) {
+        for (Class<? extends Archive<?>> type : TYPES) {
+            if (type.isInstance(archive)) {
+                return type;
+            }
+        }
+        return GenericArchive.class;
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+
+    private static final class Entry {
+        private boolean built;
+        private Archive<?> archive;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.test.spi.util;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import org.jboss.arquillian.container.test.spi.codec.JavaSerializationCodec;
+import org.jboss.arquillian.container.test.spi.codec.PayloadCodec;
+
+/**
+ * PayloadCodecs
+ * <p>
+ * Helper for looking up {@link PayloadCodec}s and for tagging the streams they write.
+ * <p>
+ * Every stream starts with a header naming the codec used, so the receiving side can always decode it without
+ * knowing what was negotiated. Java serialization is written without a header, its stream magic identifies it and
+ * keeps it readable by older peers.
+ * <p>
+ * Codecs are resolved once per name and ClassLoader, the lookup runs for every request and response.
+ */
+public final class PayloadCodecs {
+    private static final int MAGIC = 0x41525143;
+
+    private static final PayloadCodec JAVA = new JavaSerializationCodec();
+
+    // marks a name without a codec, so a missing codec is not searched for again
+    private static final PayloadCodec MISSING = new JavaSerializationCodec();
+
+    // weak keys so undeployed class loaders are released, the codecs are only softly held as they reference theirs
+    private static final Map<ClassLoader, Map<String, Reference<PayloadCodec>>> CODECS =
+        new WeakHashMap<ClassLoader, Map<String, Reference<PayloadCodec>>>();
+
+    // Hide ctor
+    private PayloadCodecs() {
+    }
+
+    /**
+     * @return the codec with the given name, or null if not available
+     */
+    public static PayloadCodec getCodec(String name) {
+        if (name == null || JavaSerializationCodec.NAME.equals(name)) {
+            return JAVA;
+        }
+        PayloadCodec codec = findCodec(name, SecurityActions.getThreadContextClassLoader());
+        if (codec == null) {
+            codec = findCodec(name, PayloadCodecs.class.getClassLoader());
+        }
+        return codec;
+    }
+
+    /**
+     * @return the codec with the given name, or the Java serialization codec if not available
+     */
+    public static PayloadCodec selectCodec(String name) {
+        PayloadCodec codec = getCodec(name);
+        return codec != null ? codec : JAVA;
+    }
+
+    /**
+     * Write the header identifying the codec, must be called before writing the objects.
+     */
+    public static void writeHeader(PayloadCodec codec, OutputStream out) throws IOException {
+        if (JavaSerializationCodec.NAME.equals(codec.getName())) {
+            return;
+        }
+        DataOutputStream header = new DataOutputStream(out);
+        header.writeInt(MAGIC);
+        header.writeUTF(codec.getName());
+        header.flush();
+    }
+
+    /**
+     * Read the header written by {@link #writeHeader(PayloadCodec, OutputStream)}.
+     *
+     * @param in
+     *     stream supporting mark and reset
+     *
+     * @return the codec to read the objects with
+     *
+     * @throws IOException
+     *     if the codec is not available on this side
+     */
+    public static PayloadCodec readHeader(InputStream in) throws IOException {
+        if (!in.markSupported()) {
+            throw new IllegalArgumentException("InputStream must support mark and reset");
+        }
+        in.mark(2);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        if (first == 0xAC && second == 0xED) {
+            return JAVA;
+        }
+        DataInputStream header = new DataInputStream(in);
+        if (header.readInt() != MAGIC) {
+            throw new StreamCorruptedException("Unknown payload format");
+        }
+        String name = header.readUTF();
+        PayloadCodec codec = getCodec(name);
+        if (codec == null) {
+            throw new IOException("Payload codec " + name + " is not available");
+        }
+        return codec;
+    }
+
+    //-------------------------------------------------------------------------------------||
+    // Internal Helper Methods ------------------------------------------------------------||
+    //-------------------------------------------------------------------------------------||
+
+    private static PayloadCodec findCodec(String name, ClassLoader classLoader) {
+        if (classLoader == null) {
+            return null;
+        }
+        synchronized (CODECS) {
+            Map<String, Reference<PayloadCodec>> codecs = CODECS.get(classLoader);
+            Reference<PayloadCodec> cached = codecs == null ? null : codecs.get(name);
+            PayloadCodec codec = cached == null ? null : cached.get();
+            if (codec != null) {
+                return codec == MISSING ? null : codec;
+            }
+        }
+        PayloadCodec codec = loadCodec(name, classLoader);
+        synchronized (CODECS) {
+            Map<String, Reference<PayloadCodec>> codecs = CODECS.get(classLoader);
+            if (codecs == null) {
+                codecs = new HashMap<String, Reference<PayloadCodec>>();
+                CODECS.put(classLoader, codecs);
+            }
+            codecs.put(name, new SoftReference<PayloadCodec>(codec != null ? codec : MISSING));
+        }
+        return codec;
+    }
+
+    private static PayloadCodec loadCodec(String name, ClassLoader classLoader) {
+        for (PayloadCodec codec : ServiceLoader.load(PayloadCodec.class, classLoader)) {
+            if (name.equals(codec.getName())) {
+                return codec;
+            }
+        }
+        return null;
+    }
+}
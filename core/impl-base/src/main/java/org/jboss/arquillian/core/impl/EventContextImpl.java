@@ -20,6 +20,7 @@ package org.jboss.arquillian.core.impl;
 import java.util.ArrayList;
 import java.util.List;
 import org.jboss.arquillian.core.spi.EventContext;
+import org.jboss.arquillian.core.spi.FlightRecorderSupport;
 import org.jboss.arquillian.core.spi.InvocationException;
 import org.jboss.arquillian.core.spi.NonManagedObserver;
 import org.jboss.arquillian.core.spi.ObserverMethod;
@@ -86,8 +87,16 @@ public class EventContextImpl<T> implements EventContext<T> {
     public void proceed() {
 
         if (currentInterceptor == interceptors.size()) {
-            invokeObservers();
-            invokeNonManagedObserver();
+            RuntimeRecorder.ProceedEvent recording =
+                FlightRecorderSupport.isEnabled() ? RuntimeRecorder.ProceedEvent.start() : null;
+            try {
+                invokeObservers();
+                invokeNonManagedObserver();
+            } finally {
+                if (recording != null) {
+                    recording.finish(event, observers.size());
+                }
+            }
         } else {
             ObserverMethod interceptor = interceptors.get(currentInterceptor++);
             runtimeLogger.debug(interceptor, true);
@@ -22,8 +22,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.jboss.arquillian.core.api.Injector;
 import org.jboss.arquillian.core.api.annotation.ApplicationScoped;
 import org.jboss.arquillian.core.api.event.ManagerStarted;
@@ -35,6 +39,7 @@ import org.jboss.arquillian.core.spi.ArquillianThreadLocal;
 import org.jboss.arquillian.core.spi.EventContext;
 import org.jboss.arquillian.core.spi.EventPoint;
 import org.jboss.arquillian.core.spi.Extension;
+import org.jboss.arquillian.core.spi.FlightRecorderSupport;
 import org.jboss.arquillian.core.spi.InjectionPoint;
 import org.jboss.arquillian.core.spi.InvocationException;
 import org.jboss.arquillian.core.spi.Manager;
@@ -59,6 +64,12 @@ public class ManagerImpl implements Manager {
     private final RuntimeLogger runtimeLogger;
     private final List<Context> contexts;
     private final List<Extension> extensions;
+    /*
+     * Dispatch table of pre sorted observers and interceptors keyed by event type. The whole table is replaced
+     * when the registered extensions change, so a resolve racing with an invalidation can never repopulate it
+     * with a stale view.
+     */
+    private volatile Map<Class<?>, ResolvedObservers> observerTable;
     /*
      * Hack:
      * Events can be fired nested. If a nested handler throws a exception, the exception is fired on the bus for handling.
@@ -73,11 +84,20 @@ public class ManagerImpl implements Manager {
                 return new HashSet<Class<? extends Throwable>>();
             }
         };
+    /*
+     * The same, but for exceptions fired on another thread, e.g. by a task submitted to the ExecutorService, and
+     * re-thrown on the thread waiting for it. Kept by instance as the thread local state of the firing thread is
+     * not visible to the waiting one.
+     */
+    private final Map<Throwable, Boolean> handledThrowableInstances =
+        Collections.synchronizedMap(new WeakHashMap<Throwable, Boolean>());
 
     ManagerImpl(final Collection<Class<? extends Context>> contextClasses, final Collection<Class<?>> extensionClasses) {
         this.contexts = new ArrayList<Context>();
-        this.extensions = new ArrayList<Extension>();
+        // test classes running in parallel add and remove their @Observer extensions while events are dispatched
+        this.extensions = new CopyOnWriteArrayList<Extension>();
         this.runtimeLogger = new RuntimeLogger();
+        this.observerTable = new ConcurrentHashMap<Class<?>, ResolvedObservers>();
 
         try {
             List<Extension> createdExtensions = createExtensions(extensionClasses);
@@ -87,6 +107,7 @@ public class ManagerImpl implements Manager {
 
             this.contexts.addAll(createdContexts);
             this.extensions.addAll(createdExtensions);
+            invalidateObservers();
 
             addContextsToApplicationScope();
             fireProcessing();
@@ -112,40 +133,15 @@ public class ManagerImpl implements Manager {
     public <T> void fire(T event, NonManagedObserver<T> nonManagedObserver) {
         Validate.notNull(event, "Event must be specified");
 
-        runtimeLogger.debug(event, true);
-        // we start fresh pr new event
-        handledThrowables.get().clear();
-
-        List<ObserverMethod> observers = resolveObservers(event.getClass());
-        List<ObserverMethod> interceptorObservers = resolveInterceptorObservers(event.getClass());
-
-        ApplicationContext context = (ApplicationContext) getScopedContext(ApplicationScoped.class);
-        // We need to know if we were to the one to Activate it to avoid:
-        // * nested ApplicationContexts
-        // * ending the scope to soon (to low in the stack)
-        boolean activatedApplicationContext = false;
+        if (!FlightRecorderSupport.isEnabled()) {
+            dispatch(event, nonManagedObserver);
+            return;
+        }
+        RuntimeRecorder.FireEvent recording = RuntimeRecorder.FireEvent.start();
         try {
-            if (!context.isActive()) {
-                context.activate();
-                activatedApplicationContext = true;
-            }
-            new EventContextImpl<T>(this, interceptorObservers, observers, nonManagedObserver, event,
-                runtimeLogger).proceed();
-        } catch (Exception e) {
-            Throwable fireException = e;
-            if (fireException instanceof InvocationException) {
-                fireException = fireException.getCause();
-            }
-            if (handledThrowables.get().contains(fireException.getClass())) {
-                UncheckedThrow.throwUnchecked(fireException);
-            } else {
-                fireException(fireException);
-            }
+            dispatch(event, nonManagedObserver);
         } finally {
-            runtimeLogger.debug(event, false);
-            if (activatedApplicationContext && context.isActive()) {
-                context.deactivate();
-            }
+            recording.finish(event);
         }
     }
 
@@ -168,9 +164,13 @@ public class ManagerImpl implements Manager {
     @Override
     public <T> T resolve(Class<T> type) {
         Validate.notNull(type, "Type must be specified");
-        List<Context> activeContexts = resolveActiveContexts();
-        for (int i = activeContexts.size() - 1; i >= 0; i--) {
-            Context context = activeContexts.get(i);
+        // walk the registered contexts from the most specific to the least, skipping the inactive ones in place
+        // instead of collecting the active contexts first; this is called for every Instance.get()
+        for (int i = contexts.size() - 1; i >= 0; i--) {
+            Context context = contexts.get(i);
+            if (!context.isActive()) {
+                continue;
+            }
             T object = context.getObjectStore().get(type);
             if (object != null) {
                 return object;
@@ -275,12 +275,14 @@ public class ManagerImpl implements Manager {
             }
             contexts.clear();
             extensions.clear();
+            invalidateObservers();
 
             runtimeLogger.clear();
 
             handledThrowables.remove();
             //Force cleanup:
             handledThrowables.clear();
+            handledThrowableInstances.clear();
         }
         if (shutdownException != null) {
             UncheckedThrow.throwUnchecked(shutdownException);
@@ -291,6 +293,45 @@ public class ManagerImpl implements Manager {
     // Internal Helper Methods ------------------------------------------------------------||
     //-------------------------------------------------------------------------------------||
 
+    private <T> void dispatch(T event, NonManagedObserver<T> nonManagedObserver) {
+        runtimeLogger.debug(event, true);
+        // we start fresh pr new event
+        handledThrowables.get().clear();
+
+        ResolvedObservers resolved = resolveObservers(event.getClass());
+        List<ObserverMethod> observers = resolved.observers;
+        List<ObserverMethod> interceptorObservers = resolved.interceptors;
+
+        ApplicationContext context = (ApplicationContext) getScopedContext(ApplicationScoped.class);
+        // We need to know if we were to the one to Activate it to avoid:
+        // * nested ApplicationContexts
+        // * ending the scope to soon (to low in the stack)
+        boolean activatedApplicationContext = false;
+        try {
+            if (!context.isActive()) {
+                context.activate();
+                activatedApplicationContext = true;
+            }
+            new EventContextImpl<T>(this, interceptorObservers, observers, nonManagedObserver, event,
+                runtimeLogger).proceed();
+        } catch (Exception e) {
+            Throwable fireException = e;
+            if (fireException instanceof InvocationException) {
+                fireException = fireException.getCause();
+            }
+            if (isExceptionHandled(fireException)) {
+                UncheckedThrow.throwUnchecked(fireException);
+            } else {
+                fireException(fireException);
+            }
+        } finally {
+            runtimeLogger.debug(event, false);
+            if (activatedApplicationContext && context.isActive()) {
+                context.deactivate();
+            }
+        }
+    }
+
     public void fireProcessing() throws Exception {
         final Set<Class<?>> extensions = new HashSet<Class<?>>();
         final Set<Class<? extends Context>> contexts = new HashSet<Class<? extends Context>>();
@@ -320,6 +361,7 @@ public class ManagerImpl implements Manager {
 
         this.extensions.addAll(createExtensions(extensions));
         this.contexts.addAll(createContexts(contexts));
+        invalidateObservers();
     }
 
     public void addExtension(Class<?> extensionClass) throws Exception {
@@ -327,6 +369,7 @@ public class ManagerImpl implements Manager {
         ExtensionImpl newExtension = ExtensionImpl.of(Reflections.createInstance(extensionClass));
         inject(newExtension);
         extensions.add(newExtension);
+        invalidateObservers();
     }
 
     public void removeExtension(Class<?> extensionClass) {
@@ -334,19 +377,20 @@ public class ManagerImpl implements Manager {
             Object target = ((ExtensionImpl) extension).getTarget();
             if (extensionClass.isInstance(target)) {
                 extensions.remove(extension);
+                invalidateObservers();
                 break;
             }
         }
     }
 
     boolean isExceptionHandled(Throwable e) {
-        return handledThrowables.get().contains(e.getClass());
+        return handledThrowables.get().contains(e.getClass()) || handledThrowableInstances.containsKey(e);
     }
 
     void fireException(Throwable event) {
         runtimeLogger.debug(event, true);
         try {
-            List<ObserverMethod> observers = resolveObservers(event.getClass());
+            List<ObserverMethod> observers = resolveObservers(event.getClass()).observers;
             if (observers.size() == 0) { // no one is handling this Exception, throw it out.
                 UncheckedThrow.throwUnchecked(event);
             }
@@ -363,6 +407,7 @@ public class ManagerImpl implements Manager {
                         // on throw if this is the last Exception observer
                         if (i == observers.size() - 1) {
                             handledThrowables.get().add(toBeFired.getClass());
+                            handledThrowableInstances.put(toBeFired, Boolean.TRUE);
                             // this will throw checked exception if any, and will break the declaration of fire(), will throw the original cause
                             UncheckedThrow.throwUnchecked(toBeFired);
                         }
@@ -439,10 +484,35 @@ public class ManagerImpl implements Manager {
     }
 
     /**
+     * Get the observers and interceptors for the given event type from the dispatch table, resolving and sorting
+     * them on first use.
+     *
      * @param eventType
      * @return
      */
-    private List<ObserverMethod> resolveObservers(Class<?> eventType) {
+    private ResolvedObservers resolveObservers(Class<?> eventType) {
+        Map<Class<?>, ResolvedObservers> table = observerTable;
+        ResolvedObservers resolved = table.get(eventType);
+        if (resolved == null) {
+            resolved = new ResolvedObservers(
+                createObservers(eventType),
+                createInterceptorObservers(eventType));
+            ResolvedObservers existing = table.putIfAbsent(eventType, resolved);
+            if (existing != null) {
+                resolved = existing;
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * Drop the dispatch table. Must be called whenever the registered extensions change.
+     */
+    private void invalidateObservers() {
+        observerTable = new ConcurrentHashMap<Class<?>, ResolvedObservers>();
+    }
+
+    private List<ObserverMethod> createObservers(Class<?> eventType) {
         List<ObserverMethod> observers = new ArrayList<ObserverMethod>();
         for (Extension extension : extensions) {
             for (ObserverMethod observer : extension.getObservers()) {
@@ -453,10 +523,10 @@ public class ManagerImpl implements Manager {
             }
         }
         Collections.sort(observers);
-        return observers;
+        return Collections.unmodifiableList(observers);
     }
 
-    private List<ObserverMethod> resolveInterceptorObservers(Class<?> eventType) {
+    private List<ObserverMethod> createInterceptorObservers(Class<?> eventType) {
         List<ObserverMethod> observers = new ArrayList<ObserverMethod>();
         for (Extension extension : extensions) {
             for (ObserverMethod observer : extension.getObservers()) {
@@ -468,17 +538,7 @@ public class ManagerImpl implements Manager {
             }
         }
         Collections.sort(observers);
-        return observers;
-    }
-
-    private List<Context> resolveActiveContexts() {
-        List<Context> activeContexts = new ArrayList<Context>();
-        for (Context context : contexts) {
-            if (context.isActive()) {
-                activeContexts.add(context);
-            }
-        }
-        return activeContexts;
+        return Collections.unmodifiableList(observers);
     }
 
     private void inject(Extension extension) {
@@ -512,4 +572,17 @@ public class ManagerImpl implements Manager {
         }
         return null;
     }
+
+    /**
+     * Sorted observers and interceptors resolved for a single event type.
+     */
+    private static final class ResolvedObservers {
+        private final List<ObserverMethod> observers;
+        private final List<ObserverMethod> interceptors;
+
+        ResolvedObservers(List<ObserverMethod> observers, List<ObserverMethod> interceptors) {
+            this.observers = observers;
+            this.interceptors = interceptors;
+        }
+    }
 }
@@ -17,11 +17,15 @@
 package org.jboss.arquillian.core.impl;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.logging.Logger;
 import org.jboss.arquillian.core.api.annotation.Observes;
+import org.jboss.arquillian.core.spi.FlightRecorderSupport;
 import org.jboss.arquillian.core.spi.InvocationException;
 import org.jboss.arquillian.core.spi.Manager;
 import org.jboss.arquillian.core.spi.ObserverMethod;
@@ -36,6 +40,15 @@ public class ObserverImpl implements ObserverMethod, Comparable<ObserverMethod>
     private Object target;
     private Method method;
 
+    /*
+     * Invocation plan, resolved once when the observer is registered:
+     * the argument types to resolve from the Manager, the precedence used for ordering and a MethodHandle bound to
+     * the target that takes all arguments as Object.
+     */
+    private final Class<?>[] argumentTypes;
+    private final int precedence;
+    private final MethodHandle invoker;
+
     //-------------------------------------------------------------------------------------||
     // Public Factory Methods -------------------------------------------------------------||
     //-------------------------------------------------------------------------------------||
@@ -43,6 +56,9 @@ public class ObserverImpl implements ObserverMethod, Comparable<ObserverMethod>
     ObserverImpl(Object target, Method method) {
         this.target = target;
         this.method = method;
+        this.argumentTypes = method.getParameterTypes();
+        this.precedence = getPresedence(method);
+        this.invoker = createInvoker(target, method);
     }
 
     public static ObserverImpl of(Object extension, Method observerMethod) {
@@ -74,25 +90,55 @@ public class ObserverImpl implements ObserverMethod, Comparable<ObserverMethod>
      */
     @Override
     public boolean invoke(Manager manager, Object event) {
+        if (!FlightRecorderSupport.isEnabled()) {
+            return invokeObserver(manager, event);
+        }
+        RuntimeRecorder.ObserverEvent recording = RuntimeRecorder.ObserverEvent.start();
+        boolean invoked = false;
         try {
-            Object[] arguments = resolveArguments(manager, event);
-            if (containsNull(arguments)) {
-                return false;
-            }
-            if (!method.isAccessible()) {
-                method.setAccessible(true);
-            }
-            method.invoke(target, arguments);
-            return true;
-        } catch (Exception e) {
-            if (e instanceof InvocationTargetException) {
-                Throwable cause = ((InvocationTargetException) e).getTargetException();
-                // Exception already wrapped by another Observer down the chain.
-                if (cause instanceof InvocationException) {
-                    throw (InvocationException) cause;
+            invoked = invokeObserver(manager, event);
+            return invoked;
+        } finally {
+            recording.finish(this, event, invoked);
+        }
+    }
+
+    private boolean invokeObserver(Manager manager, Object event) {
+        try {
+            switch (argumentTypes.length) {
+                case 1:
+                    invoker.invokeExact(event);
+                    return true;
+                case 2: {
+                    Object a1 = resolveArgument(manager, 1);
+                    if (a1 == null) {
+                        return false;
+                    }
+                    invoker.invokeExact(event, a1);
+                    return true;
+                }
+                case 3: {
+                    Object a1 = resolveArgument(manager, 1);
+                    Object a2 = resolveArgument(manager, 2);
+                    if (a1 == null || a2 == null) {
+                        return false;
+                    }
+                    invoker.invokeExact(event, a1, a2);
+                    return true;
+                }
+                default: {
+                    Object[] arguments = resolveArguments(manager, event);
+                    if (containsNull(arguments)) {
+                        return false;
+                    }
+                    invoker.invokeExact(arguments);
+                    return true;
                 }
-                throw new InvocationException(cause);
             }
+        } catch (InvocationException e) {
+            // Exception already wrapped by another Observer down the chain.
+            throw e;
+        } catch (Throwable e) {
             throw new InvocationException(e);
         }
     }
@@ -105,12 +151,12 @@ public class ObserverImpl implements ObserverMethod, Comparable<ObserverMethod>
         if (o == null) {
             return 1;
         }
-        Integer a = getPresedence(getMethod());
-        Integer b = getPresedence(o.getMethod());
-        return b.compareTo(a);
+        int a = precedence;
+        int b = o instanceof ObserverImpl ? ((ObserverImpl) o).precedence : getPresedence(o.getMethod());
+        return Integer.compare(b, a);
     }
 
-    private Integer getPresedence(Method method) {
+    private static int getPresedence(Method method) {
         for (Annotation[] annotations : method.getParameterAnnotations()) {
             for (Annotation annotation : annotations) {
                 if (annotation.annotationType() == Observes.class) {
@@ -125,7 +171,6 @@ public class ObserverImpl implements ObserverMethod, Comparable<ObserverMethod>
      * Resolve all Observer method arguments. Unresolved argument types wil be null.
      */
     private Object[] resolveArguments(Manager manager, Object event) {
-        final Class<?>[] argumentTypes = getMethod().getParameterTypes();
         int numberOfArguments = argumentTypes.length;
 
         // we know that the first Argument is always the Event, and it will be there else this wouldn't be a Observer method
@@ -133,16 +178,45 @@ public class ObserverImpl implements ObserverMethod, Comparable<ObserverMethod>
         arguments[0] = event;
 
         for (int i = 1; i < numberOfArguments; i++) {
-            final Class<?> argumentType = argumentTypes[i];
-            arguments[i] = manager.resolve(argumentType);
-            if (RuntimeLogger.DEBUG && arguments[i] == null) {
-                log.warning(String.format("Argument %d (of type %s) for %s#%s is null. Observer method won't be invoked.", i + 1,
-                    argumentType.getSimpleName(), getMethod().getDeclaringClass().getName(), getMethod().getName()));
-            }
+            arguments[i] = resolveArgument(manager, i);
         }
         return arguments;
     }
 
+    private Object resolveArgument(Manager manager, int index) {
+        final Class<?> argumentType = argumentTypes[index];
+        Object argument = manager.resolve(argumentType);
+        if (RuntimeLogger.DEBUG && argument == null) {
+            log.warning(String.format("Argument %d (of type %s) for %s#%s is null. Observer method won't be invoked.",
+                index + 1, argumentType.getSimpleName(), method.getDeclaringClass().getName(), method.getName()));
+        }
+        return argument;
+    }
+
+    /**
+     * Create a MethodHandle for the observer method, bound to the target and adapted to a generic signature. Up to
+     * three arguments are passed directly, longer argument lists are spread from an Object[].
+     */
+    private static MethodHandle createInvoker(Object target, Method method) {
+        try {
+            if (!method.isAccessible()) {
+                method.setAccessible(true);
+            }
+            MethodHandle handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+            if (!Modifier.isStatic(method.getModifiers())) {
+                handle = handle.bindTo(target);
+            }
+            int numberOfArguments = method.getParameterTypes().length;
+            if (numberOfArguments <= 3) {
+                return handle.asType(MethodType.genericMethodType(numberOfArguments).changeReturnType(void.class));
+            }
+            return handle.asSpreader(Object[].class, numberOfArguments)
+                .asType(MethodType.methodType(void.class, Object[].class));
+        } catch (IllegalAccessException e) {
+            throw new InvocationException(e);
+        }
+    }
+
     /**
      * Check that all arguments were resolved. Do not invoke if not.
      */
@@ -23,6 +23,7 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.WildcardType;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import org.jboss.arquillian.core.api.Event;
 import org.jboss.arquillian.core.api.Instance;
@@ -40,18 +41,25 @@ final class Reflections {
     private Reflections() {
     }
 
+    /*
+     * Observer methods, injection points and event points only depend on the class, scan each class once and share
+     * the result between all instances. ClassValue ties the cached metadata to the lifecycle of the Class itself.
+     */
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(
+                scanObserverMethods(type),
+                scanFieldInjectionPoints(type),
+                scanEventPoints(type));
+        }
+    };
+
     public static List<Method> getObserverMethods(Class<?> clazz) {
-        List<Method> observerMethods = new ArrayList<Method>();
         if (clazz == null) {
-            return observerMethods;
-        }
-        for (Method method : clazz.getDeclaredMethods()) {
-            if (isObserverMethod(method)) {
-                observerMethods.add(method);
-            }
+            return Collections.emptyList();
         }
-        observerMethods.addAll(getObserverMethods(clazz.getSuperclass()));
-        return observerMethods;
+        return METADATA.get(clazz).observerMethods;
     }
 
     /**
@@ -59,17 +67,10 @@ final class Reflections {
      * @return
      */
     public static List<Field> getFieldInjectionPoints(Class<?> clazz) {
-        List<Field> injectionPoints = new ArrayList<Field>();
         if (clazz == null) {
-            return injectionPoints;
-        }
-        for (Field field : clazz.getDeclaredFields()) {
-            if (isInjectionPoint(field)) {
-                injectionPoints.add(field);
-            }
+            return Collections.emptyList();
         }
-        injectionPoints.addAll(getFieldInjectionPoints(clazz.getSuperclass()));
-        return injectionPoints;
+        return METADATA.get(clazz).injectionPoints;
     }
 
     /**
@@ -77,17 +78,10 @@ final class Reflections {
      * @return
      */
     public static List<Field> getEventPoints(Class<?> clazz) {
-        List<Field> eventPoints = new ArrayList<Field>();
         if (clazz == null) {
-            return eventPoints;
-        }
-        for (Field field : clazz.getDeclaredFields()) {
-            if (isEventPoint(field)) {
-                eventPoints.add(field);
-            }
+            return Collections.emptyList();
         }
-        eventPoints.addAll(getEventPoints(clazz.getSuperclass()));
-        return eventPoints;
+        return METADATA.get(clazz).eventPoints;
     }
 
     public static Class<? extends Annotation> getScope(Field field) {
@@ -139,6 +133,39 @@ final class Reflections {
     // Internal Helper Methods ------------------------------------------------------------||
     //-------------------------------------------------------------------------------------||
 
+    private static List<Method> scanObserverMethods(Class<?> clazz) {
+        List<Method> observerMethods = new ArrayList<Method>();
+        for (Method method : clazz.getDeclaredMethods()) {
+            if (isObserverMethod(method)) {
+                observerMethods.add(method);
+            }
+        }
+        observerMethods.addAll(getObserverMethods(clazz.getSuperclass()));
+        return Collections.unmodifiableList(observerMethods);
+    }
+
+    private static List<Field> scanFieldInjectionPoints(Class<?> clazz) {
+        List<Field> injectionPoints = new ArrayList<Field>();
+        for (Field field : clazz.getDeclaredFields()) {
+            if (isInjectionPoint(field)) {
+                injectionPoints.add(field);
+            }
+        }
+        injectionPoints.addAll(getFieldInjectionPoints(clazz.getSuperclass()));
+        return Collections.unmodifiableList(injectionPoints);
+    }
+
+    private static List<Field> scanEventPoints(Class<?> clazz) {
+        List<Field> eventPoints = new ArrayList<Field>();
+        for (Field field : clazz.getDeclaredFields()) {
+            if (isEventPoint(field)) {
+                eventPoints.add(field);
+            }
+        }
+        eventPoints.addAll(getEventPoints(clazz.getSuperclass()));
+        return Collections.unmodifiableList(eventPoints);
+    }
+
     /**
      * @param field
      * @return
@@ -204,4 +231,16 @@ final class Reflections {
         }
         return false;
     }
-}
\ No newline at end of file
+
+    private static final class ClassMetadata {
+        private final List<Method> observerMethods;
+        private final List<Field> injectionPoints;
+        private final List<Field> eventPoints;
+
+        ClassMetadata(List<Method> observerMethods, List<Field> injectionPoints, List<Field> eventPoints) {
+            this.observerMethods = observerMethods;
+            this.injectionPoints = injectionPoints;
+            this.eventPoints = eventPoints;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.core.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import org.jboss.arquillian.core.spi.EventContext;
+import org.jboss.arquillian.core.spi.FlightRecorderSupport;
+
+/**
+ * Java Flight Recorder events of the event bus, see {@link FlightRecorderSupport}.
+ */
+final class RuntimeRecorder {
+    private RuntimeRecorder() {
+    }
+
+    private static Class<?> getEventType(Object event) {
+        if (event instanceof EventContext) {
+            return ((EventContext<?>) event).getEvent().getClass();
+        }
+        return event.getClass();
+    }
+
+    @Name("org.jboss.arquillian.Fire")
+    @Threshold("1 ms")
+    @Label("Fire")
+    @Category("Arquillian")
+    @Description("An event fired on the Manager, including all its interceptors and observers")
+    static final class FireEvent extends Event {
+        @Label("Event Type")
+        Class<?> eventType;
+
+        static FireEvent start() {
+            FireEvent recording = new FireEvent();
+            recording.begin();
+            return recording;
+        }
+
+        void finish(Object event) {
+            end();
+            if (shouldCommit()) {
+                eventType = getEventType(event);
+                commit();
+            }
+        }
+    }
+
+    @Name("org.jboss.arquillian.Proceed")
+    @Threshold("1 ms")
+    @Label("Proceed")
+    @Category("Arquillian")
+    @Description("The observers of an event notified once all interceptors proceeded")
+    static final class ProceedEvent extends Event {
+        @Label("Event Type")
+        Class<?> eventType;
+
+        @Label("Observers")
+        int observers;
+
+        static ProceedEvent start() {
+            ProceedEvent recording = new ProceedEvent();
+            recording.begin();
+            return recording;
+        }
+
+        void finish(Object event, int observers) {
+            end();
+            if (shouldCommit()) {
+                this.eventType = getEventType(event);
+                this.observers = observers;
+                commit();
+            }
+        }
+    }
+
+    @Name("org.jboss.arquillian.Observer")
+    @Threshold("1 ms")
+    @Label("Observer")
+    @Category("Arquillian")
+    @Description("An invocation of an observer or interceptor method")
+    static final class ObserverEvent extends Event {
+        @Label("Event Type")
+        Class<?> eventType;
+
+        @Label("Observer Class")
+        Class<?> observerClass;
+
+        @Label("Observer Method")
+        String observerMethod;
+
+        @Label("Interceptor")
+        boolean interceptor;
+
+        @Label("Invoked")
+        @Description("False if an argument could not be resolved or the method failed")
+        boolean invoked;
+
+        static ObserverEvent start() {
+            ObserverEvent recording = new ObserverEvent();
+            recording.begin();
+            return recording;
+        }
+
+        void finish(ObserverImpl observer, Object event, boolean invoked) {
+            end();
+            if (shouldCommit()) {
+                this.eventType = getEventType(event);
+                this.observerClass = observer.getMethod().getDeclaringClass();
+                this.observerMethod = observer.getMethod().getName();
+                this.interceptor = event instanceof EventContext;
+                this.invoked = invoked;
+                commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.core.impl.loadable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * On disk index of the providers and exclusions resolved from the META-INF/services and META-INF/exclusions files of
+ * the application classpath.
+ * <p>
+ * The index is keyed by a fingerprint of the classpath, made of the path, size and last modified time of every jar
+ * and directory on it, plus the service and exclusion files inside the directories. As long as the fingerprint
+ * matches, the resolved class names are taken from the index and the classpath is not searched for the resources at
+ * all. The index is opt-in and enabled by pointing the {@value #INDEX_PROPERTY} system property to a file, e.g. in the
+ * build output directory.
+ */
+final class ExtensionIndex {
+    static final String INDEX_PROPERTY = "arquillian.extension.index";
+
+    private static final Logger log = Logger.getLogger(ExtensionIndex.class.getName());
+
+    private static final int MAGIC = 0x41525149;
+    private static final int VERSION = 2;
+
+    private static final String[] INDEXED_DIRECTORIES = {"META-INF/services", "META-INF/exclusions"};
+
+    // share one index per file within the JVM, every Manager creates a new loader
+    private static final ConcurrentMap<File, ExtensionIndex> INDEXES = new ConcurrentHashMap<File, ExtensionIndex>();
+
+    private final File file;
+    private final String fingerprint;
+    private final Map<String, List<String>> entries;
+    private boolean modified;
+
+    private ExtensionIndex(File file, String fingerprint) {
+        this.file = file;
+        this.fingerprint = fingerprint;
+        this.entries = new LinkedHashMap<String, List<String>>();
+    }
+
+    /**
+     * @return the index configured through {@value #INDEX_PROPERTY} or null if not enabled
+     */
+    static ExtensionIndex fromSystemProperty() {
+        String location = SecurityActions.getProperty(INDEX_PROPERTY);
+        if (location == null || location.trim().isEmpty()) {
+            return null;
+        }
+        return of(new File(location.trim()));
+    }
+
+    static ExtensionIndex of(File file) {
+        File key = file.getAbsoluteFile();
+        ExtensionIndex index = INDEXES.get(key);
+        if (index == null) {
+            index = of(key, classPathFingerprint(SecurityActions.getProperty("java.class.path")));
+            ExtensionIndex existing = INDEXES.putIfAbsent(key, index);
+            if (existing != null) {
+                index = existing;
+            }
+        }
+        return index;
+    }
+
+    static ExtensionIndex of(File file, String fingerprint) {
+        ExtensionIndex index = new ExtensionIndex(file.getAbsoluteFile(), fingerprint);
+        index.read();
+        return index;
+    }
+
+    /**
+     * @return true if the index describes the resources seen through the given ClassLoader
+     */
+    boolean covers(ClassLoader loader) {
+        return fingerprint != null && loader == ClassLoader.getSystemClassLoader();
+    }
+
+    /**
+     * @return the resolved entries of the resource, or null if not indexed
+     */
+    synchronized List<String> get(String resource) {
+        return entries.get(resource);
+    }
+
+    /**
+     * Add the resolved entries of the resource. The index is only written to disk by {@link #store()}.
+     */
+    synchronized void put(String resource, List<String> resolved) {
+        entries.put(resource, Collections.unmodifiableList(new ArrayList<String>(resolved)));
+        modified = true;
+    }
+
+    /**
+     * Write the index to disk if entries were added since it was read or last stored.
+     */
+    synchronized void store() {
+        if (modified && fingerprint != null) {
+            write();
+            modified = false;
+        }
+    }
+
+    /**
+     * Create a fingerprint for the given class path.
+     *
+     * @return the fingerprint or null if the class path is empty
+     */
+    static String classPathFingerprint(String classPath) {
+        if (classPath == null || classPath.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (File element : classPathElements(classPath)) {
+                update(digest, element);
+                if (element.isDirectory()) {
+                    for (String directory : INDEXED_DIRECTORIES) {
+                        File indexed = new File(element, directory);
+                        update(digest, indexed);
+                        File[] files = indexed.listFiles();
+                        if (files != null) {
+                            Arrays.sort(files);
+                            for (File child : files) {
+                                update(digest, child);
+                            }
+                        }
+                    }
+                }
+            }
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest.digest()) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    //-------------------------------------------------------------------------------------||
+    // Internal Helper Methods ------------------------------------------------------------||
+    //-------------------------------------------------------------------------------------||
+
+    private static void update(MessageDigest digest, File file) {
+        digest.update(file.getAbsolutePath().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(Long.toString(file.length()).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(Long.toString(file.lastModified()).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    /**
+     * A class path of a single jar is expanded to the Class-Path of its manifest, as used by launchers such as the
+     * Surefire booter, so the fingerprint does not depend on the name of the launcher jar.
+     */
+    private static List<File> classPathElements(String classPath) {
+        List<File> elements = new ArrayList<File>();
+        StringTokenizer tokenizer = new StringTokenizer(classPath, File.pathSeparator);
+        while (tokenizer.hasMoreTokens()) {
+            elements.add(new File(tokenizer.nextToken()).getAbsoluteFile());
+        }
+        if (elements.size() == 1 && elements.get(0).isFile()) {
+            List<File> manifestClassPath = manifestClassPath(elements.get(0));
+            if (!manifestClassPath.isEmpty()) {
+                return manifestClassPath;
+            }
+        }
+        return elements;
+    }
+
+    private static List<File> manifestClassPath(File jar) {
+        List<File> elements = new ArrayList<File>();
+        JarFile jarFile = null;
+        try {
+            jarFile = new JarFile(jar);
+            Manifest manifest = jarFile.getManifest();
+            String classPath = manifest == null ? null : manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH);
+            if (classPath != null) {
+                URL base = jar.toURI().toURL();
+                StringTokenizer tokenizer = new StringTokenizer(classPath);
+                while (tokenizer.hasMoreTokens()) {
+                    elements.add(new File(new URI(new URL(base, tokenizer.nextToken()).toExternalForm())));
+                }
+            }
+        } catch (Exception e) {
+            log.log(Level.FINE, "Could not read manifest class path of " + jar, e);
+            elements.clear();
+        } finally {
+            closeQuietly(jarFile);
+        }
+        return elements;
+    }
+
+    private void read() {
+        if (fingerprint == null || !file.isFile()) {
+            return;
+        }
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || !fingerprint.equals(in.readUTF())) {
+                return;
+            }
+            int numberOfEntries = in.readInt();
+            for (int i = 0; i < numberOfEntries; i++) {
+                String resource = in.readUTF();
+                int numberOfResolved = in.readInt();
+                List<String> resolved = new ArrayList<String>(numberOfResolved);
+                for (int j = 0; j < numberOfResolved; j++) {
+                    resolved.add(in.readUTF());
+                }
+                entries.put(resource, Collections.unmodifiableList(resolved));
+            }
+        } catch (IOException e) {
+            log.log(Level.FINE, "Could not read extension index " + file + ", ignoring it", e);
+            entries.clear();
+        } finally {
+            closeQuietly(in);
+        }
+    }
+
+    private void write() {
+        File directory = file.getParentFile();
+        DataOutputStream out = null;
+        File temp = null;
+        try {
+            if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+                throw new IOException("Could not create directory " + directory);
+            }
+            // write to a temporary file and move it in place, several forks may share the same index
+            temp = File.createTempFile(file.getName(), ".tmp", directory);
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(fingerprint);
+            out.writeInt(entries.size());
+            for (Map.Entry<String, List<String>> entry : entries.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue().size());
+                for (String resolved : entry.getValue()) {
+                    out.writeUTF(resolved);
+                }
+            }
+            out.close();
+            out = null;
+            try {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.log(Level.WARNING, "Could not write extension index " + file, e);
+        } finally {
+            closeQuietly(out);
+            if (temp != null && temp.exists()) {
+                temp.delete();
+            }
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+}
@@ -22,10 +22,12 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URL;
 import java.net.URLConnection;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Enumeration;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
@@ -47,6 +49,24 @@ public class JavaSPIExtensionLoader implements ExtensionLoader {
     private static final String SERVICES = "META-INF/services";
     private static final String EXCLUSIONS = "META-INF/exclusions";
 
+    //-------------------------------------------------------------------------------------||
+    // Instance Members -------------------------------------------------------------------||
+    //-------------------------------------------------------------------------------------||
+
+    private final ExtensionIndex index;
+
+    public JavaSPIExtensionLoader() {
+        this(ExtensionIndex.fromSystemProperty());
+    }
+
+    /**
+     * @param index
+     *     the index to read resolved providers and exclusions from, null to always scan the classpath
+     */
+    JavaSPIExtensionLoader(ExtensionIndex index) {
+        this.index = index;
+    }
+
     //-------------------------------------------------------------------------------------||
     // Required Implementations - ExtensionLoader -----------------------------------------||
     //-------------------------------------------------------------------------------------||
@@ -87,6 +107,15 @@ public class JavaSPIExtensionLoader implements ExtensionLoader {
 
         final Map<Class<?>, Set<Class<?>>> vetoed = new LinkedHashMap<Class<?>, Set<Class<?>>>();
 
+        List<String> indexed = indexed(classLoader, EXCLUSIONS);
+        if (indexed != null) {
+            for (String entry : indexed) {
+                int separator = entry.indexOf('=');
+                addVetoedClasses(entry.substring(0, separator), entry.substring(separator + 1), classLoader, vetoed);
+            }
+            return vetoed;
+        }
+
         try {
             final Enumeration<URL> exclusions = classLoader.getResources(EXCLUSIONS);
 
@@ -116,9 +145,30 @@ public class JavaSPIExtensionLoader implements ExtensionLoader {
             throw new RuntimeException("Could not load exclusions from " + EXCLUSIONS, e);
         }
 
+        if (isIndexed(classLoader)) {
+            List<String> resolved = new ArrayList<String>();
+            for (Map.Entry<Class<?>, Set<Class<?>>> entry : vetoed.entrySet()) {
+                StringBuilder serviceImpls = new StringBuilder();
+                for (Class<?> serviceImpl : entry.getValue()) {
+                    serviceImpls.append(serviceImpls.length() == 0 ? "" : ",").append(serviceImpl.getName());
+                }
+                resolved.add(entry.getKey().getName() + "=" + serviceImpls);
+            }
+            index.put(EXCLUSIONS, resolved);
+        }
         return vetoed;
     }
 
+    /**
+     * Write the providers and exclusions resolved so far to the {@link ExtensionIndex}, if enabled. Called once the
+     * extensions are loaded, so a cold start writes the index only once.
+     */
+    void storeIndex() {
+        if (index != null) {
+            index.store();
+        }
+    }
+
     //-------------------------------------------------------------------------------------||
     // Internal Helper Methods - Service Loading ------------------------------------------||
     //-------------------------------------------------------------------------------------||
@@ -162,6 +212,18 @@ public class JavaSPIExtensionLoader implements ExtensionLoader {
         Set<Class<? extends T>> providers = new LinkedHashSet<Class<? extends T>>();
         Set<Class<? extends T>> vetoedProviders = new LinkedHashSet<Class<? extends T>>();
 
+        List<String> indexed = indexed(loader, serviceFile);
+        if (indexed != null) {
+            try {
+                for (String provider : indexed) {
+                    providers.add(loader.loadClass(provider).asSubclass(serviceClass));
+                }
+                return providers;
+            } catch (Exception e) {
+                throw new RuntimeException("Could not load services for " + serviceClass.getName(), e);
+            }
+        }
+
         try {
             Enumeration<URL> enumeration = loader.getResources(serviceFile);
             while (enumeration.hasMoreElements()) {
@@ -213,9 +275,25 @@ public class JavaSPIExtensionLoader implements ExtensionLoader {
         } catch (Exception e) {
             throw new RuntimeException("Could not load services for " + serviceClass.getName(), e);
         }
+
+        if (isIndexed(loader)) {
+            List<String> resolved = new ArrayList<String>();
+            for (Class<? extends T> provider : providers) {
+                resolved.add(provider.getName());
+            }
+            index.put(serviceFile, resolved);
+        }
         return providers;
     }
 
+    private boolean isIndexed(ClassLoader loader) {
+        return index != null && index.covers(loader);
+    }
+
+    private List<String> indexed(ClassLoader loader, String resource) {
+        return isIndexed(loader) ? index.get(resource) : null;
+    }
+
     private String skipCommentAndTrim(String line) {
         final int comment = line.indexOf('#');
         if (comment > -1) {
@@ -101,6 +101,7 @@ public class LoadableExtensionLoader {
                 }
             });
         }
+        serviceLoader.storeIndex();
         serviceLoaderProducer.set(registry.getServiceLoader());
     }
 
@@ -21,8 +21,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.jboss.arquillian.core.api.Injector;
 import org.jboss.arquillian.core.spi.ServiceLoader;
+import org.jboss.arquillian.core.spi.SharedService;
 
 /**
  * MixedServiceLoader
@@ -33,9 +36,13 @@ public class ServiceRegistryLoader implements ServiceLoader {
     private Injector injector;
     private ServiceRegistry registry;
 
+    // instances of @SharedService implementations, live as long as this loader (application scope)
+    private final ConcurrentMap<Class<?>, Object> sharedInstances;
+
     public ServiceRegistryLoader(Injector injector, ServiceRegistry registry) {
         this.injector = injector;
         this.registry = registry;
+        this.sharedInstances = new ConcurrentHashMap<Class<?>, Object>();
     }
 
     /* (non-Javadoc)
@@ -46,7 +53,7 @@ public class ServiceRegistryLoader implements ServiceLoader {
         List<T> serviceImpls = new ArrayList<T>();
         Set<Class<? extends T>> serviceImplClasses = registry.getServiceImpls(serviceClass);
         for (Class<? extends T> serviceImplClass : serviceImplClasses) {
-            T serviceImpl = createServiceInstance(serviceImplClass);
+            T serviceImpl = getServiceInstance(serviceImplClass);
             serviceImpls.add(serviceImpl);
         }
         return serviceImpls;
@@ -80,11 +87,26 @@ public class ServiceRegistryLoader implements ServiceLoader {
         }
 
         if (one == null) {
-            one = createServiceInstance(defaultServiceClass);
+            one = getServiceInstance(defaultServiceClass);
         }
         return one;
     }
 
+    private <T> T getServiceInstance(Class<T> service) {
+        if (!service.isAnnotationPresent(SharedService.class)) {
+            return createServiceInstance(service);
+        }
+        Object shared = sharedInstances.get(service);
+        if (shared == null) {
+            shared = createServiceInstance(service);
+            Object existing = sharedInstances.putIfAbsent(service, shared);
+            if (existing != null) {
+                shared = existing;
+            }
+        }
+        return service.cast(shared);
+    }
+
     private <T> T createServiceInstance(Class<T> service) {
         T serviceInst = SecurityActions.newInstance(
             service,
@@ -94,6 +94,25 @@ public class ExtensionParseTestCase {
             "some string", event.getString());
     }
 
+    @Test
+    public void shouldBindObserversAndInjectionPointsToEachInstanceOfSameClass() throws Exception {
+        ExtensionWithInjection first = new ExtensionWithInjection();
+        ExtensionWithInjection second = new ExtensionWithInjection();
+        Extension firstExtension = ExtensionImpl.of(first);
+        Extension secondExtension = ExtensionImpl.of(second);
+
+        Instance<Object> firstInstance = new DummyInstanceImpl();
+        firstExtension.getInjectionPoints().get(0).set(firstInstance);
+        secondExtension.getInjectionPoints().get(0).set(new DummyInstanceImpl());
+
+        firstExtension.getObservers().get(0).invoke(null, new Object());
+
+        Assert.assertTrue(first.methodOneWasCalled);
+        Assert.assertFalse(second.methodOneWasCalled);
+        Assert.assertNotNull(firstInstance.get());
+        Assert.assertNull(second.object.get());
+    }
+
     private static class DummyInstanceImpl implements InstanceProducer<Object> {
         private Object object;
 
@@ -0,0 +1,132 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.core.impl;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.jboss.arquillian.core.api.annotation.Observes;
+import org.jboss.arquillian.core.spi.EventContext;
+import org.jboss.arquillian.core.spi.FlightRecorderSupport;
+import org.jboss.arquillian.core.spi.ManagerBuilder;
+import org.jboss.arquillian.core.test.context.ManagerTest2Context;
+import org.jboss.arquillian.core.test.context.ManagerTest2ContextImpl;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Verifies the Java Flight Recorder events of the event bus and the contexts.
+ */
+public class FlightRecorderTestCase {
+    @Test
+    public void shouldRecordFiredEventsObserversAndContexts() throws Exception {
+        Assert.assertTrue(FlightRecorderSupport.isEnabled());
+
+        ManagerImpl manager = (ManagerImpl) ManagerBuilder.from()
+            .context(ManagerTest2ContextImpl.class)
+            .extension(RecordedExtension.class).create();
+        ManagerTest2Context context = manager.getContext(ManagerTest2Context.class);
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            for (String name : new String[] {"Fire", "Proceed", "Observer", "Context"}) {
+                recording.enable("org.jboss.arquillian." + name).withoutThreshold();
+            }
+            recording.start();
+
+            context.activate("A");
+            manager.fire(new RecordedEvent1());
+            context.deactivate();
+
+            recording.stop();
+            events = readEvents(recording);
+        } finally {
+            manager.shutdown();
+        }
+
+        RecordedEvent fire = findEvent(events, "org.jboss.arquillian.Fire");
+        Assert.assertEquals(RecordedEvent1.class.getName(), fire.<RecordedClass>getValue("eventType").getName());
+
+        RecordedEvent proceed = findEvent(events, "org.jboss.arquillian.Proceed");
+        Assert.assertEquals(1, proceed.getInt("observers"));
+
+        List<String> observers = new ArrayList<String>();
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals("org.jboss.arquillian.Observer")) {
+                Assert.assertEquals(RecordedExtension.class.getName(),
+                    event.<RecordedClass>getValue("observerClass").getName());
+                Assert.assertEquals(RecordedEvent1.class.getName(),
+                    event.<RecordedClass>getValue("eventType").getName());
+                observers.add(event.getString("observerMethod") + ":" + event.getBoolean("interceptor"));
+            }
+        }
+        Assert.assertTrue(observers.contains("intercept:true"));
+        Assert.assertTrue(observers.contains("observe:false"));
+
+        List<Boolean> activations = new ArrayList<Boolean>();
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals("org.jboss.arquillian.Context")
+                && event.<RecordedClass>getValue("context").getName().equals(ManagerTest2ContextImpl.class.getName())) {
+                Assert.assertEquals("A", event.getString("contextId"));
+                activations.add(event.getBoolean("activated"));
+            }
+        }
+        Assert.assertTrue(activations.contains(true));
+        Assert.assertTrue(activations.contains(false));
+    }
+
+    //-------------------------------------------------------------------------------------||
+    // Internal Helper Methods ------------------------------------------------------------||
+    //-------------------------------------------------------------------------------------||
+
+    private static List<RecordedEvent> readEvents(Recording recording) throws Exception {
+        Path file = Files.createTempFile("arquillian", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static RecordedEvent findEvent(List<RecordedEvent> events, String name) {
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(name)) {
+                return event;
+            }
+        }
+        Assert.fail("No " + name + " event recorded");
+        return null;
+    }
+
+    public static class RecordedEvent1 {
+    }
+
+    public static class RecordedExtension {
+        public void intercept(@Observes EventContext<RecordedEvent1> context) {
+            context.proceed();
+        }
+
+        public void observe(@Observes RecordedEvent1 event) {
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.jboss.arquillian.core.spi.NonManagedObserver;
 import org.jboss.arquillian.core.spi.context.ApplicationContext;
 import org.jboss.arquillian.core.test.context.ManagerTest2Context;
 import org.jboss.arquillian.core.test.context.ManagerTest2ContextImpl;
+import org.jboss.arquillian.core.test.context.ManagerTest2Scoped;
 import org.jboss.arquillian.core.test.context.ManagerTestContext;
 import org.jboss.arquillian.core.test.context.ManagerTestContextImpl;
 import org.jboss.arquillian.core.test.context.ManagerTestScoped;
@@ -90,6 +91,44 @@ public class ManagerImplTestCase {
         }
     }
 
+    @Test
+    public void shouldResolveOnlyFromActiveContexts() throws Exception {
+        ManagerImpl manager = (ManagerImpl) ManagerBuilder.from()
+            .context(ManagerTestContextImpl.class)
+            .context(ManagerTest2ContextImpl.class).create();
+
+        ManagerTestContext suiteContext = manager.getContext(ManagerTestContext.class);
+        ManagerTest2Context classContext = manager.getContext(ManagerTest2Context.class);
+
+        try {
+            classContext.activate("A");
+            manager.bind(ManagerTest2Scoped.class, String.class, "class");
+            classContext.deactivate();
+
+            suiteContext.activate();
+            manager.bind(ManagerTestScoped.class, String.class, "suite");
+
+            Assert.assertEquals(
+                "Verify inactive contexts are skipped",
+                "suite", manager.resolve(String.class));
+
+            classContext.activate("A");
+            manager.bind(ManagerTest2Scoped.class, Integer.class, 1);
+
+            Assert.assertEquals(1, (int) manager.resolve(Integer.class));
+
+            suiteContext.deactivate();
+
+            Assert.assertEquals(
+                "Verify value is resolved from the remaining active context",
+                "class", manager.resolve(String.class));
+        } finally {
+            classContext.deactivate();
+            classContext.destroy("A");
+            suiteContext.destroy();
+        }
+    }
+
     @Test
     public void shouldResolveToNullIfNoActiveContexts() throws Exception {
         ManagerImpl manager = (ManagerImpl) ManagerBuilder.from().create();
@@ -139,6 +178,32 @@ public class ManagerImplTestCase {
         manager.bind(ManagerTestScoped.class, Object.class, new Object());
     }
 
+    @Test
+    public void shouldResolveObserversAddedAndRemovedAfterFire() throws Exception {
+        ManagerImpl manager = (ManagerImpl) ManagerBuilder.from().create();
+        manager.fire(1);
+
+        manager.addExtension(CountingExtension.class);
+        manager.fire(2);
+
+        CountingExtension extension = manager.getExtension(CountingExtension.class);
+        Assert.assertEquals("Observer added after first fire should be resolved", 1, extension.count);
+
+        manager.removeExtension(CountingExtension.class);
+        manager.fire(3);
+
+        Assert.assertEquals("Removed observer should not be resolved", 1, extension.count);
+    }
+
+    private static class CountingExtension {
+        private int count = 0;
+
+        @SuppressWarnings("unused")
+        public void on(@Observes Integer event) {
+            count++;
+        }
+    }
+
     private static class TestExtension {
         private boolean wasCalled = false;
 
@@ -0,0 +1,135 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.core.impl;
+
+import org.jboss.arquillian.core.api.annotation.ApplicationScoped;
+import org.jboss.arquillian.core.api.annotation.Observes;
+import org.jboss.arquillian.core.spi.InvocationException;
+import org.jboss.arquillian.core.spi.ManagerBuilder;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Verifies how {@link ObserverImpl} passes the arguments to the observer method and wraps its exceptions.
+ */
+public class ObserverImplTestCase {
+    private ManagerImpl manager;
+
+    @Before
+    public void createManager() {
+        manager = (ManagerImpl) ManagerBuilder.from()
+            .extension(FourArgumentObserver.class).create();
+        manager.start();
+    }
+
+    @After
+    public void shutdownManager() {
+        manager.shutdown();
+        StaticObserver.event = null;
+        StaticObserver.argument = null;
+    }
+
+    @Test
+    public void shouldPassAllArgumentsToObserverWithMoreThanThreeArguments() throws Exception {
+        manager.bind(ApplicationScoped.class, String.class, "a");
+        manager.bind(ApplicationScoped.class, Integer.class, 2);
+        manager.bind(ApplicationScoped.class, Long.class, 3L);
+
+        manager.fire(1.0);
+
+        FourArgumentObserver observer = manager.getExtension(FourArgumentObserver.class);
+        Assert.assertArrayEquals(new Object[] {1.0, "a", 2, 3L}, observer.arguments);
+    }
+
+    @Test
+    public void shouldNotInvokeObserverWithMoreThanThreeArgumentsIfOneIsMissing() throws Exception {
+        manager.bind(ApplicationScoped.class, String.class, "a");
+        manager.bind(ApplicationScoped.class, Integer.class, 2);
+
+        ObserverImpl observer = ObserverImpl.of(new FourArgumentObserver(),
+            FourArgumentObserver.class.getMethod("observe", Double.class, String.class, Integer.class, Long.class));
+
+        Assert.assertFalse(observer.invoke(manager, 1.0));
+    }
+
+    @Test
+    public void shouldInvokeStaticObserver() throws Exception {
+        manager.bind(ApplicationScoped.class, String.class, "a");
+
+        ObserverImpl observer = ObserverImpl.of(null,
+            StaticObserver.class.getMethod("observe", Double.class, String.class));
+
+        Assert.assertTrue(observer.invoke(manager, 1.0));
+        Assert.assertEquals(1.0, StaticObserver.event);
+        Assert.assertEquals("a", StaticObserver.argument);
+    }
+
+    @Test
+    public void shouldWrapExceptionThrownByObserver() throws Exception {
+        ObserverImpl observer = ObserverImpl.of(new ThrowingObserver(),
+            ThrowingObserver.class.getMethod("observe", Exception.class));
+
+        Exception exception = new Exception("_TEST_");
+        try {
+            observer.invoke(manager, exception);
+            Assert.fail("Verify the exception is rethrown");
+        } catch (InvocationException e) {
+            Assert.assertSame(exception, e.getCause());
+        }
+    }
+
+    @Test
+    public void shouldNotWrapInvocationExceptionAgain() throws Exception {
+        ObserverImpl observer = ObserverImpl.of(new ThrowingObserver(),
+            ThrowingObserver.class.getMethod("observe", Exception.class));
+
+        // e.g. thrown by an observer down the chain
+        InvocationException exception = new InvocationException(new Exception("_TEST_"));
+        try {
+            observer.invoke(manager, exception);
+            Assert.fail("Verify the exception is rethrown");
+        } catch (InvocationException e) {
+            Assert.assertSame(exception, e);
+        }
+    }
+
+    public static class FourArgumentObserver {
+        private Object[] arguments;
+
+        public void observe(@Observes Double event, String a, Integer b, Long c) {
+            arguments = new Object[] {event, a, b, c};
+        }
+    }
+
+    public static class StaticObserver {
+        private static Object event;
+        private static Object argument;
+
+        public static void observe(@Observes Double event, String argument) {
+            StaticObserver.event = event;
+            StaticObserver.argument = argument;
+        }
+    }
+
+    public static class ThrowingObserver {
+        public void observe(@Observes Exception event) throws Exception {
+            throw event;
+        }
+    }
+}
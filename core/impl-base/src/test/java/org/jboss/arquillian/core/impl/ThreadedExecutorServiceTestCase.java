@@ -18,10 +18,12 @@ package org.jboss.arquillian.core.impl;
 
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import org.jboss.arquillian.core.api.Event;
 import org.jboss.arquillian.core.api.Instance;
 import org.jboss.arquillian.core.api.annotation.Inject;
+import org.jboss.arquillian.core.api.annotation.Observes;
 import org.jboss.arquillian.core.api.threading.ExecutorService;
 import org.jboss.arquillian.core.spi.context.Context;
 import org.jboss.arquillian.core.test.AbstractManagerTestBase;
@@ -44,6 +46,12 @@ public class ThreadedExecutorServiceTestCase extends AbstractManagerTestBase {
         contexts.add(ManagerTest2ContextImpl.class);
     }
 
+    @Override
+    protected void addExtensions(List<Class<?>> extensions) {
+        extensions.add(SubmittingObserver.class);
+        extensions.add(FailingObserver.class);
+    }
+
     @Test
     public void shouldReplicateContextualInformationToNewThread() throws Exception {
         ExecutorService service = serviceInst.get();
@@ -72,4 +80,45 @@ public class ThreadedExecutorServiceTestCase extends AbstractManagerTestBase {
         assertEventFiredInContext(String.class, ManagerTestContext.class);
         assertEventNotFiredInContext(String.class, ManagerTest2Context.class);
     }
+
+    @Test
+    public void shouldNotRefireExceptionHandledOnOtherThread() throws Exception {
+        try {
+            fire(1);
+            Assert.fail("Expected the exception of the submitted task to be rethrown");
+        } catch (IllegalStateException e) {
+            Assert.assertEquals("_TEST_", e.getMessage());
+        }
+        assertEventFired(IllegalStateException.class, 1);
+        assertEventFiredOnOtherThread(IllegalStateException.class);
+    }
+
+    public static class SubmittingObserver {
+        @Inject
+        private Instance<ExecutorService> executorService;
+
+        public void submit(@Observes Integer event) throws Throwable {
+            Future<Void> future = executorService.get().submit(new Callable<Void>() {
+                @Inject
+                private Event<Long> event;
+
+                @Override
+                public Void call() throws Exception {
+                    event.fire(1L);
+                    return null;
+                }
+            });
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    public static class FailingObserver {
+        public void fail(@Observes Long event) {
+            throw new IllegalStateException("_TEST_");
+        }
+    }
 }
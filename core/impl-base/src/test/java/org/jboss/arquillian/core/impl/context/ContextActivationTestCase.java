@@ -18,6 +18,7 @@ package org.jboss.arquillian.core.impl.context;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.jboss.arquillian.core.spi.context.ObjectStore;
 import org.jboss.arquillian.core.test.context.ManagerTest2Context;
 import org.jboss.arquillian.core.test.context.ManagerTest2ContextImpl;
@@ -125,4 +126,37 @@ public class ContextActivationTestCase {
             context.clearAll();
         }
     }
+
+    @Test
+    public void shouldDeactivateContextOfOtherThreadsOnClearAll() throws Exception {
+        final CountDownLatch activated = new CountDownLatch(1);
+        final CountDownLatch cleared = new CountDownLatch(1);
+        final AtomicBoolean activeAfterClear = new AtomicBoolean(true);
+        final ManagerTestContext context = new ManagerTestContextImpl();
+
+        Thread thread = new Thread() {
+            public void run() {
+                context.activate();
+                activated.countDown();
+                try {
+                    cleared.await(1, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                activeAfterClear.set(context.isActive());
+            }
+        };
+        thread.start();
+
+        if (!activated.await(1, TimeUnit.SECONDS)) {
+            Assert.fail("Thread never called?");
+        }
+        context.clearAll();
+        cleared.countDown();
+        thread.join(1000);
+
+        Assert.assertFalse(
+            "Context activated by other thread should be deactivated by clearAll",
+            activeAfterClear.get());
+    }
 }
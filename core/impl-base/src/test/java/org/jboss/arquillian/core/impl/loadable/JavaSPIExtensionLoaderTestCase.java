@@ -17,7 +17,9 @@
  */
 package org.jboss.arquillian.core.impl.loadable;
 
+import java.io.File;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import org.jboss.arquillian.core.impl.loadable.util.FakeService;
@@ -27,9 +29,12 @@ import org.jboss.shrinkwrap.api.Archive;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.asset.StringAsset;
 import org.jboss.shrinkwrap.api.classloader.ShrinkWrapClassLoader;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
 import org.jboss.shrinkwrap.api.spec.JavaArchive;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  * JavaSPIExtensionLoaderTestCase
@@ -40,6 +45,9 @@ public class JavaSPIExtensionLoaderTestCase {
 
     private static final String NEW_LINE = System.getProperty("line.separator");
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void shouldBeAbleToAddSelectedProvider() throws Exception {
         Collection<FakeService> all = new JavaSPIExtensionLoader().all(
@@ -108,6 +116,80 @@ public class JavaSPIExtensionLoaderTestCase {
         Assert.assertEquals("Unexpected number of vetoed services impl", 2, vetoed.get(service).size());
     }
 
+    @Test
+    public void shouldWriteIndexOnceProvidersAreLoaded() throws Exception {
+        ClassLoader classLoader = ClassLoader.getSystemClassLoader();
+        File indexFile = new File(folder.getRoot(), "index/extensions.idx");
+        ExtensionIndex index = ExtensionIndex.of(indexFile, "fingerprint");
+
+        JavaSPIExtensionLoader loader = new JavaSPIExtensionLoader(index);
+        Collection<FakeService> all = loader.all(classLoader, FakeService.class);
+        loader.loadVetoed(classLoader);
+
+        Assert.assertEquals("Unexpected number of provider loaded", 1, all.size());
+        Assert.assertEquals("Wrong provider loaded", ShouldBeIncluded.class, all.iterator().next().getClass());
+        Assert.assertFalse("Index should not be written before it is stored", indexFile.exists());
+
+        loader.storeIndex();
+        Assert.assertTrue("Index should have been written", indexFile.isFile());
+
+        ExtensionIndex read = ExtensionIndex.of(indexFile, "fingerprint");
+        Assert.assertEquals(Collections.singletonList(ShouldBeIncluded.class.getName()),
+            read.get("META-INF/services/" + FakeService.class.getName()));
+
+        all = new JavaSPIExtensionLoader(read).all(classLoader, FakeService.class);
+
+        Assert.assertEquals("Unexpected number of provider loaded from index", 1, all.size());
+        Assert.assertEquals("Wrong provider loaded from index", ShouldBeIncluded.class,
+            all.iterator().next().getClass());
+    }
+
+    @Test
+    public void shouldLoadProvidersFromIndexWithoutScanning() throws Exception {
+        String resource = "META-INF/services/" + FakeService.class.getName();
+        ExtensionIndex index = ExtensionIndex.of(folder.newFile("extensions.idx"), "fingerprint");
+        index.put(resource, Collections.singletonList(ShouldBeExcluded.class.getName()));
+
+        Collection<FakeService> all =
+            new JavaSPIExtensionLoader(index).all(ClassLoader.getSystemClassLoader(), FakeService.class);
+
+        Assert.assertEquals("Unexpected number of provider loaded", 1, all.size());
+        Assert.assertEquals("Provider should have been read from index", ShouldBeExcluded.class,
+            all.iterator().next().getClass());
+    }
+
+    @Test
+    public void shouldIgnoreIndexOfOtherClassPath() throws Exception {
+        File indexFile = folder.newFile("extensions.idx");
+        ExtensionIndex index = ExtensionIndex.of(indexFile, "fingerprint");
+        index.put("META-INF/services/" + FakeService.class.getName(),
+            Collections.singletonList(ShouldBeExcluded.class.getName()));
+        index.store();
+
+        Assert.assertNull(ExtensionIndex.of(indexFile, "other")
+            .get("META-INF/services/" + FakeService.class.getName()));
+    }
+
+    @Test
+    public void shouldFingerprintManifestClassPathOfLauncherJar() throws Exception {
+        File classes = folder.newFolder("classes");
+        File launcher = new File(folder.getRoot(), "launcher.jar");
+        ShrinkWrap.create(JavaArchive.class)
+            .setManifest(new StringAsset("Manifest-Version: 1.0" + NEW_LINE
+                + "Class-Path: " + classes.toURI() + NEW_LINE))
+            .as(ZipExporter.class).exportTo(launcher);
+
+        Assert.assertEquals(ExtensionIndex.classPathFingerprint(classes.getAbsolutePath()),
+            ExtensionIndex.classPathFingerprint(launcher.getAbsolutePath()));
+
+        File services = new File(classes, "META-INF/services");
+        Assert.assertTrue(services.mkdirs());
+        String before = ExtensionIndex.classPathFingerprint(launcher.getAbsolutePath());
+        Assert.assertTrue(new File(services, FakeService.class.getName()).createNewFile());
+
+        Assert.assertNotEquals(before, ExtensionIndex.classPathFingerprint(launcher.getAbsolutePath()));
+    }
+
     private Archive<JavaArchive> createJarWithVetoedServices() {
         StringAsset exclusions = new StringAsset(""
             +
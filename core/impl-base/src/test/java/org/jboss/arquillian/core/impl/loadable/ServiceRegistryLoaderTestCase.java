@@ -24,7 +24,9 @@ import org.jboss.arquillian.core.api.Injector;
 import org.jboss.arquillian.core.api.Instance;
 import org.jboss.arquillian.core.api.annotation.ApplicationScoped;
 import org.jboss.arquillian.core.api.annotation.Inject;
+import org.jboss.arquillian.core.spi.ServiceLoader;
 import org.jboss.arquillian.core.impl.loadable.util.FakeService;
+import org.jboss.arquillian.core.impl.loadable.util.SharedFakeService;
 import org.jboss.arquillian.core.impl.loadable.util.ShouldBeExcluded;
 import org.jboss.arquillian.core.impl.loadable.util.ShouldBeIncluded;
 import org.jboss.arquillian.core.test.AbstractManagerTestBase;
@@ -152,4 +154,31 @@ public class ServiceRegistryLoaderTestCase extends AbstractManagerTestBase {
         FakeService service = registry.getServiceLoader().onlyOne(FakeService.class);
         Assert.assertNotNull("Could load package protected service", service);
     }
+
+    @Test
+    public void shouldReuseInstancesOfSharedServices() throws Exception {
+        ServiceRegistry registry = new ServiceRegistry(injector.get(), new LinkedHashMap<Class<?>, Set<Class<?>>>());
+        registry.addService(FakeService.class, SharedFakeService.class);
+        registry.addService(FakeService.class, ShouldBeIncluded.class);
+
+        ServiceLoader loader = registry.getServiceLoader();
+        FakeService firstShared = onlyOfType(loader.all(FakeService.class), SharedFakeService.class);
+        FakeService secondShared = onlyOfType(loader.all(FakeService.class), SharedFakeService.class);
+        FakeService firstNonShared = onlyOfType(loader.all(FakeService.class), ShouldBeIncluded.class);
+        FakeService secondNonShared = onlyOfType(loader.all(FakeService.class), ShouldBeIncluded.class);
+
+        Assert.assertSame("Verify shared service instance is reused", firstShared, secondShared);
+        Assert.assertTrue("Verify shared service has been statically injected", firstShared.isValid());
+        Assert.assertNotSame("Verify non shared service is created per lookup", firstNonShared, secondNonShared);
+    }
+
+    private static FakeService onlyOfType(Collection<FakeService> services, Class<?> type) {
+        for (FakeService service : services) {
+            if (type.isInstance(service)) {
+                return service;
+            }
+        }
+        Assert.fail("No service of type " + type.getName() + " found");
+        return null;
+    }
 }
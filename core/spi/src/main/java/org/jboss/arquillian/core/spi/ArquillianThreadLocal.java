@@ -1,59 +1,118 @@
 package org.jboss.arquillian.core.spi;
 
-import java.util.Hashtable;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Mapping for ThreadId to a value. Same as "ThreadLocal", but with simpler cleanup.
- *
+ * Per thread value. Same as "ThreadLocal", but with simpler cleanup.
+ * <p>
+ * Values are held in a {@link ThreadLocal} for fast access, and every value handed out is also tracked so
+ * {@link #clear()} can release the values of all threads, not only the calling one. The tracking only holds weak
+ * references, so the value of a terminated thread is released together with the thread, and the stale references are
+ * expunged by the next registration, keeping short lived (e.g. virtual) threads from accumulating entries.
  */
 public class ArquillianThreadLocal<T> {
-  private Hashtable<Long, T> table = new Hashtable<Long, T>();
-
-  protected T initialValue() {
-    return null;
-  }
-
-  /**
-   * Returns the value in the current thread's copy of this
-   * thread-local variable.  If the variable has no value for the
-   * current thread, it is first initialized to the value returned
-   * by an invocation of the {@link #initialValue} method.
-   *
-   * @return the current thread's value of this thread-local
-   */
-  public T get() {
-    Thread t = Thread.currentThread();
-    long threadId = t.getId();
-
-    if (table.containsKey(threadId)) {
-        return table.get(threadId);
-    }
-    else {
-      T value = initialValue();
-      table.put(threadId, value);
-      return value;
-    }
-  }
-
-  /**
-   * Removes the current thread's value for this thread-local
-   * variable.
-   *
-   */
-   public void remove() {
-     Thread t = Thread.currentThread();
-     long threadId = t.getId();
-
-     if (table.containsKey(threadId)) {
-       table.remove(threadId);
-     }
-   }
-
-   /**
-    * Clears the cache
-    */
-   public void clear() {
-     table.clear();
-   }
-}
+    private final ThreadLocal<Holder<T>> local = new ThreadLocal<Holder<T>>();
+    private final Set<Tracker<T>> trackers = Collections.newSetFromMap(new ConcurrentHashMap<Tracker<T>, Boolean>());
+    private final ReferenceQueue<Holder<T>> collected = new ReferenceQueue<Holder<T>>();
+
+    protected T initialValue() {
+        return null;
+    }
+
+    /**
+     * Returns the value in the current thread's copy of this
+     * thread-local variable.  If the variable has no value for the
+     * current thread, it is first initialized to the value returned
+     * by an invocation of the {@link #initialValue} method.
+     *
+     * @return the current thread's value of this thread-local
+     */
+    public T get() {
+        Holder<T> holder = local.get();
+        if (holder != null) {
+            // read the value before the flag, release() writes them in the opposite order
+            T value = holder.value;
+            if (!holder.released) {
+                return value;
+            }
+        }
+        return register(initialValue()).value;
+    }
+
+    /**
+     * Removes the current thread's value for this thread-local
+     * variable.
+     */
+    public void remove() {
+        Holder<T> holder = local.get();
+        if (holder != null) {
+            trackers.remove(holder.tracker);
+            holder.release();
+        }
+        local.remove();
+    }
+
+    /**
+     * Clears the values of all threads
+     */
+    public void clear() {
+        // only drop the trackers released here, a value set in the meantime stays tracked for the next clear
+        for (Tracker<T> tracker : trackers) {
+            Holder<T> holder = tracker.get();
+            if (holder != null) {
+                holder.release();
+            }
+            trackers.remove(tracker);
+        }
+        local.remove();
+    }
+
+    //-------------------------------------------------------------------------------------||
+    // Internal Helper Methods ------------------------------------------------------------||
+    //-------------------------------------------------------------------------------------||
 
+    private Holder<T> register(T value) {
+        expungeCollected();
+        Holder<T> holder = new Holder<T>(value);
+        holder.tracker = new Tracker<T>(holder, collected);
+        trackers.add(holder.tracker);
+        local.set(holder);
+        return holder;
+    }
+
+    private void expungeCollected() {
+        Reference<? extends Holder<T>> reference;
+        while ((reference = collected.poll()) != null) {
+            trackers.remove(reference);
+        }
+    }
+
+    /**
+     * Only reachable from the owning thread's {@link ThreadLocal} map, so it is collected with the thread.
+     */
+    private static final class Holder<T> {
+        private volatile T value;
+        private volatile boolean released;
+        private Tracker<T> tracker;
+
+        Holder(T value) {
+            this.value = value;
+        }
+
+        void release() {
+            released = true;
+            value = null;
+        }
+    }
+
+    private static final class Tracker<T> extends WeakReference<Holder<T>> {
+        Tracker(Holder<T> holder, ReferenceQueue<Holder<T>> queue) {
+            super(holder, queue);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.core.spi;
+
+/**
+ * Tells if Arquillian emits its Java Flight Recorder events for the event bus and the contexts.
+ * <p>
+ * The events are emitted when the <code>jdk.jfr</code> module is visible to Arquillian, unless the system property
+ * {@value #JFR_PROPERTY} is set to <code>false</code>. They are only recorded while a recording is running, e.g. one
+ * started with <code>-XX:StartFlightRecording</code> or <code>jcmd &lt;pid&gt; JFR.start</code>, and cost close to
+ * nothing otherwise. All events are in the <code>Arquillian</code> category.
+ * <p>
+ * The classes of the events must only be used when {@link #isEnabled()} returns true.
+ */
+public final class FlightRecorderSupport {
+    public static final String JFR_PROPERTY = "arquillian.jfr";
+
+    private static final boolean ENABLED =
+        !"false".equalsIgnoreCase(SecurityActions.getProperty(JFR_PROPERTY)) && isFlightRecorderPresent();
+
+    private FlightRecorderSupport() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    private static boolean isFlightRecorderPresent() {
+        try {
+            Class.forName("jdk.jfr.Event", false, FlightRecorderSupport.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.core.spi;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.jboss.arquillian.core.spi.context.ObjectStore;
+
+/**
+ * ObjectStore that gives every bound type a slot number and keeps the instances in an array indexed by that slot.
+ * <p>
+ * Lookups are an array access instead of a hash probe, the store only grows to the highest slot it holds and
+ * {@link #clear()} simply drops the array. Suited for the short lived stores of e.g. Class and Test contexts.
+ * <p>
+ * Slots are numbered per {@link Slots} instance. A context shares one {@link Slots} between all its stores, so the
+ * slots stay dense for the few types bound in that context instead of counting every type bound anywhere.
+ */
+public class IndexedObjectStore implements ObjectStore {
+    private static final AtomicReferenceArray<Object> EMPTY = new AtomicReferenceArray<Object>(0);
+
+    private static final Slots DEFAULT_SLOTS = new Slots();
+
+    private final Slots slots;
+
+    private volatile AtomicReferenceArray<Object> store;
+
+    /**
+     * Creates a store numbering its types together with all other stores created without {@link Slots}.
+     */
+    public IndexedObjectStore() {
+        this(DEFAULT_SLOTS);
+    }
+
+    /**
+     * Creates a store numbering its types with the given {@link Slots}, usually shared by all stores of a context.
+     */
+    public IndexedObjectStore(Slots slots) {
+        Validate.notNull(slots, "Slots must be specified");
+        this.slots = slots;
+        this.store = EMPTY;
+    }
+
+    /* (non-Javadoc)
+     * @see org.jboss.arquillian.core.spi.context.ObjectStore#add(java.lang.Class, T)
+     */
+    @Override
+    public <T> ObjectStore add(Class<T> type, T instance) {
+        Validate.notNull(type, "Type must be specified");
+        Validate.notNull(instance, "Instance must be specified");
+
+        int slot = slots.get(type);
+        synchronized (this) {
+            AtomicReferenceArray<Object> current = store;
+            if (slot >= current.length()) {
+                current = grow(current, slot);
+                store = current;
+            }
+            current.set(slot, instance);
+        }
+        return this;
+    }
+
+    /* (non-Javadoc)
+     * @see org.jboss.arquillian.core.spi.context.ObjectStore#get(java.lang.Class)
+     */
+    @Override
+    public <T> T get(Class<T> type) {
+        Validate.notNull(type, "Type must be specified");
+
+        int slot = slots.get(type);
+        AtomicReferenceArray<Object> current = store;
+        if (slot >= current.length()) {
+            return null;
+        }
+        return type.cast(current.get(slot));
+    }
+
+    /* (non-Javadoc)
+     * @see org.jboss.arquillian.core.spi.context.ObjectStore#clear()
+     */
+    @Override
+    public ObjectStore clear() {
+        synchronized (this) {
+            store = EMPTY;
+        }
+        return this;
+    }
+
+    //-------------------------------------------------------------------------------------||
+    // Internal Helper Methods ------------------------------------------------------------||
+    //-------------------------------------------------------------------------------------||
+
+    private static AtomicReferenceArray<Object> grow(AtomicReferenceArray<Object> current, int slot) {
+        // round up to a multiple of 8 to avoid growing for every new type
+        AtomicReferenceArray<Object> grown = new AtomicReferenceArray<Object>((slot | 7) + 1);
+        for (int i = 0; i < current.length(); i++) {
+            grown.set(i, current.get(i));
+        }
+        return grown;
+    }
+
+    /**
+     * Numbers the types bound in the stores sharing it, in the order they are first seen.
+     */
+    public static final class Slots {
+        private final AtomicInteger nextSlot = new AtomicInteger();
+
+        private final ClassValue<Integer> slots = new ClassValue<Integer>() {
+            @Override
+            protected Integer computeValue(Class<?> type) {
+                return nextSlot.getAndIncrement();
+            }
+        };
+
+        int get(Class<?> type) {
+            return slots.get(type);
+        }
+    }
+}
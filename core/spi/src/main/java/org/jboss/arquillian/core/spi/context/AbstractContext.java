@@ -16,12 +16,14 @@
  */
 package org.jboss.arquillian.core.spi.context;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Map;
-import java.util.Stack;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 import org.jboss.arquillian.core.spi.ArquillianThreadLocal;
+import org.jboss.arquillian.core.spi.FlightRecorderSupport;
 import org.jboss.arquillian.core.spi.Validate;
 
 /**
@@ -34,11 +36,12 @@ public abstract class AbstractContext<T> implements Context, IdBoundContext<T> {
 
     private ConcurrentHashMap<T, ObjectStore> stores;
 
-    private ArquillianThreadLocal<Stack<StoreHolder<T>>> activeStore = new ArquillianThreadLocal<Stack<StoreHolder<T>>>() {
+    private ArquillianThreadLocal<Deque<StoreHolder<T>>> activeStore = new ArquillianThreadLocal<Deque<StoreHolder<T>>>() {
 
         @Override
-        protected Stack<StoreHolder<T>> initialValue() {
-            return new Stack<StoreHolder<T>>();
+        protected Deque<StoreHolder<T>> initialValue() {
+            // only ever accessed by the owning thread, no need for the synchronization of Stack
+            return new ArrayDeque<StoreHolder<T>>();
         }
     };
 
@@ -48,8 +51,9 @@ public abstract class AbstractContext<T> implements Context, IdBoundContext<T> {
 
     @Override
     public T getActiveId() {
-        if (isActive()) {
-            return activeStore.get().peek().getId();
+        StoreHolder<T> active = activeStore.get().peek();
+        if (active != null) {
+            return active.getId();
         }
         return null;
     }
@@ -57,13 +61,22 @@ public abstract class AbstractContext<T> implements Context, IdBoundContext<T> {
     @Override
     public void activate(T id) {
         Validate.notNull(id, "ID must be specified");
+        ContextEvent recording = FlightRecorderSupport.isEnabled() ? ContextEvent.start() : null;
         activeStore.get().push(new StoreHolder<T>(id, createObjectStore(id)));
+        if (recording != null) {
+            recording.finish(getClass(), id, true);
+        }
     }
 
     @Override
     public void deactivate() {
-        if (isActive()) {
-            activeStore.get().pop();
+        Deque<StoreHolder<T>> stack = activeStore.get();
+        if (!stack.isEmpty()) {
+            ContextEvent recording = FlightRecorderSupport.isEnabled() ? ContextEvent.start() : null;
+            StoreHolder<T> deactivated = stack.pop();
+            if (recording != null) {
+                recording.finish(getClass(), deactivated.getId(), false);
+            }
         } else {
             log.info("Trying to deactivate context, but none active: " + super.getClass().getSimpleName());
         }
@@ -90,8 +103,9 @@ public abstract class AbstractContext<T> implements Context, IdBoundContext<T> {
 
     @Override
     public ObjectStore getObjectStore() {
-        if (isActive()) {
-            return activeStore.get().peek().getStore();
+        StoreHolder<T> active = activeStore.get().peek();
+        if (active != null) {
+            return active.getStore();
         }
         throw new RuntimeException("Context is not active: " + super.getClass().getSimpleName());
     }
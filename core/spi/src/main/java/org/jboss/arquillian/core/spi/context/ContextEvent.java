@@ -0,0 +1,60 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.core.spi.context;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.jboss.arquillian.core.spi.FlightRecorderSupport;
+
+/**
+ * Java Flight Recorder event for the activation and deactivation of a context, see {@link FlightRecorderSupport}.
+ */
+@Name("org.jboss.arquillian.Context")
+@Enabled(false)
+@Label("Context")
+@Category("Arquillian")
+@Description("A context activated or deactivated on the current thread")
+final class ContextEvent extends Event {
+    @Label("Context")
+    Class<?> context;
+
+    @Label("Context Id")
+    String contextId;
+
+    @Label("Activated")
+    boolean activated;
+
+    static ContextEvent start() {
+        ContextEvent event = new ContextEvent();
+        event.begin();
+        return event;
+    }
+
+    void finish(Class<?> context, Object contextId, boolean activated) {
+        end();
+        if (shouldCommit()) {
+            this.context = context;
+            this.contextId = String.valueOf(contextId);
+            this.activated = activated;
+            commit();
+        }
+    }
+}
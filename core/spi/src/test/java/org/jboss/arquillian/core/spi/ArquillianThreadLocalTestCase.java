@@ -0,0 +1,71 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.core.spi;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * ArquillianThreadLocalTestCase
+ */
+public class ArquillianThreadLocalTestCase {
+    @Test
+    public void shouldReturnSameValueWithinThread() {
+        ArquillianThreadLocal<Object> local = new ObjectThreadLocal();
+
+        Assert.assertSame(local.get(), local.get());
+    }
+
+    @Test
+    public void shouldReturnNewValueAfterClear() {
+        ArquillianThreadLocal<Object> local = new ObjectThreadLocal();
+        Object first = local.get();
+        local.clear();
+
+        Assert.assertNotSame(first, local.get());
+    }
+
+    @Test
+    public void shouldReleaseValueOfTerminatedThread() throws Exception {
+        final ArquillianThreadLocal<Object> local = new ObjectThreadLocal();
+        final AtomicReference<WeakReference<Object>> value = new AtomicReference<WeakReference<Object>>();
+
+        Thread thread = new Thread() {
+            public void run() {
+                value.set(new WeakReference<Object>(local.get()));
+            }
+        };
+        thread.start();
+        thread.join();
+        thread = null;
+
+        for (int i = 0; i < 100 && value.get().get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assert.assertNull("Value of terminated thread should not be retained", value.get().get());
+    }
+
+    private static class ObjectThreadLocal extends ArquillianThreadLocal<Object> {
+        @Override
+        protected Object initialValue() {
+            return new Object();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.core.spi;
+
+import org.jboss.arquillian.core.spi.context.ObjectStore;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * IndexedObjectStoreTestCase
+ */
+public class IndexedObjectStoreTestCase {
+    @Test
+    public void shouldReturnBoundInstances() {
+        ObjectStore store = new IndexedObjectStore();
+        store.add(String.class, "value");
+        store.add(Integer.class, 10);
+
+        Assert.assertEquals("value", store.get(String.class));
+        Assert.assertEquals(Integer.valueOf(10), store.get(Integer.class));
+    }
+
+    @Test
+    public void shouldReturnNullForUnboundType() {
+        ObjectStore store = new IndexedObjectStore();
+        store.add(String.class, "value");
+
+        Assert.assertNull(store.get(Long.class));
+    }
+
+    @Test
+    public void shouldReplaceInstanceOfSameType() {
+        ObjectStore store = new IndexedObjectStore();
+        store.add(String.class, "first");
+        store.add(String.class, "second");
+
+        Assert.assertEquals("second", store.get(String.class));
+    }
+
+    @Test
+    public void shouldNotShareInstancesBetweenStores() {
+        ObjectStore first = new IndexedObjectStore();
+        ObjectStore second = new IndexedObjectStore();
+        first.add(String.class, "value");
+
+        Assert.assertNull(second.get(String.class));
+    }
+
+    @Test
+    public void shouldBeEmptyAfterClear() {
+        ObjectStore store = new IndexedObjectStore();
+        store.add(String.class, "value");
+        store.clear();
+
+        Assert.assertNull(store.get(String.class));
+
+        store.add(String.class, "other");
+        Assert.assertEquals("other", store.get(String.class));
+    }
+
+    @Test
+    public void shouldNumberTypesPerSlots() {
+        IndexedObjectStore.Slots slots = new IndexedObjectStore.Slots();
+        ObjectStore first = new IndexedObjectStore(slots);
+        ObjectStore second = new IndexedObjectStore(new IndexedObjectStore.Slots());
+        first.add(String.class, "first");
+        first.add(Integer.class, 1);
+        second.add(Integer.class, 2);
+        second.add(String.class, "second");
+
+        Assert.assertEquals(0, slots.get(String.class));
+        Assert.assertEquals(1, slots.get(Integer.class));
+        Assert.assertEquals("first", first.get(String.class));
+        Assert.assertEquals(Integer.valueOf(2), second.get(Integer.class));
+        Assert.assertEquals("second", new IndexedObjectStore(slots).add(String.class, "second").get(String.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionOnNullInstance() {
+        new IndexedObjectStore().add(String.class, null);
+    }
+}
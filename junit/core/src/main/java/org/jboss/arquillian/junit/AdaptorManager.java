@@ -1,11 +1,16 @@
 package org.jboss.arquillian.junit;
 
+import org.jboss.arquillian.test.spi.SharedTestRunnerAdaptor;
 import org.jboss.arquillian.test.spi.TestRunnerAdaptor;
 import org.jboss.arquillian.test.spi.TestRunnerAdaptorBuilder;
 
 abstract class AdaptorManager {
 
     void initializeAdaptor() throws Exception {
+        if (SharedTestRunnerAdaptor.isEnabled()) {
+            initializeSharedAdaptor();
+            return;
+        }
         // first time we're being initialized
         if (!State.hasTestAdaptor()) {
             // no, initialization has been attempted before and failed, refuse
@@ -36,6 +41,10 @@ abstract class AdaptorManager {
     }
 
     void shutdown(TestRunnerAdaptor adaptor) {
+        if (SharedTestRunnerAdaptor.isEnabled()) {
+            shutdownSharedAdaptor(adaptor);
+            return;
+        }
         State.runnerFinished();
         try {
             if (State.isLastRunner()) {
@@ -54,6 +63,26 @@ abstract class AdaptorManager {
         }
     }
 
+    private void initializeSharedAdaptor() throws Exception {
+        // every runner holds a reference to the adaptor shared by all threads until the test run has finished
+        try {
+            setAdaptor(SharedTestRunnerAdaptor.acquire());
+        } catch (Exception e) {
+            handleBeforeSuiteFailure(e);
+        }
+    }
+
+    private void shutdownSharedAdaptor(TestRunnerAdaptor adaptor) {
+        try {
+            if (adaptor != null) {
+                SharedTestRunnerAdaptor.release();
+            }
+            setAdaptor(null);
+        } catch (Exception e) {
+            throw new RuntimeException("Could not run @AfterSuite", e);
+        }
+    }
+
     protected abstract void handleSuiteLevelFailure(Throwable initializationException);
 
     protected abstract void handleBeforeSuiteFailure(Exception e) throws Exception;
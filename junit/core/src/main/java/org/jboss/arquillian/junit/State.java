@@ -17,6 +17,7 @@
  */
 package org.jboss.arquillian.junit;
 
+import org.jboss.arquillian.test.spi.SharedTestRunnerAdaptor;
 import org.jboss.arquillian.test.spi.TestRunnerAdaptor;
 import org.junit.runners.model.FrameworkField;
 
@@ -120,6 +121,9 @@ public class State {
     }
 
     static TestRunnerAdaptor getTestAdaptor() {
+        if (SharedTestRunnerAdaptor.isEnabled()) {
+            return SharedTestRunnerAdaptor.get();
+        }
         return deployableTest.get();
     }
 
@@ -22,6 +22,7 @@ import java.util.List;
 import org.jboss.arquillian.junit.event.AfterRules;
 import org.jboss.arquillian.junit.event.BeforeRules;
 import org.jboss.arquillian.test.spi.LifecycleMethodExecutor;
+import org.jboss.arquillian.test.spi.SharedTestRunnerAdaptor;
 import org.jboss.arquillian.test.spi.TestMethodExecutor;
 import org.jboss.arquillian.test.spi.TestResult;
 import org.jboss.arquillian.test.spi.TestRunnerAdaptor;
@@ -80,6 +81,26 @@ public class JUnitIntegrationTestCase extends JUnitTestBaseClass {
         verify(adaptor, times(1)).afterSuite();
     }
 
+    @Test
+    public void shouldShareAdaptorBetweenParallelClassesWhenEnabled() throws Exception {
+        TestRunnerAdaptor adaptor = mock(TestRunnerAdaptor.class);
+        executeAllLifeCycles(adaptor);
+
+        System.setProperty(SharedTestRunnerAdaptor.SHARED_PROPERTY, "true");
+        try {
+            Result result = runInParallel(adaptor, ClassWithArquillianRunner.class, ClassWithArquillianRunner.class);
+
+            Assert.assertTrue(result.wasSuccessful());
+            assertCycle(2, Cycle.BEFORE_CLASS, Cycle.AFTER_CLASS, Cycle.TEST);
+
+            verify(adaptor, times(1)).beforeSuite();
+            verify(adaptor, times(1)).afterSuite();
+            Assert.assertNull(SharedTestRunnerAdaptor.get());
+        } finally {
+            System.clearProperty(SharedTestRunnerAdaptor.SHARED_PROPERTY);
+        }
+    }
+
     @Test
     public void shouldCallAfterClassWhenBeforeThrowsException() throws Exception {
         TestRunnerAdaptor adaptor = mock(TestRunnerAdaptor.class);
@@ -30,6 +30,8 @@ import org.jboss.arquillian.test.spi.TestRunnerAdaptorBuilder;
 import org.jboss.arquillian.test.spi.event.suite.TestLifecycleEvent;
 import org.junit.After;
 import org.junit.Assert;
+import org.junit.experimental.ParallelComputer;
+import org.junit.runner.Computer;
 import org.junit.runner.JUnitCore;
 import org.junit.runner.Result;
 import org.junit.runner.notification.RunListener;
@@ -62,7 +64,7 @@ public class JUnitTestBaseClass {
         callbackException.put(cycle, exception);
     }
 
-    public static void wasCalled(Cycle cycle) throws Throwable {
+    public static synchronized void wasCalled(Cycle cycle) throws Throwable {
         if (callbackCount.containsKey(cycle)) {
             callbackCount.put(cycle, callbackCount.get(cycle) + 1);
         } else {
@@ -109,6 +111,15 @@ public class JUnitTestBaseClass {
     }
 
     protected Result run(TestRunnerAdaptor adaptor, RunListener listener, Class<?>... classes)
+        throws Exception {
+        return run(adaptor, listener, new Computer(), classes);
+    }
+
+    protected Result runInParallel(TestRunnerAdaptor adaptor, Class<?>... classes) throws Exception {
+        return run(adaptor, null, ParallelComputer.classes(), classes);
+    }
+
+    private Result run(TestRunnerAdaptor adaptor, RunListener listener, Computer computer, Class<?>... classes)
         throws Exception {
         try {
             setAdaptor(adaptor);
@@ -117,7 +128,7 @@ public class JUnitTestBaseClass {
                 core.addListener(listener);
             }
 
-            return core.run(classes);
+            return core.run(computer, classes);
         } finally {
             setAdaptor(null);
         }
@@ -22,9 +22,25 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
+import org.jboss.arquillian.container.spi.event.StartSuiteContainers;
+import org.jboss.arquillian.container.spi.event.StopSuiteContainers;
+import org.jboss.arquillian.container.test.impl.client.container.ContainerRestarter;
+import org.jboss.arquillian.core.api.annotation.ApplicationScoped;
+import org.jboss.arquillian.core.api.annotation.Observes;
+import org.jboss.arquillian.core.spi.Manager;
+import org.jboss.arquillian.core.spi.ManagerBuilder;
+import org.jboss.arquillian.test.impl.EventTestRunnerAdaptor;
 import org.jboss.arquillian.test.spi.LifecycleMethodExecutor;
 import org.jboss.arquillian.test.spi.TestRunnerAdaptor;
+import org.jboss.arquillian.test.spi.event.suite.AfterClass;
+import org.jboss.arquillian.test.spi.event.suite.BeforeClass;
+import org.jboss.shrinkwrap.descriptor.api.Descriptors;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -76,6 +92,47 @@ public class JUnitIntegrationTestCase extends JUnitTestBaseClass {
         verify(adaptor, times(1)).after(any(Object.class), any(Method.class), any(LifecycleMethodExecutor.class));
     }
 
+    @Test
+    public void shouldShareOneSuiteBetweenTestClassesRunInParallel() throws Exception {
+        // given
+        TestRunnerAdaptor adaptor = mock(TestRunnerAdaptor.class);
+        executeAllLifeCycles(adaptor);
+
+        // when
+        TestExecutionSummary result = runInParallel(adaptor, ClassWithArquillianExtensionAndRepeatedTest.class,
+            ClassWithArquillianExtensionWithExtensions.class);
+
+        // then
+        Assertions.assertEquals(4, result.getTestsSucceededCount());
+        Assertions.assertEquals(0, result.getTestsFailedCount());
+        assertCycle(2, Cycle.BEFORE_CLASS, Cycle.AFTER_CLASS);
+        verify(adaptor, times(1)).beforeSuite();
+        verify(adaptor, times(1)).afterSuite();
+        verify(adaptor, times(2)).beforeClass(any(Class.class), any(LifecycleMethodExecutor.class));
+    }
+
+    @Test
+    public void shouldRestartContainersOnlyWhenNoTestClassRunsInParallel() throws Exception {
+        // given
+        Manager manager = ManagerBuilder.from()
+            .extensions(ContainerRestarter.class, RunningTestClassesRecorder.class)
+            .create();
+        manager.start();
+        manager.bind(ApplicationScoped.class, ArquillianDescriptor.class,
+            Descriptors.create(ArquillianDescriptor.class).engine().maxTestClassesBeforeRestart(1));
+        RunningTestClassesRecorder.clear();
+
+        // when
+        TestExecutionSummary result = runInParallel(new EventTestRunnerAdaptor(manager),
+            ClassWithArquillianExtensionAndRepeatedTest.class, ClassWithArquillianExtensionWithExtensions.class);
+
+        // then
+        Assertions.assertEquals(4, result.getTestsSucceededCount());
+        Assertions.assertEquals(0, result.getTestsFailedCount());
+        Assertions.assertEquals(Arrays.asList(0, 0), RunningTestClassesRecorder.RUNNING_ON_RESTART,
+            "Verify the containers were stopped and started once, while no test class was running");
+    }
+
     @Test
     public void runJunit5Suite() throws Exception {
         // given
@@ -92,4 +149,34 @@ public class JUnitIntegrationTestCase extends JUnitTestBaseClass {
         Assertions.assertEquals(1, result.getTestsSkippedCount());
         Assertions.assertEquals(1, result.getTestsAbortedCount());
     }
+
+    /**
+     * Records the number of running test classes when the containers are stopped and started again.
+     */
+    public static class RunningTestClassesRecorder {
+        static final List<Integer> RUNNING_ON_RESTART = new CopyOnWriteArrayList<>();
+        private static final AtomicInteger RUNNING = new AtomicInteger();
+
+        static void clear() {
+            RUNNING_ON_RESTART.clear();
+            RUNNING.set(0);
+        }
+
+        // after the ContainerRestarter let the test class start
+        public void started(@Observes(precedence = -10) BeforeClass event) {
+            RUNNING.incrementAndGet();
+        }
+
+        public void finished(@Observes AfterClass event) {
+            RUNNING.decrementAndGet();
+        }
+
+        public void stopped(@Observes StopSuiteContainers event) {
+            RUNNING_ON_RESTART.add(RUNNING.get());
+        }
+
+        public void restarted(@Observes StartSuiteContainers event) {
+            RUNNING_ON_RESTART.add(RUNNING.get());
+        }
+    }
 }
@@ -18,8 +18,8 @@
 package org.jboss.arquillian.junit5.container;
 
 import java.lang.reflect.Method;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.arquillian.test.spi.LifecycleMethodExecutor;
 import org.jboss.arquillian.test.spi.TestMethodExecutor;
@@ -52,9 +52,9 @@ public class JUnitTestBaseClass {
     /*
      * Setup / Clear the static callback info.
      */
-    private static final Map<Cycle, Integer> callbackCount = new HashMap<>();
+    private static final Map<Cycle, Integer> callbackCount = new ConcurrentHashMap<>();
 
-    private static final Map<Cycle, Exception> callbackException = new HashMap<>();
+    private static final Map<Cycle, Exception> callbackException = new ConcurrentHashMap<>();
 
     static {
         for (Cycle tmp : Cycle.values()) {
@@ -64,7 +64,8 @@ public class JUnitTestBaseClass {
 
     public static void wasCalled(Cycle cycle) throws Exception {
         if (callbackCount.containsKey(cycle)) {
-            callbackCount.put(cycle, callbackCount.get(cycle) + 1);
+            // test classes may run in parallel
+            callbackCount.merge(cycle, 1, Integer::sum);
         } else {
             throw new RuntimeException("Unknown callback: " + cycle);
         }
@@ -107,10 +108,26 @@ public class JUnitTestBaseClass {
 
     protected TestExecutionSummary run(TestRunnerAdaptor adaptor, TestExecutionListener listener, Class<?>... classes)
         throws Exception {
+        return run(adaptor, listener, false, classes);
+    }
+
+    protected TestExecutionSummary runInParallel(TestRunnerAdaptor adaptor, Class<?>... classes) throws Exception {
+        return run(adaptor, null, true, classes);
+    }
+
+    private TestExecutionSummary run(TestRunnerAdaptor adaptor, TestExecutionListener listener, boolean parallel,
+        Class<?>... classes) throws Exception {
         try {
             setAdaptor(adaptor);
 
             LauncherDiscoveryRequestBuilder builder = LauncherDiscoveryRequestBuilder.request();
+            if (parallel) {
+                builder = builder
+                    .configurationParameter("junit.jupiter.execution.parallel.enabled", "true")
+                    .configurationParameter("junit.jupiter.execution.parallel.mode.classes.default", "concurrent")
+                    .configurationParameter("junit.jupiter.execution.parallel.config.strategy", "fixed")
+                    .configurationParameter("junit.jupiter.execution.parallel.config.fixed.parallelism", "4");
+            }
             for (Class<?> clazz : classes) {
                 builder = builder.selectors(DiscoverySelectors.selectClass(clazz));
             }
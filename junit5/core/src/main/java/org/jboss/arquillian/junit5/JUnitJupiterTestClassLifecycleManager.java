@@ -27,6 +27,9 @@ import static org.jboss.arquillian.junit5.ContextStore.getContextStore;
 public class JUnitJupiterTestClassLifecycleManager implements AutoCloseable, ExtensionContext.Store.CloseableResource {
     private static final String MANAGER_KEY = "testRunnerManager";
 
+    // the Store returned by the ExtensionContext is a new view on every call, lock on something stable
+    private static final Object LOCK = new Object();
+
     private TestRunnerAdaptor adaptor;
 
     private Throwable caughtInitializationException;
@@ -36,11 +39,15 @@ public class JUnitJupiterTestClassLifecycleManager implements AutoCloseable, Ext
 
     static JUnitJupiterTestClassLifecycleManager getManager(ExtensionContext context) throws Exception {
         ExtensionContext.Store store = getContextStore(context).getRootStore();
-        JUnitJupiterTestClassLifecycleManager instance = store.get(MANAGER_KEY, JUnitJupiterTestClassLifecycleManager.class);
-        if (instance == null) {
-            instance = new JUnitJupiterTestClassLifecycleManager();
-            store.put(MANAGER_KEY, instance);
-            instance.initializeAdaptor();
+        JUnitJupiterTestClassLifecycleManager instance;
+        // test classes running in parallel must share one manager and run beforeSuite only once
+        synchronized (LOCK) {
+            instance = store.get(MANAGER_KEY, JUnitJupiterTestClassLifecycleManager.class);
+            if (instance == null) {
+                instance = new JUnitJupiterTestClassLifecycleManager();
+                store.put(MANAGER_KEY, instance);
+                instance.initializeAdaptor();
+            }
         }
         // no, initialization has been attempted before and failed, refuse
         // to do anything else
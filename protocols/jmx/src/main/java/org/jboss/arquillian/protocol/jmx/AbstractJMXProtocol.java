@@ -69,7 +69,8 @@ public abstract class AbstractJMXProtocol<T extends JMXProtocolConfiguration> im
             } catch (Exception ex) {
                 throw new IllegalStateException("Cannot obtain protocol config");
             }
-            return new JMXMethodExecutor(mbeanServer, callback, JMXTestRunnerMBean.OBJECT_NAME, protocolProps);
+            // created once per deployment, keep the command listener until the deployment is undeployed
+            return new JMXMethodExecutor(mbeanServer, callback, JMXTestRunnerMBean.OBJECT_NAME, protocolProps, true);
         } else {
             throw new IllegalStateException(
                 "No " + JMXContext.class.getName() + " was found in " + ProtocolMetaData.class.getName() +
@@ -28,8 +28,6 @@ import org.jboss.arquillian.container.test.spi.command.CommandService;
  * @author <a href="mailto:aslak@redhat.com">Aslak Knutsen</a>
  */
 public class JMXCommandService implements CommandService {
-    private static long TIMEOUT = 30000;
-
     @SuppressWarnings("unchecked")
     @Override
     public <T> T execute(Command<T> command) {
@@ -38,24 +36,15 @@ public class JMXCommandService implements CommandService {
             ObjectName runner = new ObjectName(JMXTestRunner.OBJECT_NAME);
             server.invoke(runner, "send", new Object[] {command}, new String[] {Command.class.getName()});
 
-            long timeoutTime = System.currentTimeMillis() + TIMEOUT;
-            while (timeoutTime > System.currentTimeMillis()) {
-                Command<?> newCommand = (Command<?>) server.invoke(runner, "receive", new Object[] {}, new String[] {});
-                if (newCommand != null) {
-                    if (newCommand.getThrowable() != null) {
-                        throw new RuntimeException(newCommand.getThrowable());
-                    }
-                    if (newCommand.getResult() != null) {
-                        return (T) newCommand.getResult();
-                    }
-                }
-                try {
-                    Thread.sleep(100);
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
+            // blocks until the client pushed the result, no need to poll
+            Command<?> newCommand = (Command<?>) server.invoke(runner, "await", new Object[] {}, new String[] {});
+            if (newCommand == null) {
+                throw new RuntimeException("No command response within the configured command timeout");
+            }
+            if (newCommand.getThrowable() != null) {
+                throw new RuntimeException(newCommand.getThrowable());
             }
-            throw new RuntimeException("No command response within timeout of " + TIMEOUT + " ms.");
+            return (T) newCommand.getResult();
         } catch (Exception e) {
             throw new RuntimeException("Could not communicate with client side", e);
         }
@@ -16,7 +16,13 @@
  */
 package org.jboss.arquillian.protocol.jmx;
 
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.management.MBeanServerConnection;
@@ -36,7 +42,7 @@ import org.jboss.arquillian.test.spi.TestResult.Status;
  *
  * @author thomas.diesler@jboss.com
  */
-public class JMXMethodExecutor implements ContainerMethodExecutor {
+public class JMXMethodExecutor implements ContainerMethodExecutor, Closeable {
 
     // Provide logging
     private static Logger log = Logger.getLogger(JMXMethodExecutor.class.getName());
@@ -45,6 +51,16 @@ public class JMXMethodExecutor implements ContainerMethodExecutor {
     private final String objectName;
     private final CommandCallback callback;
     private final Map<String, String> protocolProps;
+    private final boolean keepListener;
+    // tags the commands sent for the invocations of this executor, other executors may listen on the same MBean
+    private final String callerId = UUID.randomUUID().toString();
+    // the calls running through this executor, for containers that do not tag the commands
+    private final Set<String> runningCalls = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    // the registered listener and runner when kept between invocations
+    private ObjectName registeredName;
+    private NotificationListener registeredListener;
+    private JMXTestRunnerMBean registeredRunner;
 
     public JMXMethodExecutor(MBeanServerConnection mbeanServer, CommandCallback callback) {
         this(mbeanServer, callback, JMXTestRunnerMBean.OBJECT_NAME, null);
@@ -52,6 +68,16 @@ public class JMXMethodExecutor implements ContainerMethodExecutor {
 
     public JMXMethodExecutor(MBeanServerConnection mbeanServer, CommandCallback callback, String objectName,
         Map<String, String> protocolProps) {
+        this(mbeanServer, callback, objectName, protocolProps, false);
+    }
+
+    /**
+     * @param keepListener register the command listener on the first invocation and keep it until {@link #close()}
+     * instead of registering it for every invocation
+     */
+    public JMXMethodExecutor(MBeanServerConnection mbeanServer, CommandCallback callback, String objectName,
+        Map<String, String> protocolProps, boolean keepListener) {
+        this.keepListener = keepListener;
         this.mbeanServer = mbeanServer;
         this.callback = callback;
         this.objectName = objectName;
@@ -66,30 +92,36 @@ public class JMXMethodExecutor implements ContainerMethodExecutor {
         String testClass = testMethodExecutor.getInstance().getClass().getName();
         String testMethod = testMethodExecutor.getMethodName();
         String testCanonicalName = testClass + "." + testMethod;
+        String call = testClass + testMethod;
+
+        Map<String, String> props = new HashMap<String, String>();
+        if (protocolProps != null) {
+            props.putAll(protocolProps);
+        }
+        props.put(JMXTestRunner.CALLER_PROPERTY, callerId);
 
         NotificationListener commandListener = null;
         ObjectName objectName = null;
         TestResult result = null;
         try {
-            objectName = new ObjectName(this.objectName);
-            commandListener = new CallbackNotificationListener(objectName);
-            mbeanServer.addNotificationListener(objectName, commandListener, null, null);
-
-            JMXTestRunnerMBean testRunner = getMBeanProxy(objectName, JMXTestRunnerMBean.class);
+            JMXTestRunnerMBean testRunner;
+            if (keepListener) {
+                testRunner = register();
+            } else {
+                objectName = new ObjectName(this.objectName);
+                commandListener = new CallbackNotificationListener(objectName);
+                mbeanServer.addNotificationListener(objectName, commandListener, null, null);
+                testRunner = getMBeanProxy(objectName, JMXTestRunnerMBean.class);
+            }
             log.fine("Invoke " + testCanonicalName);
-            result =
-                Serializer.toObject(TestResult.class, testRunner.runTestMethod(testClass, testMethod, protocolProps));
+            runningCalls.add(call);
+            result = Serializer.toObject(TestResult.class, testRunner.runTestMethod(testClass, testMethod, props));
         } catch (final Throwable th) {
             result = TestResult.failed(th);
         } finally {
+            runningCalls.remove(call);
             result.setEnd(System.currentTimeMillis());
-            if (objectName != null && commandListener != null) {
-                try {
-                    mbeanServer.removeNotificationListener(objectName, commandListener);
-                } catch (Throwable th) {
-                    log.log(Level.SEVERE, "Cannot remove notification listener", th);
-                }
-            }
+            removeListener(objectName, commandListener);
         }
         log.fine("Result: " + result);
         if (result.getStatus() == Status.FAILED) {
@@ -98,6 +130,55 @@ public class JMXMethodExecutor implements ContainerMethodExecutor {
         return result;
     }
 
+    /**
+     * Remove the command listener kept between invocations.
+     */
+    @Override
+    public synchronized void close() {
+        removeListener(registeredName, registeredListener);
+        registeredName = null;
+        registeredListener = null;
+        registeredRunner = null;
+    }
+
+    private synchronized JMXTestRunnerMBean register() throws Exception {
+        if (registeredRunner == null) {
+            ObjectName objectName = new ObjectName(this.objectName);
+            NotificationListener commandListener = new CallbackNotificationListener(objectName);
+            mbeanServer.addNotificationListener(objectName, commandListener, null, null);
+            registeredName = objectName;
+            registeredListener = commandListener;
+            registeredRunner = getMBeanProxy(objectName, JMXTestRunnerMBean.class);
+        }
+        return registeredRunner;
+    }
+
+    private void removeListener(ObjectName objectName, NotificationListener commandListener) {
+        if (objectName != null && commandListener != null) {
+            try {
+                mbeanServer.removeNotificationListener(objectName, commandListener);
+            } catch (Throwable th) {
+                log.log(Level.SEVERE, "Cannot remove notification listener", th);
+            }
+        }
+    }
+
+    /**
+     * @return true if the notification carries a command sent for an invocation of this executor
+     */
+    private boolean isSentForThisExecutor(String eventMessage) {
+        if (eventMessage == null) {
+            return false;
+        }
+        int tag = eventMessage.indexOf(JMXTestRunner.CALLER_SEPARATOR);
+        if (tag != -1) {
+            return eventMessage.substring(0, tag).equals(callerId);
+        }
+        // sent by a container that does not tag its commands, match on the test method
+        int sequence = eventMessage.lastIndexOf(JMXTestRunner.SEQUENCE_SEPARATOR);
+        return runningCalls.contains(sequence == -1 ? eventMessage : eventMessage.substring(0, sequence));
+    }
+
     private <T> T getMBeanProxy(ObjectName name, Class<T> interf) {
         return MBeanServerInvocationHandler.newProxyInstance(mbeanServer, name, interf, false);
     }
@@ -112,11 +193,17 @@ public class JMXMethodExecutor implements ContainerMethodExecutor {
         @Override
         public void handleNotification(Notification notification, Object handback) {
             String eventMessage = notification.getMessage();
-            Command<?> command = Serializer.toObject(Command.class, (byte[]) notification.getUserData());
+            if (!isSentForThisExecutor(eventMessage)) {
+                return;
+            }
+            byte[] payload = (byte[]) notification.getUserData();
+            Command<?> command = Serializer.toObject(Command.class, payload);
             callback.fired(command);
 
             try {
-                mbeanServer.invoke(serviceName, "push", new Object[] {eventMessage, Serializer.toByteArray(command)},
+                // return the result in the codec the container sent the command with
+                byte[] result = Serializer.toByteArray(Serializer.getCodec(payload), command);
+                mbeanServer.invoke(serviceName, "push", new Object[] {eventMessage, result},
                     new String[] {String.class.getName(),
                         byte[].class.getName()});
             } catch (Exception e) {
@@ -18,6 +18,7 @@
 package org.jboss.arquillian.protocol.jmx;
 
 import org.jboss.arquillian.container.test.spi.client.protocol.ProtocolConfiguration;
+import org.jboss.arquillian.container.test.spi.codec.JavaSerializationCodec;
 
 /**
  * JMXProtocolConfiguration
@@ -25,4 +26,38 @@ import org.jboss.arquillian.container.test.spi.client.protocol.ProtocolConfigura
  * @author <a href="mailto:aslak@redhat.com">Aslak Knutsen</a>
  */
 public class JMXProtocolConfiguration implements ProtocolConfiguration {
+    private Long commandTimeoutInMilliSeconds = 30000L;
+    private String payloadCodec = JavaSerializationCodec.NAME;
+
+    /**
+     * @return the commandTimeoutInMilliSeconds
+     */
+    public Long getCommandTimeoutInMilliSeconds() {
+        return commandTimeoutInMilliSeconds;
+    }
+
+    /**
+     * The Command Service provided by the JMX protocol sends commands from the container to the client and
+     * waits for their results.
+     * <p>
+     * Set how long to wait for the result of a command in milliseconds.
+     */
+    public void setCommandTimeoutInMilliSeconds(Long commandTimeoutInMilliSeconds) {
+        this.commandTimeoutInMilliSeconds = commandTimeoutInMilliSeconds;
+    }
+
+    /**
+     * @return the payloadCodec
+     */
+    public String getPayloadCodec() {
+        return payloadCodec;
+    }
+
+    /**
+     * The name of the {@link org.jboss.arquillian.container.test.spi.codec.PayloadCodec} used to exchange test
+     * results and commands, e.g. compact. The container falls back to Java serialization if it does not provide it.
+     */
+    public void setPayloadCodec(String payloadCodec) {
+        this.payloadCodec = payloadCodec;
+    }
 }
@@ -21,7 +21,10 @@ import java.security.AccessController;
 import java.security.PrivilegedExceptionAction;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -31,7 +34,9 @@ import javax.management.Notification;
 import javax.management.NotificationBroadcasterSupport;
 import javax.management.ObjectName;
 import org.jboss.arquillian.container.test.spi.TestRunner;
+import org.jboss.arquillian.container.test.spi.codec.PayloadCodec;
 import org.jboss.arquillian.container.test.spi.command.Command;
+import org.jboss.arquillian.container.test.spi.util.PayloadCodecs;
 import org.jboss.arquillian.container.test.spi.util.TestRunners;
 import org.jboss.arquillian.test.spi.TestResult;
 import org.jboss.arquillian.test.spi.TestResult.Status;
@@ -46,8 +51,19 @@ public class JMXTestRunner extends NotificationBroadcasterSupport implements JMX
     static MBeanServer localMBeanServer;
     // Provide logging
     private static Logger log = Logger.getLogger(JMXTestRunner.class.getName());
+    // protocol property holding the command timeout, see JMXProtocolConfiguration
+    private static final String COMMAND_TIMEOUT_PROPERTY = "commandTimeoutInMilliSeconds";
+    private static final long DEFAULT_COMMAND_TIMEOUT = 30000;
+    // protocol property naming the PayloadCodec to use, see JMXProtocolConfiguration
+    private static final String PAYLOAD_CODEC_PROPERTY = "payloadCodec";
+    // protocol property identifying the client executor, the commands of its calls are tagged with it
+    static final String CALLER_PROPERTY = "callerId";
+    // separates the caller from the test method in the call
+    static final char CALLER_SEPARATOR = '|';
+    // separates the call from the command sequence in the notification message
+    static final char SEQUENCE_SEPARATOR = '#';
     private final String objectName;
-    private ConcurrentHashMap<String, Command<?>> events;
+    private ConcurrentHashMap<String, Call> events;
     private ThreadLocal<String> currentCall;
     // Notification Sequence number
     private AtomicInteger integer = new AtomicInteger();
@@ -71,7 +87,7 @@ public class JMXTestRunner extends NotificationBroadcasterSupport implements JMX
                 }
             };
         }
-        events = new ConcurrentHashMap<String, Command<?>>();
+        events = new ConcurrentHashMap<String, Call>();
         currentCall = new ThreadLocal<String>();
         this.objectName = objectName;
     }
@@ -118,11 +134,15 @@ public class JMXTestRunner extends NotificationBroadcasterSupport implements JMX
         }
 
         TestResult result = runTestMethodInternal(className, methodName, protocolProps);
-        return Serializer.toByteArray(result);
+        return Serializer.toByteArray(getPayloadCodec(protocolProps), result);
     }
 
     private TestResult runTestMethodInternal(String className, String methodName, Map<String, String> protocolProps) {
-        currentCall.set(className + methodName);
+        // several clients may listen for the commands, let each one tell its own calls apart
+        String caller = protocolProps != null ? protocolProps.get(CALLER_PROPERTY) : null;
+        String call = (caller != null ? caller + CALLER_SEPARATOR : "") + className + methodName;
+        currentCall.set(call);
+        events.put(call, new Call(getCommandTimeout(protocolProps), getPayloadCodec(protocolProps), false));
         TestResult result = null;
         try {
             TestRunner runner = mockTestRunner;
@@ -140,6 +160,7 @@ public class JMXTestRunner extends NotificationBroadcasterSupport implements JMX
             result = TestResult.failed(th);
             result.setEnd(System.currentTimeMillis());
         } finally {
+            events.remove(call);
             log.fine("Result: " + result);
             if (result != null && result.getStatus() == Status.FAILED) {
                 log.log(Level.SEVERE, "Failed: " + className + "." + methodName, result.getThrowable());
@@ -155,20 +176,79 @@ public class JMXTestRunner extends NotificationBroadcasterSupport implements JMX
 
     @Override
     public void send(Command<?> command) {
-        Notification notification = new Notification("arquillian-command", this, integer.incrementAndGet(),
-            currentCall.get());
-        notification.setUserData(Serializer.toByteArray(command));
+        String id = currentCall.get();
+        Call call = getCall(id);
+        int sequence = integer.incrementAndGet();
+        call.lastSent = sequence;
+        // the client pushes the result back with the message as event id, tell results of earlier commands apart
+        Notification notification = new Notification("arquillian-command", this, sequence,
+            id + SEQUENCE_SEPARATOR + sequence);
+        notification.setUserData(Serializer.toByteArray(call.payloadCodec, command));
         sendNotification(notification);
     }
 
     @Override
     public Command<?> receive() {
-        return events.remove(currentCall.get());
+        String id = currentCall.get();
+        Call call = events.get(id);
+        if (call == null) {
+            return null;
+        }
+        Command<?> result = null;
+        Response response;
+        while (result == null && (response = call.results.poll()) != null) {
+            result = call.accept(response);
+        }
+        if (result != null && call.detached) {
+            events.remove(id, call);
+        }
+        return result;
+    }
+
+    @Override
+    public Command<?> await() {
+        String id = currentCall.get();
+        Call call = getCall(id);
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(call.commandTimeout);
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > 0) {
+                Response response = call.results.poll(remaining, TimeUnit.NANOSECONDS);
+                Command<?> result = response != null ? call.accept(response) : null;
+                if (result != null) {
+                    return result;
+                }
+            }
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            if (call.detached) {
+                events.remove(id, call);
+            }
+        }
     }
 
     @Override
     public void push(String eventId, byte[] command) {
-        events.put(eventId, Serializer.toObject(Command.class, command));
+        String id = eventId;
+        int sequence = Response.ANY;
+        int separator = eventId.lastIndexOf(SEQUENCE_SEPARATOR);
+        if (separator != -1) {
+            try {
+                sequence = Integer.parseInt(eventId.substring(separator + 1));
+                id = eventId.substring(0, separator);
+            } catch (NumberFormatException e) {
+                // not sent with a sequence, the whole event id names the call
+            }
+        }
+        Call call = events.get(id);
+        if (call == null) {
+            log.fine("Ignoring command result for finished call " + eventId);
+            return;
+        }
+        call.results.offer(new Response(sequence, Serializer.toObject(Command.class, command)));
     }
 
     /**
@@ -178,6 +258,37 @@ public class JMXTestRunner extends NotificationBroadcasterSupport implements JMX
         return currentCall.get();
     }
 
+    private Call getCall(String id) {
+        Call call = events.get(id);
+        if (call == null) {
+            // send and receive outside of runTestMethod, e.g. by sub classes, removed once the result was taken
+            call = new Call(DEFAULT_COMMAND_TIMEOUT, PayloadCodecs.selectCodec(null), true);
+            Call existing = events.putIfAbsent(id, call);
+            if (existing != null) {
+                call = existing;
+            }
+        }
+        return call;
+    }
+
+    private static long getCommandTimeout(Map<String, String> protocolProps) {
+        String timeout = protocolProps != null ? protocolProps.get(COMMAND_TIMEOUT_PROPERTY) : null;
+        if (timeout == null) {
+            return DEFAULT_COMMAND_TIMEOUT;
+        }
+        try {
+            return Long.parseLong(timeout);
+        } catch (NumberFormatException e) {
+            log.warning("Invalid " + COMMAND_TIMEOUT_PROPERTY + " " + timeout + ", using " + DEFAULT_COMMAND_TIMEOUT);
+            return DEFAULT_COMMAND_TIMEOUT;
+        }
+    }
+
+    private static PayloadCodec getPayloadCodec(Map<String, String> protocolProps) {
+        // answer in the codec asked for if available here, the client detects the one used from the payload
+        return PayloadCodecs.selectCodec(protocolProps != null ? protocolProps.get(PAYLOAD_CODEC_PROPERTY) : null);
+    }
+
    /*
     * Internal Helpers for Test
     */
@@ -193,4 +304,46 @@ public class JMXTestRunner extends NotificationBroadcasterSupport implements JMX
     public interface TestClassLoader {
         Class<?> loadTestClass(String className) throws ClassNotFoundException;
     }
+
+    /**
+     * Results pushed by the client side for one test method invocation, handed over to the waiting command thread.
+     */
+    private static final class Call {
+        private final BlockingQueue<Response> results = new LinkedBlockingQueue<Response>();
+        private final long commandTimeout;
+        private final PayloadCodec payloadCodec;
+        private final boolean detached;
+        // sequence of the command sent last, only its result is handed out
+        private volatile int lastSent = Response.ANY;
+
+        Call(long commandTimeout, PayloadCodec payloadCodec, boolean detached) {
+            this.commandTimeout = commandTimeout;
+            this.payloadCodec = payloadCodec;
+            this.detached = detached;
+        }
+
+        /**
+         * @return the pushed command if it answers the command sent last, null if it is a late result of an earlier
+         * one, e.g. one that timed out
+         */
+        Command<?> accept(Response response) {
+            if (response.sequence == Response.ANY || response.sequence == lastSent) {
+                return response.command;
+            }
+            log.fine("Ignoring late result of command " + response.sequence + ", waiting for " + lastSent);
+            return null;
+        }
+    }
+
+    private static final class Response {
+        private static final int ANY = -1;
+
+        private final int sequence;
+        private final Command<?> command;
+
+        Response(int sequence, Command<?> command) {
+            this.sequence = sequence;
+            this.command = command;
+        }
+    }
 }
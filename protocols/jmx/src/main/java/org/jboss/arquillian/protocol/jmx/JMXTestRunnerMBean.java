@@ -77,6 +77,13 @@ public interface JMXTestRunnerMBean extends NotificationBroadcaster {
      */
     Command<?> receive();
 
+    /**
+     * Wait for the {@link Command} result of the current call to be pushed by the client side
+     *
+     * @return command Command object containing the result, null if none received within the command timeout
+     */
+    Command<?> await();
+
     /**
      * Client side to push a {@link Command} result back to container.
      *
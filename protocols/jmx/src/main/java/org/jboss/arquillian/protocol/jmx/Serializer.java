@@ -17,11 +17,15 @@
  */
 package org.jboss.arquillian.protocol.jmx;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import org.jboss.arquillian.container.test.spi.codec.PayloadCodec;
+import org.jboss.arquillian.container.test.spi.util.PayloadCodecs;
 
 /**
  * Serializer
@@ -30,9 +34,14 @@ import java.io.ObjectOutputStream;
  */
 final class Serializer {
     public static byte[] toByteArray(Object object) {
+        return toByteArray(PayloadCodecs.selectCodec(null), object);
+    }
+
+    public static byte[] toByteArray(PayloadCodec codec, Object object) {
         try {
             ByteArrayOutputStream out = new ByteArrayOutputStream();
-            ObjectOutputStream outObj = new ObjectOutputStream(out);
+            PayloadCodecs.writeHeader(codec, out);
+            ObjectOutput outObj = codec.createOutput(out);
             outObj.writeObject(object);
             outObj.flush();
             return out.toByteArray();
@@ -41,12 +50,20 @@ final class Serializer {
         }
     }
 
-    public static <T> T toObject(Class<T> type, byte[] objectArray) {
+    /**
+     * @return the codec the given bytes were written with
+     */
+    public static PayloadCodec getCodec(byte[] objectArray) {
         try {
-            ObjectInputStream outObj = new ObjectInputStream(new ByteArrayInputStream(objectArray));
-            Object object = outObj.readObject();
+            return PayloadCodecs.readHeader(new ByteArrayInputStream(objectArray));
+        } catch (Exception e) {
+            throw new RuntimeException("Could not read payload codec: " + objectArray, e);
+        }
+    }
 
-            return type.cast(object);
+    public static <T> T toObject(Class<T> type, byte[] objectArray) {
+        try {
+            return type.cast(readObject(new ByteArrayInputStream(objectArray)));
         } catch (Exception e) {
             throw new RuntimeException("Could not deserialize object: " + objectArray, e);
         }
@@ -54,10 +71,7 @@ final class Serializer {
 
     public static <T> T toObject(Class<T> type, InputStream input) {
         try {
-            ObjectInputStream outObj = new ObjectInputStream(input);
-            Object object = outObj.readObject();
-
-            return type.cast(object);
+            return type.cast(readObject(new BufferedInputStream(input)));
         } catch (Exception e) {
             throw new RuntimeException("Could not deserialize object", e);
         } finally {
@@ -68,4 +82,9 @@ final class Serializer {
             }
         }
     }
+
+    private static Object readObject(InputStream input) throws IOException, ClassNotFoundException {
+        ObjectInput inObj = PayloadCodecs.readHeader(input).createInput(input);
+        return inObj.readObject();
+    }
 }
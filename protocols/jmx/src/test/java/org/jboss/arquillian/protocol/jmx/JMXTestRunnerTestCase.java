@@ -18,13 +18,21 @@ package org.jboss.arquillian.protocol.jmx;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.management.MBeanServer;
 import javax.management.MBeanServerFactory;
 import javax.management.MBeanServerInvocationHandler;
+import javax.management.Notification;
+import javax.management.NotificationListener;
 import javax.management.ObjectName;
+import org.jboss.arquillian.container.test.spi.TestRunner;
+import org.jboss.arquillian.container.test.spi.command.Command;
+import org.jboss.arquillian.container.test.spi.command.CommandCallback;
 import org.jboss.arquillian.protocol.jmx.test.JMXTestTestRunner;
 import org.jboss.arquillian.protocol.jmx.test.MockTestRunner;
 import org.jboss.arquillian.protocol.jmx.test.TestCommandCallback;
@@ -146,26 +154,7 @@ public class JMXTestRunnerTestCase {
         try {
             JMXMethodExecutor executor = new JMXMethodExecutor(mbeanServer, new TestCommandCallback(results));
 
-            TestResult result = executor.invoke(new TestMethodExecutor() {
-                @Override
-                public void invoke(Object... parameters) throws Throwable {
-                }
-
-                @Override
-                public String getMethodName() {
-                    return getMethod().getName();
-                }
-
-                @Override
-                public Method getMethod() {
-                    return testMethod();
-                }
-
-                @Override
-                public Object getInstance() {
-                    return JMXTestRunnerTestCase.this;
-                }
-            });
+            TestResult result = executor.invoke(testMethodExecutor());
 
             assertNotNull("TestResult not null", result);
             assertNotNull("Status not null", result.getStatus());
@@ -184,6 +173,171 @@ public class JMXTestRunnerTestCase {
         }
     }
 
+    @Test
+    public void shouldBeAbleToSendReceiveCommandsWithConfiguredPayloadCodec() throws Throwable {
+        Object[] results = new Object[] {"Success", 100};
+        MockTestRunner.add(TestResult.failed(new IllegalStateException("failed in container")));
+        MockTestRunner.add(new TestStringCommand());
+        MockTestRunner.add(new TestIntegerCommand());
+
+        MBeanServer mbeanServer = getMBeanServer();
+        JMXTestRunner jmxTestRunner = new JMXTestTestRunner(null);
+
+        jmxTestRunner.setExposedTestRunnerForTest(new MockTestRunner());
+        ObjectName oname = jmxTestRunner.registerMBean(mbeanServer);
+
+        try {
+            Map<String, String> protocolProps = new HashMap<String, String>();
+            protocolProps.put("payloadCodec", "compact");
+            JMXMethodExecutor executor = new JMXMethodExecutor(mbeanServer, new TestCommandCallback(results),
+                JMXTestRunnerMBean.OBJECT_NAME, protocolProps);
+
+            TestResult result = executor.invoke(testMethodExecutor());
+
+            assertEquals(Status.FAILED, result.getStatus());
+            assertEquals("failed in container", result.getThrowable().getMessage());
+            for (int i = 0; i < results.length; i++) {
+                Assert.assertEquals(
+                    "Should have returned command",
+                    results[i],
+                    MockTestRunner.commandResults.get(i));
+            }
+        } finally {
+            MockTestRunner.clear();
+            mbeanServer.unregisterMBean(oname);
+        }
+    }
+
+    @Test
+    public void shouldOnlyExecuteCommandsInExecutorThatInvokedTheTest() throws Throwable {
+        Object[] results = new Object[] {"Success", 100};
+        MBeanServer mbeanServer = getMBeanServer();
+        JMXTestRunner jmxTestRunner = new JMXTestRunner(null);
+        jmxTestRunner.setExposedTestRunnerForTest(new MockTestRunner());
+        ObjectName oname = jmxTestRunner.registerMBean(mbeanServer);
+
+        final AtomicInteger fired = new AtomicInteger();
+        JMXMethodExecutor other = new JMXMethodExecutor(mbeanServer, new CommandCallback() {
+            @Override
+            public void fired(Command<?> event) {
+                fired.incrementAndGet();
+            }
+        }, JMXTestRunnerMBean.OBJECT_NAME, new HashMap<String, String>(), true);
+        JMXMethodExecutor executor = new JMXMethodExecutor(mbeanServer, new TestCommandCallback(results),
+            JMXTestRunnerMBean.OBJECT_NAME, new HashMap<String, String>(), true);
+        try {
+            // keeps its listener registered on the same MBean
+            MockTestRunner.clear();
+            MockTestRunner.add(TestResult.passed());
+            other.invoke(testMethodExecutor());
+
+            MockTestRunner.add(new TestStringCommand());
+            MockTestRunner.add(new TestIntegerCommand());
+            TestResult result = executor.invoke(testMethodExecutor());
+
+            assertEquals(Status.PASSED, result.getStatus());
+            assertEquals(Arrays.<Object>asList("Success", 100), MockTestRunner.commandResults);
+            assertEquals("Commands should not be executed by other executors", 0, fired.get());
+        } finally {
+            executor.close();
+            other.close();
+            MockTestRunner.clear();
+            mbeanServer.unregisterMBean(oname);
+        }
+    }
+
+    @Test
+    public void shouldFailCommandWhenNoResultIsPushedWithinCommandTimeout() throws Throwable {
+        MockTestRunner.add(TestResult.passed());
+        MockTestRunner.add(new TestStringCommand());
+
+        MBeanServer mbeanServer = getMBeanServer();
+        JMXTestRunner jmxTestRunner = new JMXTestRunner(null);
+
+        jmxTestRunner.setExposedTestRunnerForTest(new MockTestRunner());
+        ObjectName oname = jmxTestRunner.registerMBean(mbeanServer);
+
+        try {
+            Map<String, String> protocolProps = new HashMap<String, String>();
+            protocolProps.put("commandTimeoutInMilliSeconds", "100");
+
+            // no client side listener is registered, nobody pushes the command result
+            JMXTestRunnerMBean testRunner = getMBeanProxy(mbeanServer, oname, JMXTestRunnerMBean.class);
+            long start = System.currentTimeMillis();
+            TestResult result = Serializer.toObject(TestResult.class,
+                testRunner.runTestMethod(DummyTestCase.class.getName(), "testMethod", protocolProps));
+
+            assertEquals("Command should have timed out", Status.FAILED, result.getStatus());
+            Assert.assertTrue("Should have used the configured command timeout",
+                System.currentTimeMillis() - start < 10000);
+        } finally {
+            MockTestRunner.clear();
+            mbeanServer.unregisterMBean(oname);
+        }
+    }
+
+    @Test
+    public void shouldNotHandLateResultOfTimedOutCommandToNextCommand() throws Throwable {
+        final List<String> results = new CopyOnWriteArrayList<String>();
+        MBeanServer mbeanServer = getMBeanServer();
+        JMXTestRunner jmxTestRunner = new JMXTestRunner(null);
+        jmxTestRunner.setExposedTestRunnerForTest(new TestRunner() {
+            @Override
+            public TestResult execute(Class<?> testClass, String methodName) {
+                for (int i = 0; i < 2; i++) {
+                    try {
+                        results.add(new JMXCommandService().execute(new TestStringCommand()));
+                    } catch (RuntimeException e) {
+                        results.add("timeout");
+                    }
+                }
+                return TestResult.passed();
+            }
+        });
+        final ObjectName oname = jmxTestRunner.registerMBean(mbeanServer);
+        final MBeanServer server = mbeanServer;
+
+        // answer the first command too late and the second one in time
+        final AtomicInteger received = new AtomicInteger();
+        NotificationListener listener = new NotificationListener() {
+            @Override
+            public void handleNotification(final Notification notification, Object handback) {
+                final boolean first = received.incrementAndGet() == 1;
+                new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            Thread.sleep(first ? 700 : 300);
+                            TestStringCommand command = (TestStringCommand) Serializer.toObject(Command.class,
+                                (byte[]) notification.getUserData());
+                            command.setResult(first ? "late" : "in time");
+                            server.invoke(oname, "push",
+                                new Object[] {notification.getMessage(), Serializer.toByteArray(command)},
+                                new String[] {String.class.getName(), byte[].class.getName()});
+                        } catch (Exception e) {
+                            throw new RuntimeException(e);
+                        }
+                    }
+                }).start();
+            }
+        };
+        mbeanServer.addNotificationListener(oname, listener, null, null);
+
+        try {
+            Map<String, String> protocolProps = new HashMap<String, String>();
+            protocolProps.put("commandTimeoutInMilliSeconds", "500");
+            JMXTestRunnerMBean testRunner = getMBeanProxy(mbeanServer, oname, JMXTestRunnerMBean.class);
+            TestResult result = Serializer.toObject(TestResult.class,
+                testRunner.runTestMethod(DummyTestCase.class.getName(), "testMethod", protocolProps));
+
+            assertEquals(Status.PASSED, result.getStatus());
+            assertEquals(Arrays.asList("timeout", "in time"), results);
+        } finally {
+            mbeanServer.removeNotificationListener(oname, listener);
+            mbeanServer.unregisterMBean(oname);
+        }
+    }
+
     private MBeanServer getMBeanServer() {
         ArrayList<MBeanServer> mbeanServers = MBeanServerFactory.findMBeanServer(null);
         MBeanServer mbeanServer =
@@ -195,6 +349,29 @@ public class JMXTestRunnerTestCase {
         return MBeanServerInvocationHandler.newProxyInstance(mbeanServer, name, interf, false);
     }
 
+    private TestMethodExecutor testMethodExecutor() {
+        return new TestMethodExecutor() {
+            @Override
+            public void invoke(Object... parameters) throws Throwable {
+            }
+
+            @Override
+            public String getMethodName() {
+                return getMethod().getName();
+            }
+
+            @Override
+            public Method getMethod() {
+                return testMethod();
+            }
+
+            @Override
+            public Object getInstance() {
+                return JMXTestRunnerTestCase.this;
+            }
+        };
+    }
+
     private Method testMethod() {
         try {
             return DummyTestCase.class.getMethod("testMethod");
@@ -16,8 +16,13 @@
  */
 package org.jboss.arquillian.protocol.servlet;
 
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.OutputStream;
 import java.net.ConnectException;
 import java.net.HttpURLConnection;
 import java.net.URI;
@@ -25,16 +30,17 @@ import java.net.URL;
 import java.net.URLConnection;
 import java.net.URLEncoder;
 import java.util.Collection;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.jboss.arquillian.container.spi.client.protocol.metadata.HTTPContext;
 import org.jboss.arquillian.container.test.spi.ContainerMethodExecutor;
+import org.jboss.arquillian.container.test.spi.codec.PayloadCodec;
 import org.jboss.arquillian.container.test.spi.command.Command;
 import org.jboss.arquillian.container.test.spi.command.CommandCallback;
+import org.jboss.arquillian.container.test.spi.util.PayloadCodecs;
+import org.jboss.arquillian.protocol.servlet.runner.ServletTestRunner;
 import org.jboss.arquillian.test.spi.TestMethodExecutor;
 import org.jboss.arquillian.test.spi.TestResult;
 
@@ -47,9 +53,15 @@ public class ServletMethodExecutor implements ContainerMethodExecutor {
     public static final String ARQUILLIAN_SERVLET_NAME = "ArquillianServletRunner";
     public static final String ARQUILLIAN_SERVLET_MAPPING = "/" + ARQUILLIAN_SERVLET_NAME;
     private static final Logger log = Logger.getLogger(ContainerMethodExecutor.class.getName());
+    // how long the server may hold an event request open while waiting for a command
+    private static final long COMMAND_WAIT_IN_MILLISECONDS = 10000;
+    private static final long INITIAL_RETRY_DELAY_IN_MILLISECONDS = 10;
+    private static final long MAX_RETRY_DELAY_IN_MILLISECONDS = 200;
     protected ServletURIHandler uriHandler;
     protected CommandCallback callback;
     protected ServletProtocolConfiguration config;
+    // the codec the container answered with, command results are sent back in the same
+    private volatile PayloadCodec containerCodec = PayloadCodecs.selectCodec(null);
 
     protected ServletMethodExecutor() {
     }
@@ -79,40 +91,35 @@ public class ServletMethodExecutor implements ContainerMethodExecutor {
 
         Class<?> testClass = testMethodExecutor.getInstance().getClass();
 
-        Timer eventTimer = null;
-        Lock timerLock = new ReentrantLock();
         AtomicBoolean isCanceled = new AtomicBoolean();
         try {
             String urlEncodedMethodName = URLEncoder.encode(testMethodExecutor.getMethodName(), "UTF-8");
+            String codecParameter = config.getPayloadCodec() == null ? ""
+                : "&" + ServletTestRunner.PARA_CODEC + "=" + URLEncoder.encode(config.getPayloadCodec(), "UTF-8");
+            String callId = UUID.randomUUID().toString();
             final String url = targetBaseURI.toASCIIString() + ARQUILLIAN_SERVLET_MAPPING
                 + "?outputMode=serializedObject&className=" + testClass.getName() + "&methodName="
-                + urlEncodedMethodName;
+                + urlEncodedMethodName + codecParameter + "&" + ServletTestRunner.PARA_CALL_ID + "=" + callId;
 
             final String eventUrl = targetBaseURI.toASCIIString() + ARQUILLIAN_SERVLET_MAPPING
                 + "?outputMode=serializedObject&className=" + testClass.getName() + "&methodName="
-                + urlEncodedMethodName + "&cmd=event";
+                + urlEncodedMethodName + codecParameter + "&" + ServletTestRunner.PARA_CALL_ID + "=" + callId
+                + "&cmd=event";
 
-            eventTimer = createCommandServicePullTimer(eventUrl, timerLock, isCanceled);
+            createCommandServicePoller(eventUrl, isCanceled);
             return executeWithRetry(url, TestResult.class);
         } catch (Exception e) {
             throw new IllegalStateException("Error launching test " + testClass.getName() + " "
                 + testMethodExecutor.getMethod(), e);
         } finally {
-            if (eventTimer != null) {
-                eventTimer.cancel();
-                timerLock.lock();
-                try {
-                    isCanceled.set(true);
-
-                } finally {
-                    timerLock.unlock();
-                }
-            }
+            // the server releases a pending event request once the test is done, no need to wait for the poller
+            isCanceled.set(true);
         }
     }
 
     protected <T> T executeWithRetry(String url, Class<T> type) throws Exception {
         long timeoutTime = System.currentTimeMillis() + 1000;
+        long delay = INITIAL_RETRY_DELAY_IN_MILLISECONDS;
         boolean interrupted = false;
         while (timeoutTime > System.currentTimeMillis()) {
             T o = execute(url, type, null);
@@ -120,10 +127,11 @@ public class ServletMethodExecutor implements ContainerMethodExecutor {
                 return o;
             }
             try {
-                Thread.sleep(200);
+                Thread.sleep(Math.max(0, Math.min(delay, timeoutTime - System.currentTimeMillis())));
             } catch (InterruptedException e) {
                 interrupted = true;
             }
+            delay = Math.min(delay * 2, MAX_RETRY_DELAY_IN_MILLISECONDS);
         }
         if (interrupted) {
             Thread.currentThread().interrupt();
@@ -143,54 +151,51 @@ public class ServletMethodExecutor implements ContainerMethodExecutor {
 
         prepareHttpConnection(httpConnection);
 
+        // the connection is not disconnected when the exchange completed, the JVM keeps the socket alive for reuse
+        boolean completed = false;
         try {
-
             if (requestObject != null) {
+                byte[] body = serialize(requestObject);
                 httpConnection.setRequestMethod("POST");
                 httpConnection.setDoOutput(true);
                 httpConnection.setRequestProperty("Content-Type", "application/octet-stream");
-            }
+                httpConnection.setFixedLengthStreamingMode(body.length);
 
-            if (requestObject != null) {
-                ObjectOutputStream ous = new ObjectOutputStream(httpConnection.getOutputStream());
+                OutputStream output = httpConnection.getOutputStream();
                 try {
-                    ous.writeObject(requestObject);
-                } catch (Exception e) {
-                    throw new RuntimeException("Error sending request Object, " + requestObject, e);
+                    output.write(body);
                 } finally {
-                    ous.flush();
-                    ous.close();
+                    output.close();
                 }
             }
 
+            int responseCode;
             try {
-                httpConnection.getResponseCode();
+                responseCode = httpConnection.getResponseCode();
             } catch (ConnectException e) {
                 return null; // Could not connect
             }
-            if (httpConnection.getResponseCode() == HttpURLConnection.HTTP_OK) {
-                ObjectInputStream ois = new ObjectInputStream(httpConnection.getInputStream());
-                Object o;
-                try {
-                    o = ois.readObject();
-                } finally {
-                    ois.close();
-                }
+            if (responseCode == HttpURLConnection.HTTP_OK) {
+                Object o = readObject(httpConnection.getInputStream());
+                completed = true;
 
                 if (!returnType.isInstance(o)) {
                     throw new IllegalStateException(
                         "Error reading results, expected a " + returnType.getName() + " but got " + o);
                 }
                 return returnType.cast(o);
-            } else if (httpConnection.getResponseCode() == HttpURLConnection.HTTP_NO_CONTENT) {
-                return null;
-            } else if (httpConnection.getResponseCode() != HttpURLConnection.HTTP_NOT_FOUND) {
+            }
+            discard(httpConnection.getErrorStream());
+            completed = true;
+            if (responseCode != HttpURLConnection.HTTP_NO_CONTENT && responseCode != HttpURLConnection.HTTP_NOT_FOUND) {
                 throw new IllegalStateException(
                     "Error launching test at " + url + ". " +
-                        "Got " + httpConnection.getResponseCode() + " (" + httpConnection.getResponseMessage() + ")");
+                        "Got " + responseCode + " (" + httpConnection.getResponseMessage() + ")");
             }
         } finally {
-            httpConnection.disconnect();
+            if (!completed) {
+                httpConnection.disconnect();
+            }
         }
         return null;
     }
@@ -199,8 +204,7 @@ public class ServletMethodExecutor implements ContainerMethodExecutor {
     protected void prepareHttpConnection(HttpURLConnection connection) {
     }
 
-    protected Timer createCommandServicePullTimer(final String eventUrl,
-            final Lock timerLock, final AtomicBoolean isCanceled) {
+    protected Thread createCommandServicePoller(final String eventUrl, final AtomicBoolean isCanceled) {
         if (config.getPullInMilliSeconds() == null || config.getPullInMilliSeconds() <= 0) {
             log.warning("The Servlet Protocol has been configured with a pullInMilliSeconds interval of " +
                 config.getPullInMilliSeconds() + ". The effect of this is that the Command Service has been disabled." +
@@ -208,33 +212,99 @@ public class ServletMethodExecutor implements ContainerMethodExecutor {
                 " possible timeout runtime exceptions.");
             return null;
         }
-        Timer eventTimer = new Timer();
-        eventTimer.schedule(new TimerTask() {
+        final String waitingEventUrl =
+            eventUrl + "&" + ServletTestRunner.PARA_WAIT + "=" + COMMAND_WAIT_IN_MILLISECONDS;
+        final long pullInterval = config.getPullInMilliSeconds();
+        Thread eventPoller = new Thread(new Runnable() {
             @Override
             public void run() {
-                timerLock.lock();
-                try {
-                    if (isCanceled.get()) {
-                        return;
-                    }
-                    Object o = execute(eventUrl, Object.class, null);
-                    if (o != null) {
-                        if (o instanceof Command) {
-                            Command<?> command = (Command<?>) o;
-                            callback.fired(command);
-                            execute(eventUrl, Object.class, command);
-                        } else {
-                            throw new RuntimeException("Recived a non " + Command.class.getName()
-                                + " object on event channel");
+                while (!isCanceled.get()) {
+                    long started = System.currentTimeMillis();
+                    try {
+                        // the server holds the request until a command is available
+                        Object o = execute(waitingEventUrl, Object.class, null);
+                        if (o != null) {
+                            if (o instanceof Command) {
+                                Command<?> command = (Command<?>) o;
+                                callback.fired(command);
+                                execute(eventUrl, Object.class, command);
+                                continue;
+                            } else {
+                                throw new RuntimeException("Recived a non " + Command.class.getName()
+                                    + " object on event channel");
+                            }
+                        }
+                    } catch (Exception e) {
+                        if (!isCanceled.get()) {
+                            log.log(Level.WARNING, "Could not pull commands from " + eventUrl, e);
                         }
                     }
-                } catch (Exception e) {
-                    e.printStackTrace();
-                } finally {
-                    timerLock.unlock();
+                    // answered without waiting, e.g. not reachable yet, fall back to the pull interval
+                    pause(pullInterval - (System.currentTimeMillis() - started), isCanceled);
                 }
             }
-        }, 0, config.getPullInMilliSeconds());
-        return eventTimer;
+        }, "Arquillian Servlet Command Service");
+        eventPoller.setDaemon(true);
+        eventPoller.start();
+        return eventPoller;
+    }
+
+    private static void pause(long millis, AtomicBoolean isCanceled) {
+        if (millis <= 0 || isCanceled.get()) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            isCanceled.set(true);
+        }
+    }
+
+    private byte[] serialize(Object requestObject) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try {
+            PayloadCodec codec = containerCodec;
+            PayloadCodecs.writeHeader(codec, body);
+            ObjectOutput ous = codec.createOutput(body);
+            ous.writeObject(requestObject);
+            ous.close();
+        } catch (Exception e) {
+            throw new RuntimeException("Error sending request Object, " + requestObject, e);
+        }
+        return body.toByteArray();
+    }
+
+    private Object readObject(InputStream input) throws IOException, ClassNotFoundException {
+        try {
+            InputStream in = new BufferedInputStream(input);
+            PayloadCodec codec = PayloadCodecs.readHeader(in);
+            containerCodec = codec;
+            ObjectInput ois = codec.createInput(in);
+            Object object = ois.readObject();
+            // the response has to be read completely for the connection to be reused
+            drain(input);
+            return object;
+        } finally {
+            input.close();
+        }
+    }
+
+    private static void discard(InputStream input) throws IOException {
+        if (input == null) {
+            return;
+        }
+        try {
+            drain(input);
+        } finally {
+            input.close();
+        }
+    }
+
+    private static void drain(InputStream input) throws IOException {
+        byte[] buffer = new byte[512];
+        while (input.read(buffer) != -1) {
+            // skip
+        }
     }
 }
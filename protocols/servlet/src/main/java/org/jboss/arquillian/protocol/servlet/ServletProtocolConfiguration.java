@@ -18,6 +18,7 @@ package org.jboss.arquillian.protocol.servlet;
 
 import java.net.URI;
 import org.jboss.arquillian.container.test.spi.client.protocol.ProtocolConfiguration;
+import org.jboss.arquillian.container.test.spi.codec.JavaSerializationCodec;
 
 /**
  * ServletProtocolConfiguration
@@ -31,6 +32,7 @@ public class ServletProtocolConfiguration implements ProtocolConfiguration {
     private String contextRoot = null;
     ;
     private Integer pullInMilliSeconds = 100;
+    private String payloadCodec = JavaSerializationCodec.NAME;
 
     /**
      * @return the scheme
@@ -105,14 +107,33 @@ public class ServletProtocolConfiguration implements ProtocolConfiguration {
 
     /**
      * The Command Service provided by the Serlvet protocol will pull
-     * for Remote events happened in the container every x milliseconds.
+     * for Remote events happened in the container.
      * <p>
      * This is used by certain extensions to send data/commands between the container
      * and client. Used by e.g. The InContianer Deployment.
      * <p>
+     * The container holds each pull open until a command is available, the interval is only
+     * used as the delay between pulls the container answered right away, e.g. while it is not reachable.
+     * A value of 0 or less disables the Command Service.
+     * <p>
      * Set the given pull interval time in milliseconds.
      */
     public void setPullInMilliSeconds(Integer pullInMilliSeconds) {
         this.pullInMilliSeconds = pullInMilliSeconds;
     }
+
+    /**
+     * @return the payloadCodec
+     */
+    public String getPayloadCodec() {
+        return payloadCodec;
+    }
+
+    /**
+     * The name of the {@link org.jboss.arquillian.container.test.spi.codec.PayloadCodec} used to exchange test
+     * results and commands, e.g. compact. The container falls back to Java serialization if it does not provide it.
+     */
+    public void setPayloadCodec(String payloadCodec) {
+        this.payloadCodec = payloadCodec;
+    }
 }
@@ -0,0 +1,128 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.protocol.servlet.runner;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.jboss.arquillian.container.test.spi.command.Command;
+
+/**
+ * Hands commands from the in-container test thread over to the client and the results back again.
+ * <p>
+ * The client holds an event request open in {@link #awaitCommand(String, long)} until a command is sent, and the
+ * test thread waiting in {@link #send(String, Command, long)} is woken up as soon as the client posts the result.
+ * Calls are keyed by the same id as {@link ServletTestRunner#currentCall} and only accept commands while their test
+ * is executing.
+ */
+final class CommandChannel {
+    // recently finished calls, an event request arriving after its test is done must not wait for it
+    private static final int MAX_CLOSED = 256;
+
+    private final Map<String, Call> calls = new HashMap<String, Call>();
+    private final Map<String, Boolean> closed = new LinkedHashMap<String, Boolean>() {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_CLOSED;
+        }
+    };
+
+    synchronized void open(String id) {
+        closed.remove(id);
+        calls.put(id, new Call());
+        notifyAll();
+    }
+
+    synchronized void close(String id) {
+        calls.remove(id);
+        closed.put(id, Boolean.TRUE);
+        notifyAll();
+    }
+
+    synchronized void clear() {
+        calls.clear();
+        closed.clear();
+        notifyAll();
+    }
+
+    /**
+     * Send a command to the client and wait for its result.
+     *
+     * @return the command holding the result, or null if no result was received within the timeout
+     */
+    synchronized Command<?> send(String id, Command<?> command, long timeout) throws InterruptedException {
+        Call call = calls.get(id);
+        if (call == null) {
+            throw new IllegalStateException("No test is executing for " + id + ", can not send command " + command);
+        }
+        call.pending = command;
+        call.result = null;
+        call.delivered = false;
+        notifyAll();
+
+        long deadline = System.currentTimeMillis() + timeout;
+        while (call.result == null && calls.get(id) == call) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                break;
+            }
+            wait(remaining);
+        }
+        Command<?> result = call.result;
+        call.pending = null;
+        call.result = null;
+        return result;
+    }
+
+    /**
+     * Wait for the next command of the given call, also if the call has not been opened yet.
+     *
+     * @return the command or null if none was sent within the timeout or the call is closed
+     */
+    synchronized Command<?> awaitCommand(String id, long timeout) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeout;
+        while (!closed.containsKey(id)) {
+            Call call = calls.get(id);
+            if (call != null && call.pending != null && !call.delivered) {
+                call.delivered = true;
+                return call.pending;
+            }
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return null;
+            }
+            wait(remaining);
+        }
+        return null;
+    }
+
+    synchronized void complete(String id, Command<?> result) {
+        Call call = calls.get(id);
+        if (call != null && call.pending != null) {
+            call.result = result;
+            notifyAll();
+        }
+    }
+
+    private static final class Call {
+        private Command<?> pending;
+        private Command<?> result;
+        private boolean delivered;
+    }
+}
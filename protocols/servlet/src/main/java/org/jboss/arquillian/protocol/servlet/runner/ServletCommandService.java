@@ -31,25 +31,20 @@ public class ServletCommandService implements CommandService {
     @SuppressWarnings("unchecked")
     public <T> T execute(Command<T> command) {
         String currentId = ServletTestRunner.currentCall.get();
-        ServletTestRunner.events.put(currentId, command);
 
-        long timeoutTime = System.currentTimeMillis() + TIMEOUT;
-        while (timeoutTime > System.currentTimeMillis()) {
-            Command<?> newCommand = ServletTestRunner.events.get(currentId);
-            if (newCommand != null) {
-                if (newCommand.getThrowable() != null) {
-                    throw new RuntimeException(newCommand.getThrowable());
-                }
-                if (newCommand.getResult() != null) {
-                    return (T) newCommand.getResult();
-                }
-            }
-            try {
-                Thread.sleep(100);
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
+        Command<?> newCommand;
+        try {
+            newCommand = ServletTestRunner.events.send(currentId, command, TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
         }
-        throw new RuntimeException("No command response within timeout of " + TIMEOUT + " ms.");
+        if (newCommand == null) {
+            throw new RuntimeException("No command response within timeout of " + TIMEOUT + " ms.");
+        }
+        if (newCommand.getThrowable() != null) {
+            throw new RuntimeException(newCommand.getThrowable());
+        }
+        return (T) newCommand.getResult();
     }
 }
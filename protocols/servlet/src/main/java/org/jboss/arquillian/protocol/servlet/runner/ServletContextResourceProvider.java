@@ -21,6 +21,7 @@ import javax.servlet.ServletContext;
 import org.jboss.arquillian.container.test.impl.enricher.resource.OperatesOnDeploymentAwareProvider;
 import org.jboss.arquillian.core.api.Instance;
 import org.jboss.arquillian.core.api.annotation.Inject;
+import org.jboss.arquillian.core.spi.SharedService;
 import org.jboss.arquillian.test.api.ArquillianResource;
 
 /**
@@ -28,6 +29,7 @@ import org.jboss.arquillian.test.api.ArquillianResource;
  *
  * @author asotobu
  */
+@SharedService
 public class ServletContextResourceProvider extends OperatesOnDeploymentAwareProvider {
 
     @Inject
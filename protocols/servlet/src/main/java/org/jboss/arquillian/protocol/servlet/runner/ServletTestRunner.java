@@ -18,17 +18,20 @@ package org.jboss.arquillian.protocol.servlet.runner;
 
 import java.io.BufferedInputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.io.InputStream;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.OutputStream;
 import java.io.PrintWriter;
-import java.util.concurrent.ConcurrentHashMap;
 import javax.servlet.ServletContext;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import org.jboss.arquillian.container.test.spi.TestRunner;
+import org.jboss.arquillian.container.test.spi.codec.PayloadCodec;
 import org.jboss.arquillian.container.test.spi.command.Command;
+import org.jboss.arquillian.container.test.spi.util.PayloadCodecs;
 import org.jboss.arquillian.container.test.spi.util.TestRunners;
 import org.jboss.arquillian.test.spi.TestResult;
 
@@ -40,6 +43,9 @@ import org.jboss.arquillian.test.spi.TestResult;
  * Supports multiple output modes ("outputmode"):
  * - html
  * - serializedObject
+ * <p>
+ * Results and commands are written with the {@link PayloadCodec} named by the "codec" parameter if available,
+ * otherwise with Java serialization.
  *
  * @author <a href="mailto:aslak@conduct.no">Aslak Knutsen</a>
  */
@@ -48,13 +54,19 @@ public class ServletTestRunner extends HttpServlet {
     public static final String PARA_CLASS_NAME = "className";
     public static final String PARA_OUTPUT_MODE = "outputMode";
     public static final String PARA_CMD_NAME = "cmd";
+    public static final String PARA_WAIT = "wait";
+    public static final String PARA_CALL_ID = "callId";
+    public static final String PARA_CODEC = "codec";
     public static final String OUTPUT_MODE_SERIALIZED = "serializedObject";
     public static final String OUTPUT_MODE_HTML = "html";
     public static final String CMD_NAME_TEST = "test";
     public static final String CMD_NAME_EVENT = "event";
     private static final long serialVersionUID = 1L;
-    static ConcurrentHashMap<String, Command<?>> events;
+    // upper bound for how long an event request is held open waiting for a command
+    private static final long MAX_WAIT = 60000;
+    static CommandChannel events;
     static ThreadLocal<String> currentCall;
+    private static ThreadLocal<PayloadCodec> currentCodec;
     private static ThreadLocal<ServletContext> currentServletContext;
 
     public static ServletContext getCurrentServletContext() {
@@ -63,8 +75,9 @@ public class ServletTestRunner extends HttpServlet {
 
     @Override
     public void init() throws ServletException {
-        events = new ConcurrentHashMap<String, Command<?>>();
+        events = new CommandChannel();
         currentCall = new ThreadLocal<String>();
+        currentCodec = new ThreadLocal<PayloadCodec>();
         currentServletContext = new ThreadLocal<ServletContext>();
     }
 
@@ -72,6 +85,7 @@ public class ServletTestRunner extends HttpServlet {
     public void destroy() {
         events.clear();
         currentCall.remove();
+        currentCodec.remove();
         currentServletContext.remove();
     }
 
@@ -110,10 +124,19 @@ public class ServletTestRunner extends HttpServlet {
             }
 
             currentServletContext.set(getServletContext());
-            currentCall.set(className + methodName);
+            // answer in the codec asked for if available here, the client detects the one used from the response
+            currentCodec.set(PayloadCodecs.selectCodec(request.getParameter(PARA_CODEC)));
+            // clients tell invocations of the same method apart so late event requests never mix them up
+            String callId = request.getParameter(PARA_CALL_ID);
+            currentCall.set(className + methodName + (callId != null ? callId : ""));
 
             if (CMD_NAME_TEST.equals(cmd)) {
-                executeTest(response, outputMode, className, methodName);
+                events.open(currentCall.get());
+                try {
+                    executeTest(response, outputMode, className, methodName);
+                } finally {
+                    events.close(currentCall.get());
+                }
             } else if (CMD_NAME_EVENT.equals(cmd)) {
                 executeEvent(request, response, className, methodName);
             } else {
@@ -127,6 +150,7 @@ public class ServletTestRunner extends HttpServlet {
             }
         } finally {
             currentCall.remove();
+            currentCodec.remove();
             currentServletContext.remove();
         }
     }
@@ -167,19 +191,28 @@ public class ServletTestRunner extends HttpServlet {
     public void executeEvent(HttpServletRequest request, HttpServletResponse response, String className,
         String methodName)
         throws ClassNotFoundException, IOException {
-        String eventKey = className + methodName;
+        String eventKey = currentCall.get() != null ? currentCall.get() : className + methodName;
 
         if (request.getContentLength() > 0) {
             response.setStatus(HttpServletResponse.SC_NO_CONTENT);
-            ObjectInputStream input = new ObjectInputStream(new BufferedInputStream(request.getInputStream()));
+            InputStream in = new BufferedInputStream(request.getInputStream());
+            ObjectInput input = PayloadCodecs.readHeader(in).createInput(in);
             Command<?> result = (Command<?>) input.readObject();
 
-            events.put(eventKey, result);
+            events.complete(eventKey, result);
         } else {
-            if (events.containsKey(eventKey) && events.get(eventKey).getResult() == null) {
+            Command<?> command;
+            try {
+                // hold the request until a command is sent, clients not asking to wait are answered right away
+                command = events.awaitCommand(eventKey, getWait(request));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                command = null;
+            }
+            if (command != null) {
                 response.setStatus(HttpServletResponse.SC_OK);
-                ObjectOutputStream output = new ObjectOutputStream(response.getOutputStream());
-                output.writeObject(events.remove(eventKey));
+                ObjectOutput output = createOutput(response.getOutputStream());
+                output.writeObject(command);
                 output.flush();
                 output.close();
             } else {
@@ -188,11 +221,23 @@ public class ServletTestRunner extends HttpServlet {
         }
     }
 
+    private long getWait(HttpServletRequest request) {
+        String wait = request.getParameter(PARA_WAIT);
+        if (wait == null) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Math.min(Long.parseLong(wait), MAX_WAIT));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(PARA_WAIT + " must be a number of milliseconds, but was " + wait);
+        }
+    }
+
     private void writeObject(Object object, HttpServletResponse response) {
         try {
             // Set HttpServletResponse status BEFORE getting the output stream
             response.setStatus(HttpServletResponse.SC_OK);
-            ObjectOutputStream oos = new ObjectOutputStream(response.getOutputStream());
+            ObjectOutput oos = createOutput(response.getOutputStream());
             oos.writeObject(object);
             oos.flush();
             oos.close();
@@ -207,6 +252,12 @@ public class ServletTestRunner extends HttpServlet {
         }
     }
 
+    private ObjectOutput createOutput(OutputStream out) throws IOException {
+        PayloadCodec codec = currentCodec.get() != null ? currentCodec.get() : PayloadCodecs.selectCodec(null);
+        PayloadCodecs.writeHeader(codec, out);
+        return codec.createOutput(out);
+    }
+
     private TestResult createFailedResult(Throwable throwable) {
         return TestResult.failed(throwable);
     }
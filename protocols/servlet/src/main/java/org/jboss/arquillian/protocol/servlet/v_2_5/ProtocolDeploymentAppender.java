@@ -18,7 +18,9 @@ package org.jboss.arquillian.protocol.servlet.v_2_5;
 
 import org.jboss.arquillian.container.test.spi.RemoteLoadableExtension;
 import org.jboss.arquillian.container.test.spi.client.deployment.AuxiliaryArchiveAppender;
+import org.jboss.arquillian.container.test.spi.util.ArchiveCache;
 import org.jboss.arquillian.protocol.servlet.runner.ServletRemoteExtension;
+import org.jboss.shrinkwrap.api.Archive;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.asset.StringAsset;
 import org.jboss.shrinkwrap.api.spec.WebArchive;
@@ -34,12 +36,18 @@ import org.jboss.shrinkwrap.api.spec.WebArchive;
 public class ProtocolDeploymentAppender implements AuxiliaryArchiveAppender {
     @Override
     public WebArchive createAuxiliaryArchive() {
-        // Load based on package to avoid ClassNotFoundException on HttpServlet when loading ServletTestRunner
-        return ShrinkWrap.create(WebArchive.class, "arquillian-protocol.war")
-            .addPackage(ServletRemoteExtension.class.getPackage())
-            .setWebXML(new StringAsset(
-                WebUtils.createNewDescriptor().exportAsString()
-            ))
-            .addAsServiceProvider(RemoteLoadableExtension.class, ServletRemoteExtension.class);
+        // built once, every deployment gets its own copy
+        return ArchiveCache.getInstance().get(ProtocolDeploymentAppender.class, new ArchiveCache.Builder() {
+            @Override
+            public Archive<?> build() {
+                // Load based on package to avoid ClassNotFoundException on HttpServlet when loading ServletTestRunner
+                return ShrinkWrap.create(WebArchive.class, "arquillian-protocol.war")
+                    .addPackage(ServletRemoteExtension.class.getPackage())
+                    .setWebXML(new StringAsset(
+                        WebUtils.createNewDescriptor().exportAsString()
+                    ))
+                    .addAsServiceProvider(RemoteLoadableExtension.class, ServletRemoteExtension.class);
+            }
+        }).as(WebArchive.class);
     }
 }
@@ -18,7 +18,9 @@ package org.jboss.arquillian.protocol.servlet.v_3;
 
 import org.jboss.arquillian.container.test.spi.RemoteLoadableExtension;
 import org.jboss.arquillian.container.test.spi.client.deployment.AuxiliaryArchiveAppender;
+import org.jboss.arquillian.container.test.spi.util.ArchiveCache;
 import org.jboss.arquillian.protocol.servlet.runner.ServletRemoteExtension;
+import org.jboss.shrinkwrap.api.Archive;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.spec.JavaArchive;
 
@@ -33,12 +35,18 @@ import org.jboss.shrinkwrap.api.spec.JavaArchive;
 public class ProtocolDeploymentAppender implements AuxiliaryArchiveAppender {
     @Override
     public JavaArchive createAuxiliaryArchive() {
-        // Load based on package to avoid ClassNotFoundException on HttpServlet when loading ServletTestRunner
-        return ShrinkWrap.create(JavaArchive.class, "arquillian-protocol.jar")
-            .addPackage(ServletRemoteExtension.class.getPackage()) // servlet.runner
-            .addAsManifestResource(
-                "org/jboss/arquillian/protocol/servlet/v_3/web-fragment.xml",
-                "web-fragment.xml")
-            .addAsServiceProvider(RemoteLoadableExtension.class, ServletRemoteExtension.class);
+        // built once, every deployment gets its own copy
+        return ArchiveCache.getInstance().get(ProtocolDeploymentAppender.class, new ArchiveCache.Builder() {
+            @Override
+            public Archive<?> build() {
+                // Load based on package to avoid ClassNotFoundException on HttpServlet when loading ServletTestRunner
+                return ShrinkWrap.create(JavaArchive.class, "arquillian-protocol.jar")
+                    .addPackage(ServletRemoteExtension.class.getPackage()) // servlet.runner
+                    .addAsManifestResource(
+                        "org/jboss/arquillian/protocol/servlet/v_3/web-fragment.xml",
+                        "web-fragment.xml")
+                    .addAsServiceProvider(RemoteLoadableExtension.class, ServletRemoteExtension.class);
+            }
+        }).as(JavaArchive.class);
     }
-}
\ No newline at end of file
+}
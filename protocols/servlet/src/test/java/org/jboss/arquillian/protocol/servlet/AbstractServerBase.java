@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import org.eclipse.jetty.io.ConnectionStatistics;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.NetworkConnector;
 import org.eclipse.jetty.server.Server;
@@ -47,9 +48,13 @@ import org.junit.Before;
 public class AbstractServerBase {
     private Server server;
 
+    protected ConnectionStatistics connectionStatistics;
+
     @Before
     public void setup() throws Exception {
         server = new Server(getAvailableLocalPort());
+        connectionStatistics = new ConnectionStatistics();
+        server.getConnectors()[0].addBean(connectionStatistics);
 
         ServletContextHandler root = new ServletContextHandler(ServletContextHandler.SESSIONS);
         root.setContextPath("/arquillian-protocol");
@@ -87,6 +87,22 @@ public class ProtocolTestCase extends AbstractServerBase {
             result.getThrowable());
     }
 
+    @Test
+    public void shouldReuseConnectionsBetweenInvocations() throws Exception {
+        MockTestRunner.add(TestResult.passed());
+
+        ServletProtocolConfiguration config = new ServletProtocolConfiguration();
+        config.setPullInMilliSeconds(0);
+        ServletMethodExecutor executor = new ServletMethodExecutor(config, createContexts(), new TestCommandCallback());
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(Status.PASSED, executor.invoke(new MockTestExecutor()).getStatus());
+        }
+
+        Assert.assertEquals(
+            "Should have reused the connection of the first invocation",
+            1, connectionStatistics.getConnectionsTotal());
+    }
+
     @Test
     public void shouldReturnExceptionWhenMissingTestClassParameter() throws Exception {
         URL url = createURL(ServletTestRunner.OUTPUT_MODE_SERIALIZED, null, null);
@@ -68,6 +68,59 @@ public class ServletCommandServiceTestCase extends AbstractServerBase {
             MockTestRunner.commandResults.get(1));
     }
 
+    @Test
+    public void shouldTransfereCommandWithoutWaitingForPullInterval() throws Exception {
+        Object[] results = new Object[] {"Wee", 100};
+
+        ServletProtocolConfiguration config = new ServletProtocolConfiguration();
+        config.setPullInMilliSeconds(5000);
+
+        MockTestRunner.add(TestResult.passed());
+        MockTestRunner.add(new TestStringCommand());
+        MockTestRunner.add(new TestIntegerCommand());
+
+        ServletMethodExecutor executor = new ServletMethodExecutor(
+            config,
+            createContexts(),
+            new TestCommandCallback(results));
+
+        long started = System.currentTimeMillis();
+        TestResult result = executor.invoke(new MockTestExecutor());
+        long duration = System.currentTimeMillis() - started;
+
+        Assert.assertEquals(TestResult.Status.PASSED, result.getStatus());
+        Assert.assertEquals(results[0], MockTestRunner.commandResults.get(0));
+        Assert.assertEquals(results[1], MockTestRunner.commandResults.get(1));
+        Assert.assertTrue(
+            "Commands should be handed over as soon as they are sent, took " + duration + " ms",
+            duration < 4000);
+    }
+
+    @Test
+    public void shouldTransfereResultAndCommandsWithConfiguredPayloadCodec() throws Exception {
+        Object[] results = new Object[] {"Wee", 100};
+
+        ServletProtocolConfiguration config = new ServletProtocolConfiguration();
+        config.setPayloadCodec("compact");
+
+        MockTestRunner.add(TestResult.failed(new IllegalStateException("failed in container")));
+        MockTestRunner.add(new TestStringCommand());
+        MockTestRunner.add(new TestIntegerCommand());
+
+        ServletMethodExecutor executor = new ServletMethodExecutor(
+            config,
+            createContexts(),
+            new TestCommandCallback(results));
+
+        TestResult result = executor.invoke(new MockTestExecutor());
+
+        Assert.assertEquals(TestResult.Status.FAILED, result.getStatus());
+        Assert.assertTrue(result.getThrowable() instanceof IllegalStateException);
+        Assert.assertEquals("failed in container", result.getThrowable().getMessage());
+        Assert.assertEquals(results[0], MockTestRunner.commandResults.get(0));
+        Assert.assertEquals(results[1], MockTestRunner.commandResults.get(1));
+    }
+
     @Test
     public void shouldDisableCommandService() throws Exception {
         Field f = ServletCommandService.class.getDeclaredField("TIMEOUT");
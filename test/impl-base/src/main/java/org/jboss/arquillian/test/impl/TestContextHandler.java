@@ -17,10 +17,11 @@
  */
 package org.jboss.arquillian.test.impl;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.jboss.arquillian.core.api.Instance;
 import org.jboss.arquillian.core.api.InstanceProducer;
 import org.jboss.arquillian.core.api.annotation.Inject;
@@ -59,7 +60,9 @@ public class TestContextHandler {
 
     // Since there can be multiple AfterTestLifecycleEvents (After/AfterRules)
     // and we don't know which is the last one, perform the clean up in AfterClass.
-    private Map<Class<?>, Set<Object>> activatedTestContexts = new HashMap<Class<?>, Set<Object>>();
+    // Test classes may run in parallel, each only touches the entry of its own class.
+    private final ConcurrentMap<Class<?>, Set<Object>> activatedTestContexts =
+        new ConcurrentHashMap<Class<?>, Set<Object>>();
 
     public void createSuiteContext(@Observes(precedence = 100) EventContext<SuiteEvent> context) {
         SuiteContext suiteContext = this.suiteContextInstance.get();
@@ -83,15 +86,13 @@ public class TestContextHandler {
         } finally {
             classContext.deactivate();
             if (AfterClass.class.isAssignableFrom(context.getEvent().getClass())) {
-                synchronized (activatedTestContexts) {
-                    Class<?> testClass = context.getEvent().getTestClass().getJavaClass();
-                    Set<Object> instances = activatedTestContexts.get(testClass);
-                    if (instances != null) {
-                        TestContext testContext = testContextInstance.get();
+                Set<Object> instances = activatedTestContexts.remove(context.getEvent().getTestClass().getJavaClass());
+                if (instances != null) {
+                    TestContext testContext = testContextInstance.get();
+                    synchronized (instances) {
                         for (Object instance : instances) {
                             testContext.destroy(instance);
                         }
-                        activatedTestContexts.remove(testClass);
                     }
                 }
                 classContext.destroy(context.getEvent().getTestClass().getJavaClass());
@@ -103,15 +104,18 @@ public class TestContextHandler {
         TestContext testContext = this.testContextInstance.get();
         try {
             testContext.activate(context.getEvent().getTestInstance());
-            synchronized (activatedTestContexts) {
-                Class<?> testClass = context.getEvent().getTestClass().getJavaClass();
-                Set<Object> instances = activatedTestContexts.get(testClass);
-                if (instances == null) {
-                    instances = new HashSet<Object>();
-                    activatedTestContexts.put(testClass, instances);
+            Class<?> testClass = context.getEvent().getTestClass().getJavaClass();
+            Set<Object> instances = activatedTestContexts.get(testClass);
+            if (instances == null) {
+                // test methods of the same class may run in parallel as well
+                instances = Collections.synchronizedSet(
+                    Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>()));
+                Set<Object> existing = activatedTestContexts.putIfAbsent(testClass, instances);
+                if (existing != null) {
+                    instances = existing;
                 }
-                instances.add(context.getEvent().getTestInstance());
             }
+            instances.add(context.getEvent().getTestInstance());
             context.proceed();
         } finally {
             testContext.deactivate();
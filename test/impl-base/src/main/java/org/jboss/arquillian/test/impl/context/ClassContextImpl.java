@@ -17,7 +17,7 @@
 package org.jboss.arquillian.test.impl.context;
 
 import java.lang.annotation.Annotation;
-import org.jboss.arquillian.core.spi.HashObjectStore;
+import org.jboss.arquillian.core.spi.IndexedObjectStore;
 import org.jboss.arquillian.core.spi.context.AbstractContext;
 import org.jboss.arquillian.core.spi.context.ObjectStore;
 import org.jboss.arquillian.test.spi.annotation.ClassScoped;
@@ -29,6 +29,8 @@ import org.jboss.arquillian.test.spi.context.ClassContext;
  * @author <a href="mailto:aslak@redhat.com">Aslak Knutsen</a>
  */
 public class ClassContextImpl extends AbstractContext<Class<?>> implements ClassContext {
+    private static final IndexedObjectStore.Slots SLOTS = new IndexedObjectStore.Slots();
+
     /* (non-Javadoc)
      * @see org.jboss.arquillian.spi.Context#getScope()
      */
@@ -42,6 +44,6 @@ public class ClassContextImpl extends AbstractContext<Class<?>> implements Class
      */
     @Override
     protected ObjectStore createNewObjectStore() {
-        return new HashObjectStore();
+        return new IndexedObjectStore(SLOTS);
     }
 }
@@ -17,7 +17,7 @@
 package org.jboss.arquillian.test.impl.context;
 
 import java.lang.annotation.Annotation;
-import org.jboss.arquillian.core.spi.HashObjectStore;
+import org.jboss.arquillian.core.spi.IndexedObjectStore;
 import org.jboss.arquillian.core.spi.context.AbstractContext;
 import org.jboss.arquillian.core.spi.context.ObjectStore;
 import org.jboss.arquillian.test.spi.annotation.SuiteScoped;
@@ -29,6 +29,8 @@ import org.jboss.arquillian.test.spi.context.SuiteContext;
  * @author <a href="mailto:aslak@redhat.com">Aslak Knutsen</a>
  */
 public class SuiteContextImpl extends AbstractContext<String> implements SuiteContext {
+    private static final IndexedObjectStore.Slots SLOTS = new IndexedObjectStore.Slots();
+
     private static final String SUITE_CONTEXT_ID = "suite";
 
     /* (non-Javadoc)
@@ -60,6 +62,6 @@ public class SuiteContextImpl extends AbstractContext<String> implements SuiteCo
      */
     @Override
     protected ObjectStore createNewObjectStore() {
-        return new HashObjectStore();
+        return new IndexedObjectStore(SLOTS);
     }
 }
@@ -29,6 +29,7 @@ import java.util.logging.Logger;
 import org.jboss.arquillian.core.api.Instance;
 import org.jboss.arquillian.core.api.annotation.Inject;
 import org.jboss.arquillian.core.spi.ServiceLoader;
+import org.jboss.arquillian.core.spi.SharedService;
 import org.jboss.arquillian.test.api.ArquillianResource;
 import org.jboss.arquillian.test.spi.TestEnricher;
 import org.jboss.arquillian.test.spi.enricher.resource.ResourceProvider;
@@ -38,6 +39,7 @@ import org.jboss.arquillian.test.spi.enricher.resource.ResourceProvider;
  *
  * @author <a href="mailto:aslak@redhat.com">Aslak Knutsen</a>
  */
+@SharedService
 public class ArquillianResourceTestEnricher implements TestEnricher {
 
     private Logger logger = Logger.getLogger(ArquillianResourceTestEnricher.class.getName());
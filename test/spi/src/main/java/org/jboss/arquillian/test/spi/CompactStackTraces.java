@@ -0,0 +1,204 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.test.spi;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact encoding of the stack traces of an exception and its causes.
+ * <p>
+ * Every class, method and file name is written once to a string table and referenced by index. The frames a cause
+ * has in common with the end of its enclosing trace are not written but copied from the enclosing trace when
+ * decoding, the same frames {@link Throwable#printStackTrace()} prints as "... n more". Optionally only the top most
+ * frames of each trace are kept, the omitted frames are replaced by a single marker frame.
+ */
+final class CompactStackTraces {
+    static final String OMITTED_FRAMES_CLASS = "...";
+
+    private CompactStackTraces() {
+    }
+
+    /**
+     * @param traces
+     *     the trace of the exception followed by the trace of each cause
+     * @param maxFrames
+     *     the number of frames to keep per trace, 0 or less to keep all
+     */
+    static byte[] encode(List<StackTraceElement[]> traces, int maxFrames) {
+        try {
+            Map<String, Integer> strings = new HashMap<String, Integer>();
+            List<String> table = new ArrayList<String>();
+            ByteArrayOutputStream frameBytes = new ByteArrayOutputStream();
+            DataOutputStream frames = new DataOutputStream(frameBytes);
+
+            writeVarInt(frames, traces.size());
+            StackTraceElement[] enclosing = new StackTraceElement[0];
+            for (StackTraceElement[] trace : traces) {
+                int common = framesInCommon(trace, enclosing);
+                int unique = trace.length - common;
+                int written = maxFrames > 0 ? Math.min(unique, maxFrames) : unique;
+
+                writeVarInt(frames, common);
+                writeVarInt(frames, unique - written);
+                writeVarInt(frames, written);
+                for (int i = 0; i < written; i++) {
+                    StackTraceElement element = trace[i];
+                    writeString(frames, element.getClassLoaderName(), strings, table);
+                    writeString(frames, element.getModuleName(), strings, table);
+                    writeString(frames, element.getModuleVersion(), strings, table);
+                    writeString(frames, element.getClassName(), strings, table);
+                    writeString(frames, element.getMethodName(), strings, table);
+                    writeString(frames, element.getFileName(), strings, table);
+                    // -2 marks native methods
+                    writeVarInt(frames, element.getLineNumber() + 2);
+                }
+                // compare the next cause against what the decoding side will see
+                enclosing = assemble(Arrays.copyOf(trace, written), unique - written, enclosing, common);
+            }
+            frames.flush();
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            writeVarInt(out, table.size());
+            for (String value : table) {
+                out.writeUTF(value);
+            }
+            frameBytes.writeTo(out);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static List<StackTraceElement[]> decode(byte[] encoded) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(encoded));
+        String[] table = new String[readVarInt(in)];
+        for (int i = 0; i < table.length; i++) {
+            table[i] = in.readUTF();
+        }
+
+        int numberOfTraces = readVarInt(in);
+        List<StackTraceElement[]> traces = new ArrayList<StackTraceElement[]>(numberOfTraces);
+        StackTraceElement[] enclosing = new StackTraceElement[0];
+        for (int i = 0; i < numberOfTraces; i++) {
+            int common = readVarInt(in);
+            int omitted = readVarInt(in);
+            StackTraceElement[] written = new StackTraceElement[readVarInt(in)];
+            for (int j = 0; j < written.length; j++) {
+                String classLoaderName = readString(in, table);
+                String moduleName = readString(in, table);
+                String moduleVersion = readString(in, table);
+                String className = readString(in, table);
+                String methodName = readString(in, table);
+                String fileName = readString(in, table);
+                int lineNumber = readVarInt(in) - 2;
+                written[j] = new StackTraceElement(classLoaderName, moduleName, moduleVersion, className, methodName,
+                    fileName, lineNumber);
+            }
+            enclosing = assemble(written, omitted, enclosing, common);
+            traces.add(enclosing);
+        }
+        return traces;
+    }
+
+    /**
+     * @return the top most maxFrames frames of the trace followed by the marker frame, or the trace itself when it is
+     * not longer than that or maxFrames is 0 or less
+     */
+    static StackTraceElement[] limit(StackTraceElement[] trace, int maxFrames) {
+        if (trace == null || maxFrames <= 0 || trace.length <= maxFrames) {
+            return trace;
+        }
+        return assemble(Arrays.copyOf(trace, maxFrames), trace.length - maxFrames, new StackTraceElement[0], 0);
+    }
+
+    //-------------------------------------------------------------------------------------||
+    // Internal Helper Methods ------------------------------------------------------------||
+    //-------------------------------------------------------------------------------------||
+
+    private static int framesInCommon(StackTraceElement[] trace, StackTraceElement[] enclosing) {
+        int m = trace.length - 1;
+        int n = enclosing.length - 1;
+        while (m >= 0 && n >= 0 && trace[m].equals(enclosing[n])) {
+            m--;
+            n--;
+        }
+        return trace.length - 1 - m;
+    }
+
+    private static StackTraceElement[] assemble(StackTraceElement[] written, int omitted,
+        StackTraceElement[] enclosing, int common) {
+        List<StackTraceElement> trace = new ArrayList<StackTraceElement>(written.length + 1 + common);
+        trace.addAll(Arrays.asList(written));
+        if (omitted > 0) {
+            trace.add(new StackTraceElement(OMITTED_FRAMES_CLASS, omitted + " frames omitted", null, -1));
+        }
+        trace.addAll(Arrays.asList(enclosing).subList(enclosing.length - common, enclosing.length));
+        return trace.toArray(new StackTraceElement[0]);
+    }
+
+    private static void writeString(DataOutputStream out, String value, Map<String, Integer> strings,
+        List<String> table) throws IOException {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        Integer index = strings.get(value);
+        if (index == null) {
+            index = table.size();
+            strings.put(value, index);
+            table.add(value);
+        }
+        writeVarInt(out, index + 1);
+    }
+
+    private static String readString(DataInputStream in, String[] table) throws IOException {
+        int index = readVarInt(in);
+        return index == 0 ? null : table[index - 1];
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed stack trace encoding");
+    }
+}
@@ -27,7 +27,11 @@ import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Takes an exception class and creates a proxy that can be used to rebuild the
@@ -53,6 +57,11 @@ public class ExceptionProxy implements Externalizable {
     // The serialVersionUID of the ExceptionProxy that existed in Arquillian 1.9.1.Final
     private static final long serialVersionUID = 2321010311438950147L;
 
+    /**
+     * System property limiting the number of frames sent per stack trace, not limited by default
+     */
+    public static final String MAX_FRAMES_PROPERTY = "arquillian.exception.maxFrames";
+
     // This is the className of the exception in the container passed into TestResult#setThrowable(Throwable)
     private String className;
     // This is the message of the exception in the container passed into TestResult#setThrowable(Throwable)
@@ -71,10 +80,13 @@ public class ExceptionProxy implements Externalizable {
     private Version version;
     // The list of superclasses of the exception class that was serialized
     private List<String> exceptionHierarchy;
+    // New in version 3, the compact encoded stack traces of the exception and its causes, decoded on first use
+    private byte[] encodedTraces;
 
     public static class Version implements Serializable {
         private static final long serialVersionUID = 1L;
-        int version = 2;
+        // 3: the stack traces of the exception and its causes can follow compact encoded, see writeCompactExternal
+        int version = 3;
     }
 
     public ExceptionProxy() {
@@ -130,6 +142,7 @@ public class ExceptionProxy implements Externalizable {
             return null;
         }
         //System.out.println("ExceptionProxy.createException, this=" + this);
+        materializeTraces();
         if (original != null) {
             return original;
         }
@@ -143,7 +156,7 @@ public class ExceptionProxy implements Externalizable {
 
     public ArquillianProxyException createProxyException(String reason) {
         ArquillianProxyException exception = new ArquillianProxyException(message, className, reason, getCause());
-        exception.setStackTrace(trace);
+        exception.setStackTrace(getTrace());
         return exception;
     }
 
@@ -172,6 +185,7 @@ public class ExceptionProxy implements Externalizable {
     }
 
     public StackTraceElement[] getTrace() {
+        materializeTraces();
         return trace;
     }
 
@@ -180,6 +194,7 @@ public class ExceptionProxy implements Externalizable {
     }
 
     public Throwable getOriginal() {
+        materializeTraces();
         return original;
     }
 
@@ -209,6 +224,7 @@ public class ExceptionProxy implements Externalizable {
         if(causeProxy != null) {
             tmp.append("\ncause: ").append(causeProxy);
         }
+        StackTraceElement[] trace = getTrace();
         if(trace != null) {
             for(StackTraceElement element : trace) {
                 tmp.append("\n\tat ").append(element);
@@ -266,9 +282,14 @@ public class ExceptionProxy implements Externalizable {
             if (tmpSerializationProcessException != null) {
                 serializationProcessException = tmpSerializationProcessException;
             }
+            if (version.version >= 3) {
+                // only set when written by writeCompactExternal, older versions never read this far
+                encodedTraces = (byte[]) in.readObject();
+            }
 
             // If we were not able to create original from originalExceptionData, try to create it from exceptionHierarchy
-            if(original == null) {
+            // once the stack traces are needed
+            if(original == null && encodedTraces == null) {
                 original = buildOriginalException();
             }
         } else {
@@ -278,10 +299,29 @@ public class ExceptionProxy implements Externalizable {
 
     @Override
     public void writeExternal(ObjectOutput out) throws IOException {
+        // the reader might be an older version, send the stack traces as part of the exceptions like before
+        materializeTraces();
+        writeExternal(out, false);
+    }
+
+    /**
+     * Write the stack traces of the exception and its causes once, compact encoded, instead of as part of the
+     * serialized exceptions. Only readable by version 3 or later of {@link #readExternal(ObjectInput)}, use it only
+     * when the reader is known to be one, e.g. for a payload codec both sides agreed on.
+     *
+     * @param out
+     *     the stream to write to
+     */
+    public void writeCompactExternal(ObjectOutput out) throws IOException {
+        writeExternal(out, true);
+    }
+
+    private void writeExternal(ObjectOutput out, boolean compact) throws IOException {
+        int maxFrames = getMaxFrames();
         out.writeObject(version);
         out.writeObject(className);
         out.writeObject(message);
-        out.writeObject(trace);
+        out.writeObject(compact ? null : CompactStackTraces.limit(trace, maxFrames));
         out.writeObject(exceptionHierarchy);
         byte[] originalBytes = new byte[0];
         try {
@@ -290,7 +330,7 @@ public class ExceptionProxy implements Externalizable {
             We have to make the write of the root exception atomic.
             */
             ByteArrayOutputStream originalOut = new ByteArrayOutputStream();
-            ObjectOutputStream output = new ObjectOutputStream(originalOut);
+            ObjectOutputStream output = createOriginalOutput(originalOut, compact, maxFrames);
             output.writeObject(original);
             output.flush();
             originalBytes = originalOut.toByteArray();
@@ -300,6 +340,14 @@ public class ExceptionProxy implements Externalizable {
         }
         out.writeObject(originalBytes);
         out.writeObject(serializationProcessException);
+        if (!compact) {
+            out.writeObject(null);
+        } else if (encodedTraces != null) {
+            // received but never looked at, pass on as is, original has no stack traces yet either
+            out.writeObject(encodedTraces);
+        } else {
+            out.writeObject(CompactStackTraces.encode(getTraces(), maxFrames));
+        }
     }
 
     /**
@@ -316,6 +364,83 @@ public class ExceptionProxy implements Externalizable {
         }
         return hierarchy;
     }
+    /**
+     * Decode the stack traces received and attach them to the original exception and its causes.
+     */
+    private synchronized void materializeTraces() {
+        if (encodedTraces == null) {
+            return;
+        }
+        List<StackTraceElement[]> traces;
+        try {
+            traces = CompactStackTraces.decode(encodedTraces);
+        } catch (IOException e) {
+            traces = new ArrayList<StackTraceElement[]>();
+            if (serializationProcessException == null) {
+                serializationProcessException = e;
+            }
+        }
+        trace = traces.isEmpty() ? new StackTraceElement[0] : traces.get(0);
+        encodedTraces = null;
+        if (original != null) {
+            List<Throwable> chain = getCauseChain(original);
+            for (int i = 0; i < chain.size() && i < traces.size(); i++) {
+                try {
+                    chain.get(i).setStackTrace(traces.get(i));
+                } catch (RuntimeException e) {
+                    // ignore, the exception keeps the trace it was received with, the proxy still has the sent one
+                }
+            }
+        } else {
+            original = buildOriginalException();
+        }
+    }
+
+    private List<StackTraceElement[]> getTraces() {
+        List<StackTraceElement[]> traces = new ArrayList<StackTraceElement[]>();
+        if (original != null) {
+            for (Throwable throwable : getCauseChain(original)) {
+                traces.add(throwable.getStackTrace());
+            }
+        } else if (trace != null) {
+            traces.add(trace);
+        }
+        return traces;
+    }
+
+    private static List<Throwable> getCauseChain(Throwable throwable) {
+        List<Throwable> chain = new ArrayList<Throwable>();
+        Set<Throwable> seen = Collections.newSetFromMap(new IdentityHashMap<Throwable, Boolean>());
+        for (Throwable current = throwable; current != null && seen.add(current); current = current.getCause()) {
+            chain.add(current);
+        }
+        return chain;
+    }
+
+    private static int getMaxFrames() {
+        String maxFrames = SecurityActions.getProperty(MAX_FRAMES_PROPERTY);
+        if (maxFrames == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(maxFrames.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * The stack traces of the original exception are left as they are, when they are to be removed or limited that
+     * is done on the copies written to the stream.
+     */
+    private ObjectOutputStream createOriginalOutput(ByteArrayOutputStream originalOut, boolean compact,
+        int maxFrames) throws IOException {
+        if (encodedTraces != null || (!compact && maxFrames <= 0)) {
+            return new ObjectOutputStream(originalOut);
+        }
+        return new TraceReplacingOutputStream(originalOut, getTraces(), compact ? -1 : maxFrames);
+    }
+
     /**
      * Build the original exception based on the exception class name. This first
      * tries to use a ctor with a message, then a default ctor.
@@ -346,4 +471,34 @@ public class ExceptionProxy implements Externalizable {
         }
         return original;
     }
+
+    /**
+     * Replaces the stack traces of the exception and its causes as they are written, without touching the exceptions.
+     */
+    private static class TraceReplacingOutputStream extends ObjectOutputStream {
+        private final List<StackTraceElement[]> traces;
+        // -1 writes empty stack traces
+        private final int maxFrames;
+
+        TraceReplacingOutputStream(ByteArrayOutputStream out, List<StackTraceElement[]> traces, int maxFrames)
+            throws IOException {
+            super(out);
+            this.traces = traces;
+            this.maxFrames = maxFrames;
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) throws IOException {
+            if (obj instanceof StackTraceElement[]) {
+                StackTraceElement[] written = (StackTraceElement[]) obj;
+                for (StackTraceElement[] trace : traces) {
+                    if (Arrays.equals(trace, written)) {
+                        return maxFrames < 0 ? new StackTraceElement[0] : CompactStackTraces.limit(written, maxFrames);
+                    }
+                }
+            }
+            return obj;
+        }
+    }
 }
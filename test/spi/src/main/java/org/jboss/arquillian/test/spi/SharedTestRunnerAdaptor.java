@@ -0,0 +1,90 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026 Red Hat Inc. and/or its affiliates and other contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.test.spi;
+
+/**
+ * One {@link TestRunnerAdaptor} shared by all test runner threads of the JVM.
+ * <p>
+ * By default the JUnit 4 and TestNG runners keep an adaptor per thread, so a run with parallel test classes starts
+ * one set of suite containers per thread. When the {@value #SHARED_PROPERTY} system property is set to true, the
+ * runners acquire this adaptor instead. The first acquirer builds it and fires BeforeSuite, and the last release
+ * fires AfterSuite and shuts it down. The class and test lifecycle stays scoped to the thread firing it.
+ */
+public final class SharedTestRunnerAdaptor {
+    public static final String SHARED_PROPERTY = "arquillian.adaptor.shared";
+
+    private static TestRunnerAdaptor adaptor;
+    private static Exception initializationException;
+    private static int references;
+
+    private SharedTestRunnerAdaptor() {
+    }
+
+    /**
+     * @return true if the runners should share one adaptor
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(SecurityActions.getProperty(SHARED_PROPERTY));
+    }
+
+    /**
+     * Get the shared adaptor and hold a reference to it, building it and firing BeforeSuite if not done yet.
+     *
+     * @throws Exception if BeforeSuite failed, now or for a previous acquirer
+     */
+    public static synchronized TestRunnerAdaptor acquire() throws Exception {
+        if (initializationException != null) {
+            throw initializationException;
+        }
+        if (adaptor == null) {
+            TestRunnerAdaptor created = TestRunnerAdaptorBuilder.build();
+            try {
+                created.beforeSuite();
+            } catch (Exception e) {
+                initializationException = e;
+                throw e;
+            }
+            adaptor = created;
+        }
+        references++;
+        return adaptor;
+    }
+
+    /**
+     * @return the shared adaptor or null if not acquired
+     */
+    public static synchronized TestRunnerAdaptor get() {
+        return adaptor;
+    }
+
+    /**
+     * Release a reference taken by {@link #acquire()}. The last release fires AfterSuite and shuts the adaptor down.
+     */
+    public static synchronized void release() throws Exception {
+        if (references == 0 || --references > 0) {
+            return;
+        }
+        TestRunnerAdaptor finished = adaptor;
+        adaptor = null;
+        initializationException = null;
+        try {
+            finished.afterSuite();
+        } finally {
+            finished.shutdown();
+        }
+    }
+}
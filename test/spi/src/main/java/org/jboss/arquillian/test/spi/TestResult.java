@@ -212,6 +212,16 @@ public final class TestResult implements Serializable {
         return this;
     }
 
+    /**
+     * Set the exception as received from the container, the exception itself is only created once
+     * {@link #getThrowable()} is called.
+     */
+    public TestResult setExceptionProxy(ExceptionProxy exceptionProxy) {
+        this.throwable = null;
+        this.exceptionProxy = exceptionProxy;
+        return this;
+    }
+
     /**
      * Get the start time.
      *
@@ -31,6 +31,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.List;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -135,6 +136,125 @@ public class ExceptionProxyTestCase {
         //Assert.assertEquals(ClassNotFoundException.class, t.getCause().getClass());
     }
 
+    @Test
+    public void shouldKeepStackTracesOfCauses() throws Exception {
+        Throwable cause = new IllegalArgumentException("cause");
+        Throwable exception = new IllegalStateException(MSG, cause);
+
+        Throwable t = serialize(ExceptionProxy.createForException(exception)).createException();
+
+        Assert.assertEquals(IllegalStateException.class, t.getClass());
+        Assert.assertArrayEquals(exception.getStackTrace(), t.getStackTrace());
+        Assert.assertEquals(IllegalArgumentException.class, t.getCause().getClass());
+        Assert.assertArrayEquals(cause.getStackTrace(), t.getCause().getStackTrace());
+        // the stack traces are only removed from the container exception while serializing
+        Assert.assertTrue(exception.getStackTrace().length > 0);
+        Assert.assertTrue(cause.getStackTrace().length > 0);
+    }
+
+    @Test
+    public void shouldKeepStackTracesWhenPassedOnBeforeUse() throws Exception {
+        Throwable exception = new IllegalStateException(MSG, new IllegalArgumentException("cause"));
+
+        Throwable t = serialize(serialize(ExceptionProxy.createForException(exception))).createException();
+
+        Assert.assertArrayEquals(exception.getStackTrace(), t.getStackTrace());
+        Assert.assertArrayEquals(exception.getCause().getStackTrace(), t.getCause().getStackTrace());
+    }
+
+    @Test
+    public void shouldLimitFramesPerStackTraceWhenConfigured() throws Exception {
+        Throwable exception = new IllegalStateException(MSG);
+        ExceptionProxy proxy = ExceptionProxy.createForException(exception);
+
+        System.setProperty(ExceptionProxy.MAX_FRAMES_PROPERTY, "2");
+        try {
+            proxy = serialize(proxy);
+        } finally {
+            System.clearProperty(ExceptionProxy.MAX_FRAMES_PROPERTY);
+        }
+
+        StackTraceElement[] trace = proxy.createException().getStackTrace();
+        Assert.assertEquals(3, trace.length);
+        Assert.assertEquals(exception.getStackTrace()[0], trace[0]);
+        Assert.assertEquals(exception.getStackTrace()[1], trace[1]);
+        Assert.assertEquals(CompactStackTraces.OMITTED_FRAMES_CLASS, trace[2].getClassName());
+        Assert.assertEquals((exception.getStackTrace().length - 2) + " frames omitted", trace[2].getMethodName());
+    }
+
+    @Test
+    public void shouldWriteFieldsReadableByVersion2() throws Exception {
+        Throwable exception = new IllegalStateException(MSG, new IllegalArgumentException("cause"));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(output);
+        ExceptionProxy.createForException(exception).writeExternal(out);
+        out.close();
+
+        // the order and types a version 2 ExceptionProxy reads
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(output.toByteArray()));
+        Assert.assertTrue(in.readObject() instanceof ExceptionProxy.Version);
+        Assert.assertEquals(IllegalStateException.class.getName(), in.readObject());
+        Assert.assertEquals(MSG, in.readObject());
+        Assert.assertArrayEquals(exception.getStackTrace(), (StackTraceElement[]) in.readObject());
+        Assert.assertTrue(((List<?>) in.readObject()).contains(Throwable.class.getName()));
+        byte[] originalBytes = (byte[]) in.readObject();
+        Assert.assertNull(in.readObject());
+
+        Throwable original = (Throwable) new ObjectInputStream(new ByteArrayInputStream(originalBytes)).readObject();
+        Assert.assertArrayEquals(exception.getStackTrace(), original.getStackTrace());
+        Assert.assertArrayEquals(exception.getCause().getStackTrace(), original.getCause().getStackTrace());
+    }
+
+    @Test
+    public void shouldKeepStackTracesWhenWrittenCompact() throws Exception {
+        Throwable cause = new IllegalArgumentException("cause");
+        Throwable exception = new IllegalStateException(MSG, cause);
+
+        Throwable t = serializeCompact(ExceptionProxy.createForException(exception)).createException();
+
+        Assert.assertEquals(IllegalStateException.class, t.getClass());
+        Assert.assertArrayEquals(exception.getStackTrace(), t.getStackTrace());
+        Assert.assertArrayEquals(cause.getStackTrace(), t.getCause().getStackTrace());
+    }
+
+    @Test
+    public void shouldKeepStackTracesWhenCompactPassedOnBeforeUse() throws Exception {
+        Throwable exception = new IllegalStateException(MSG, new IllegalArgumentException("cause"));
+
+        ExceptionProxy received = serializeCompact(ExceptionProxy.createForException(exception));
+        Throwable compact = serializeCompact(received).createException();
+        Throwable plain = serialize(serializeCompact(ExceptionProxy.createForException(exception))).createException();
+
+        Assert.assertArrayEquals(exception.getStackTrace(), compact.getStackTrace());
+        Assert.assertArrayEquals(exception.getCause().getStackTrace(), compact.getCause().getStackTrace());
+        Assert.assertArrayEquals(exception.getStackTrace(), plain.getStackTrace());
+        Assert.assertArrayEquals(exception.getCause().getStackTrace(), plain.getCause().getStackTrace());
+    }
+
+    @Test
+    public void shouldNotChangeStackTracesOfExceptionWhileSerializing() throws Exception {
+        Throwable exception = new FixedStackTraceException(new FixedStackTraceException(null));
+        ExceptionProxy proxy = ExceptionProxy.createForException(exception);
+
+        ExceptionProxy received;
+        System.setProperty(ExceptionProxy.MAX_FRAMES_PROPERTY, "1");
+        try {
+            serialize(proxy);
+            received = serializeCompact(proxy);
+        } finally {
+            System.clearProperty(ExceptionProxy.MAX_FRAMES_PROPERTY);
+        }
+
+        Assert.assertTrue(exception.getStackTrace().length > 1);
+
+        // the received exception does not take the sent trace either, the proxy keeps it
+        Assert.assertEquals(exception.getStackTrace()[0], received.getTrace()[0]);
+        Throwable created = received.createException();
+        Assert.assertEquals(FixedStackTraceException.class, created.getClass());
+        Assert.assertEquals(FixedStackTraceException.class, created.getCause().getClass());
+    }
+
     private Throwable causeServerException() throws Exception {
         // Create a ClassLoader for the target/serveronly-classes dir
         File serverOnlyClasses = new File("target/serveronly-classes");
@@ -163,6 +283,17 @@ public class ExceptionProxyTestCase {
         return (ExceptionProxy) in.readObject();
     }
 
+    private ExceptionProxy serializeCompact(ExceptionProxy proxy) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(output);
+        proxy.writeCompactExternal(out);
+        out.close();
+
+        ExceptionProxy read = new ExceptionProxy();
+        read.readExternal(new ObjectInputStream(new ByteArrayInputStream(output.toByteArray())));
+        return read;
+    }
+
     private void proxy(Throwable throwable) throws Throwable {
         //printConstructors(throwable);
 
@@ -180,6 +311,19 @@ public class ExceptionProxyTestCase {
         }
     }
 
+    public static class FixedStackTraceException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        public FixedStackTraceException(Throwable cause) {
+            super(cause);
+        }
+
+        @Override
+        public void setStackTrace(StackTraceElement[] stackTrace) {
+            throw new UnsupportedOperationException("stack trace must not be changed");
+        }
+    }
+
     /** Simulate org.jboss.weld.exceptions.IllegalArgumentException
      * Note, this does not simulate the case of weld implementation classes not
      * being on the test client classpath, which is the norm.
@@ -19,6 +19,7 @@ package org.jboss.arquillian.testng;
 import java.lang.reflect.Method;
 import java.util.Stack;
 import org.jboss.arquillian.test.spi.LifecycleMethodExecutor;
+import org.jboss.arquillian.test.spi.SharedTestRunnerAdaptor;
 import org.jboss.arquillian.test.spi.TestMethodExecutor;
 import org.jboss.arquillian.test.spi.TestResult;
 import org.jboss.arquillian.test.spi.TestResult.Status;
@@ -73,6 +74,10 @@ public abstract class Arquillian implements IHookable {
 
     @BeforeSuite(groups = "arquillian", inheritGroups = true)
     public void arquillianBeforeSuite() throws Exception {
+        if (SharedTestRunnerAdaptor.isEnabled()) {
+            // every suite holds a reference to the adaptor shared by all threads
+            SharedTestRunnerAdaptor.acquire();
+        }
         cycleStack.get().push(Cycle.BEFORE_SUITE);
     }
 
@@ -86,16 +91,20 @@ public abstract class Arquillian implements IHookable {
         } else {
             cycleStack.get().pop();
         }
-        deployableTest.get().afterSuite();
-        deployableTest.get().shutdown();
-        deployableTest.remove();
+        if (SharedTestRunnerAdaptor.isEnabled()) {
+            SharedTestRunnerAdaptor.release();
+        } else {
+            deployableTest.get().afterSuite();
+            deployableTest.get().shutdown();
+            deployableTest.remove();
+        }
         cycleStack.remove();
     }
 
     @BeforeClass(groups = "arquillian", inheritGroups = true)
     public void arquillianBeforeClass() throws Exception {
         cycleStack.get().push(Cycle.BEFORE_CLASS);
-        deployableTest.get().beforeClass(getClass(), LifecycleMethodExecutor.NO_OP);
+        getAdaptor().beforeClass(getClass(), LifecycleMethodExecutor.NO_OP);
     }
 
     @AfterClass(groups = "arquillian", inheritGroups = true, alwaysRun = true)
@@ -108,13 +117,13 @@ public abstract class Arquillian implements IHookable {
         } else {
             cycleStack.get().pop();
         }
-        deployableTest.get().afterClass(getClass(), LifecycleMethodExecutor.NO_OP);
+        getAdaptor().afterClass(getClass(), LifecycleMethodExecutor.NO_OP);
     }
 
     @BeforeMethod(groups = "arquillian", inheritGroups = true)
     public void arquillianBeforeTest(Method testMethod) throws Exception {
         cycleStack.get().push(Cycle.BEFORE);
-        deployableTest.get().before(this, testMethod, LifecycleMethodExecutor.NO_OP);
+        getAdaptor().before(this, testMethod, LifecycleMethodExecutor.NO_OP);
     }
 
     @AfterMethod(groups = "arquillian", inheritGroups = true, alwaysRun = true)
@@ -127,14 +136,14 @@ public abstract class Arquillian implements IHookable {
         } else {
             cycleStack.get().pop();
         }
-        deployableTest.get().after(this, testMethod, LifecycleMethodExecutor.NO_OP);
+        getAdaptor().after(this, testMethod, LifecycleMethodExecutor.NO_OP);
     }
 
     @Override
     public void run(final IHookCallBack callback, final ITestResult testResult) {
         TestResult result;
         try {
-            result = deployableTest.get().test(new TestMethodExecutor() {
+            result = getAdaptor().test(new TestMethodExecutor() {
                 @Override
                 public void invoke(Object... parameters) throws Throwable {
                /*
@@ -250,7 +259,7 @@ public abstract class Arquillian implements IHookable {
     public Object[][] arquillianArgumentProvider(Method method) {
         Object[][] values = new Object[1][method.getParameterTypes().length];
 
-        if (deployableTest.get() == null) {
+        if (getAdaptor() == null) {
             return values;
         }
 
@@ -260,6 +269,13 @@ public abstract class Arquillian implements IHookable {
         return values;
     }
 
+    private static TestRunnerAdaptor getAdaptor() {
+        if (SharedTestRunnerAdaptor.isEnabled()) {
+            return SharedTestRunnerAdaptor.get();
+        }
+        return deployableTest.get();
+    }
+
     private enum Cycle {
         BEFORE_SUITE, BEFORE_CLASS, BEFORE, TEST, AFTER, AFTER_CLASS, AFTER_SUITE
     }
@@ -16,6 +16,7 @@
  */
 package org.jboss.arquillian.testng;
 
+import org.jboss.arquillian.test.spi.SharedTestRunnerAdaptor;
 import org.jboss.arquillian.test.spi.TestMethodExecutor;
 import org.jboss.arquillian.test.spi.TestResult;
 import org.jboss.arquillian.test.spi.TestRunnerAdaptor;
@@ -66,6 +67,24 @@ public class TestNGIntegrationTestCase extends TestNGTestBaseClass {
         assertCycle(1, Cycle.BEFORE_SUITE, Cycle.AFTER_SUITE);
     }
 
+    @Test
+    public void shouldShareAdaptorBetweenParallelClassesWhenEnabled() throws Exception {
+        TestRunnerAdaptor adaptor = mock(TestRunnerAdaptor.class);
+        executeAllLifeCycles(adaptor);
+
+        System.setProperty(SharedTestRunnerAdaptor.SHARED_PROPERTY, "true");
+        try {
+            TestListenerAdapter result = runInParallel(adaptor, ArquillianClass1.class, ArquillianClass2.class);
+
+            Assert.assertTrue(wasSuccessful(result));
+            assertCycle(1, Cycle.BEFORE_SUITE, Cycle.AFTER_SUITE);
+            assertCycle(2, Cycle.BEFORE_CLASS, Cycle.AFTER_CLASS);
+            Assert.assertNull(SharedTestRunnerAdaptor.get());
+        } finally {
+            System.clearProperty(SharedTestRunnerAdaptor.SHARED_PROPERTY);
+        }
+    }
+
     @Test
     public void shouldCallAfterClassWhenBeforeThrowsException() throws Exception {
         TestRunnerAdaptor adaptor = mock(TestRunnerAdaptor.class);
@@ -64,7 +64,7 @@ public class TestNGTestBaseClass {
         callbackException.put(cycle, exception);
     }
 
-    public static void wasCalled(Cycle cycle) throws Throwable {
+    public static synchronized void wasCalled(Cycle cycle) throws Throwable {
         System.out.println("called: " + cycle);
         if (callbackCount.containsKey(cycle)) {
             callbackCount.put(cycle, callbackCount.get(cycle) + 1);
@@ -117,13 +117,24 @@ public class TestNGTestBaseClass {
 
     protected TestListenerAdapter run(String[] groups, TestRunnerAdaptor adaptor, Class<?>... classes)
         throws Exception {
+        return run(createSuite(groups, classes), adaptor);
+    }
+
+    protected TestListenerAdapter runInParallel(TestRunnerAdaptor adaptor, Class<?>... classes) throws Exception {
+        XmlSuite suite = createSuite(null, classes);
+        suite.setParallel(XmlSuite.ParallelMode.CLASSES);
+        suite.setThreadCount(classes.length);
+        return run(suite, adaptor);
+    }
+
+    private TestListenerAdapter run(XmlSuite suite, TestRunnerAdaptor adaptor) throws Exception {
         try {
             setAdaptor(adaptor);
 
             TestListenerAdapter listener = new TestListenerAdapter();
             TestNG runner = new TestNG(false);
             runner.addListener(listener);
-            runner.setXmlSuites(Collections.singletonList(createSuite(groups, classes)));
+            runner.setXmlSuites(Collections.singletonList(suite));
 
             runner.run();
             return listener;